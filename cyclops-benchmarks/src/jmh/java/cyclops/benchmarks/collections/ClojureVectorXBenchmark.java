@@ -0,0 +1,81 @@
+package cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureVectorX;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.pcollections.PVector;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the structural positional operations on ClojureVectorX against the previous
+ * implementation of each operation, which rebuilt the vector from a ReactiveSeq
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClojureVectorXBenchmark {
+
+    @Param({"1000", "500000"})
+    int size;
+
+    ClojureVectorX<Integer> vector;
+
+    @Setup
+    public void setup(){
+        vector = ClojureVectorX.<Integer>emptyPVector()
+                               .plusAll(IntStream.range(0, size).boxed().collect(Collectors.toList()));
+    }
+
+    private ReactiveSeq<Integer> stream(){
+        return ReactiveSeq.fromIterable(vector);
+    }
+
+    @Benchmark
+    public PVector<Integer> insertNative(){
+        return vector.plus(size / 2, -1);
+    }
+
+    @Benchmark
+    public PVector<Integer> insertStream(){
+        return ClojureVectorX.fromStream(stream().insertAt(size / 2, -1)).materialize();
+    }
+
+    @Benchmark
+    public PVector<Integer> removeNative(){
+        return vector.minus(size / 2);
+    }
+
+    @Benchmark
+    public PVector<Integer> removeStream(){
+        return ClojureVectorX.fromStream(stream().zipWithIndex()
+                                                 .filter(t -> t.v2.intValue() != size / 2)
+                                                 .map(t -> t.v1))
+                             .materialize();
+    }
+
+    @Benchmark
+    public PVector<Integer> subListNative(){
+        return vector.subList(size / 4, size / 2);
+    }
+
+    @Benchmark
+    public PVector<Integer> subListStream(){
+        return ClojureVectorX.fromStream(stream().skip(size / 4).limit(size / 4)).materialize();
+    }
+
+    @Benchmark
+    public PVector<Integer> tailNative(){
+        return vector.tail();
+    }
+
+    @Benchmark
+    public PVector<Integer> tailStream(){
+        return ClojureVectorX.fromStream(stream().skip(1)).materialize();
+    }
+}
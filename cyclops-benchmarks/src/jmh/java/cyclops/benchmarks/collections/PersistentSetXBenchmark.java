@@ -0,0 +1,86 @@
+package cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureHashSetX;
+import cyclops.collections.dexx.DexxHashSetX;
+import cyclops.collections.immutable.PersistentSetX;
+import cyclops.collections.scala.ScalaHashSetX;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PersistentSetX backed by the hash set of each persistent collection library, plus the default
+ * pcollections backed PersistentSetX as the baseline
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PersistentSetXBenchmark {
+
+    @Param({"dexx", "scala", "vavr", "clojure", "pcollections"})
+    String backend;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> data;
+    PersistentSetX<Integer> set;
+
+    static PersistentSetX<Integer> empty(String backend){
+        switch(backend){
+            case "dexx":
+                return DexxHashSetX.empty();
+            case "scala":
+                return ScalaHashSetX.empty();
+            case "vavr":
+                return VavrHashSetX.empty();
+            case "clojure":
+                return ClojureHashSetX.empty();
+            default:
+                return PersistentSetX.empty();
+        }
+    }
+
+    @Setup
+    public void setup(){
+        data = ReactiveSeq.range(0, size).toList();
+        set = empty(backend).plusAll(data);
+        set.size();
+    }
+
+    @Benchmark
+    public PersistentSetX<Integer> plus(){
+        PersistentSetX<Integer> result = empty(backend);
+        for(int i = 0; i < size; i++)
+            result = result.plus(i);
+        return result;
+    }
+
+    @Benchmark
+    public int plusAll(){
+        return empty(backend).plusAll(data).size();
+    }
+
+    @Benchmark
+    public long iterate(){
+        long total = 0;
+        for(Integer next : set)
+            total += next;
+        return total;
+    }
+
+    @Benchmark
+    public int contains(){
+        int found = 0;
+        for(int i = 0; i < size; i++)
+            if(set.contains(i))
+                found++;
+        return found;
+    }
+}
@@ -0,0 +1,224 @@
+package cyclops.benchmarks.collections;
+
+import clojure.lang.PersistentVector;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.TreePVector;
+import scala.collection.JavaConversions;
+import scala.collection.generic.CanBuildFrom;
+import scala.collection.immutable.Vector$;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The operations from VectorXBenchmark run directly against each library's own vector, the gap between
+ * the two is the cost of the cyclops wrapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RawVectorBenchmark {
+
+    @Param({"dexx", "scala", "vavr", "clojure", "pcollections"})
+    String backend;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> data;
+    Backend<Object> raw;
+    Object vector;
+
+    /*
+     * Each fork runs a single backend, so calls through this interface stay monomorphic
+     */
+    interface Backend<V> {
+        V empty();
+        V plus(V vector, Integer e);
+        V plusAll(V vector, List<Integer> data);
+        Integer get(V vector, int index);
+        Iterator<Integer> iterator(V vector);
+
+        default boolean contains(V vector, Integer e){
+            Iterator<Integer> it = iterator(vector);
+            while(it.hasNext())
+                if(e.equals(it.next()))
+                    return true;
+            return false;
+        }
+    }
+
+    static class Dexx implements Backend<com.github.andrewoma.dexx.collection.Vector<Integer>> {
+        public com.github.andrewoma.dexx.collection.Vector<Integer> empty(){
+            return com.github.andrewoma.dexx.collection.Vector.empty();
+        }
+        public com.github.andrewoma.dexx.collection.Vector<Integer> plus(com.github.andrewoma.dexx.collection.Vector<Integer> vector, Integer e){
+            return vector.append(e);
+        }
+        public com.github.andrewoma.dexx.collection.Vector<Integer> plusAll(com.github.andrewoma.dexx.collection.Vector<Integer> vector, List<Integer> data){
+            return com.github.andrewoma.dexx.collection.Vector.<Integer>factory().newBuilder()
+                                                                                 .addAll(vector.iterator())
+                                                                                 .addAll(data.iterator())
+                                                                                 .build();
+        }
+        public Integer get(com.github.andrewoma.dexx.collection.Vector<Integer> vector, int index){
+            return vector.get(index);
+        }
+        public Iterator<Integer> iterator(com.github.andrewoma.dexx.collection.Vector<Integer> vector){
+            return vector.iterator();
+        }
+    }
+
+    static class Scala implements Backend<scala.collection.immutable.Vector<Integer>> {
+        private final CanBuildFrom<scala.collection.immutable.Vector<Integer>, Integer, scala.collection.immutable.Vector<Integer>> builder =
+                (CanBuildFrom)scala.collection.immutable.Vector.canBuildFrom();
+
+        public scala.collection.immutable.Vector<Integer> empty(){
+            return Vector$.MODULE$.empty();
+        }
+        public scala.collection.immutable.Vector<Integer> plus(scala.collection.immutable.Vector<Integer> vector, Integer e){
+            return vector.appendBack(e);
+        }
+        public scala.collection.immutable.Vector<Integer> plusAll(scala.collection.immutable.Vector<Integer> vector, List<Integer> data){
+            return vector.$plus$plus(JavaConversions.collectionAsScalaIterable(data), builder);
+        }
+        public Integer get(scala.collection.immutable.Vector<Integer> vector, int index){
+            return vector.apply(index);
+        }
+        public Iterator<Integer> iterator(scala.collection.immutable.Vector<Integer> vector){
+            return JavaConversions.asJavaIterator(vector.iterator());
+        }
+        public boolean contains(scala.collection.immutable.Vector<Integer> vector, Integer e){
+            return vector.contains(e);
+        }
+    }
+
+    static class Vavr implements Backend<io.vavr.collection.Vector<Integer>> {
+        public io.vavr.collection.Vector<Integer> empty(){
+            return io.vavr.collection.Vector.empty();
+        }
+        public io.vavr.collection.Vector<Integer> plus(io.vavr.collection.Vector<Integer> vector, Integer e){
+            return vector.append(e);
+        }
+        public io.vavr.collection.Vector<Integer> plusAll(io.vavr.collection.Vector<Integer> vector, List<Integer> data){
+            return vector.appendAll(data);
+        }
+        public Integer get(io.vavr.collection.Vector<Integer> vector, int index){
+            return vector.get(index);
+        }
+        public Iterator<Integer> iterator(io.vavr.collection.Vector<Integer> vector){
+            return vector.iterator();
+        }
+        public boolean contains(io.vavr.collection.Vector<Integer> vector, Integer e){
+            return vector.contains(e);
+        }
+    }
+
+    static class Clojure implements Backend<PersistentVector> {
+        public PersistentVector empty(){
+            return PersistentVector.EMPTY;
+        }
+        public PersistentVector plus(PersistentVector vector, Integer e){
+            return vector.cons(e);
+        }
+        public PersistentVector plusAll(PersistentVector vector, List<Integer> data){
+            if(vector.count() == 0)
+                return PersistentVector.create(data);
+            PersistentVector result = vector;
+            for(Integer next : data)
+                result = result.cons(next);
+            return result;
+        }
+        public Integer get(PersistentVector vector, int index){
+            return (Integer)vector.nth(index);
+        }
+        public Iterator<Integer> iterator(PersistentVector vector){
+            return vector.iterator();
+        }
+        public boolean contains(PersistentVector vector, Integer e){
+            return vector.contains(e);
+        }
+    }
+
+    static class PCollections implements Backend<TreePVector<Integer>> {
+        public TreePVector<Integer> empty(){
+            return TreePVector.empty();
+        }
+        public TreePVector<Integer> plus(TreePVector<Integer> vector, Integer e){
+            return vector.plus(e);
+        }
+        public TreePVector<Integer> plusAll(TreePVector<Integer> vector, List<Integer> data){
+            return vector.plusAll(data);
+        }
+        public Integer get(TreePVector<Integer> vector, int index){
+            return vector.get(index);
+        }
+        public Iterator<Integer> iterator(TreePVector<Integer> vector){
+            return vector.iterator();
+        }
+        public boolean contains(TreePVector<Integer> vector, Integer e){
+            return vector.contains(e);
+        }
+    }
+
+    static Backend<?> backend(String name){
+        switch(name){
+            case "dexx":
+                return new Dexx();
+            case "scala":
+                return new Scala();
+            case "vavr":
+                return new Vavr();
+            case "clojure":
+                return new Clojure();
+            default:
+                return new PCollections();
+        }
+    }
+
+    @Setup
+    public void setup(){
+        data = ReactiveSeq.range(0, size).toList();
+        raw = (Backend<Object>)backend(backend);
+        vector = raw.plusAll(raw.empty(), data);
+    }
+
+    @Benchmark
+    public Object plus(){
+        Object result = raw.empty();
+        for(int i = 0; i < size; i++)
+            result = raw.plus(result, i);
+        return result;
+    }
+
+    @Benchmark
+    public Object plusAll(){
+        return raw.plusAll(raw.empty(), data);
+    }
+
+    @Benchmark
+    public void get(Blackhole bh){
+        for(int i = 0; i < size; i++)
+            bh.consume(raw.get(vector, i));
+    }
+
+    @Benchmark
+    public long iterate(){
+        long total = 0;
+        Iterator<Integer> it = raw.iterator(vector);
+        while(it.hasNext())
+            total += it.next();
+        return total;
+    }
+
+    @Benchmark
+    public boolean contains(){
+        return raw.contains(vector, size - 1);
+    }
+}
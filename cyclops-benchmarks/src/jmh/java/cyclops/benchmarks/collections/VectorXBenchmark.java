@@ -0,0 +1,89 @@
+package cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureVectorX;
+import cyclops.collections.dexx.DexxVectorX;
+import cyclops.collections.immutable.VectorX;
+import cyclops.collections.scala.ScalaVectorX;
+import cyclops.collections.vavr.VavrVectorX;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VectorX backed by each persistent collection library, plus the default pcollections backed VectorX
+ * as the baseline. RawVectorBenchmark runs the same operations directly against each library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VectorXBenchmark {
+
+    @Param({"dexx", "scala", "vavr", "clojure", "pcollections"})
+    String backend;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> data;
+    VectorX<Integer> vector;
+
+    static VectorX<Integer> empty(String backend){
+        switch(backend){
+            case "dexx":
+                return DexxVectorX.empty();
+            case "scala":
+                return ScalaVectorX.empty();
+            case "vavr":
+                return VavrVectorX.empty();
+            case "clojure":
+                return ClojureVectorX.empty();
+            default:
+                return VectorX.empty();
+        }
+    }
+
+    @Setup
+    public void setup(){
+        data = ReactiveSeq.range(0, size).toList();
+        vector = empty(backend).plusAll(data);
+        vector.size();
+    }
+
+    @Benchmark
+    public VectorX<Integer> plus(){
+        VectorX<Integer> result = empty(backend);
+        for(int i = 0; i < size; i++)
+            result = result.plus(i);
+        return result;
+    }
+
+    @Benchmark
+    public int plusAll(){
+        return empty(backend).plusAll(data).size();
+    }
+
+    @Benchmark
+    public void get(Blackhole bh){
+        for(int i = 0; i < size; i++)
+            bh.consume(vector.get(i));
+    }
+
+    @Benchmark
+    public long iterate(){
+        long total = 0;
+        for(Integer next : vector)
+            total += next;
+        return total;
+    }
+
+    @Benchmark
+    public boolean contains(){
+        return vector.contains(size - 1);
+    }
+}
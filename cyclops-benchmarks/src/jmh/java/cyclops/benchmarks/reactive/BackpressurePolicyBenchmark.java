@@ -0,0 +1,61 @@
+package cyclops.benchmarks.reactive;
+
+import com.aol.cyclops.rx2.adapter.BackpressurePolicy;
+import com.aol.cyclops.rx2.adapter.BackpressurePolicy.Overflow;
+import io.reactivex.Observable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The BackpressurePolicy bridges of cyclops-rxjava2 (observable) and cyclops-rx (observable1) against the same
+ * Observable without a policy, for a subscriber that requests everything. The range emits on the subscribing
+ * thread, so BLOCK measures its permit bookkeeping rather than any waiting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BackpressurePolicyBenchmark {
+
+    @Param({"observable", "observable1"})
+    String source;
+
+    @Param({"none", "unbounded", "DROP_OLDEST", "BLOCK"})
+    String policy;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    BackpressurePolicy rx2Policy;
+    com.aol.cyclops.rx.adapter.BackpressurePolicy rx1Policy;
+
+    @Setup
+    public void setup(){
+        if(policy.equals("unbounded")){
+            rx2Policy = BackpressurePolicy.unbounded();
+            rx1Policy = com.aol.cyclops.rx.adapter.BackpressurePolicy.unbounded();
+        }else if(!policy.equals("none")){
+            rx2Policy = BackpressurePolicy.bounded(size, Overflow.valueOf(policy));
+            rx1Policy = com.aol.cyclops.rx.adapter.BackpressurePolicy.bounded(size,
+                            com.aol.cyclops.rx.adapter.BackpressurePolicy.Overflow.valueOf(policy));
+        }
+    }
+
+    @Benchmark
+    public void bridge(Blackhole bh){
+        if(source.equals("observable1")){
+            rx.Observable<Integer> range = rx.Observable.range(0, size);
+            (rx1Policy == null ? range : rx1Policy.apply(range)).subscribe(bh::consume);
+        }else{
+            Observable<Integer> range = Observable.range(0, size);
+            if(rx2Policy == null)
+                range.subscribe(bh::consume);
+            else
+                rx2Policy.apply(range).subscribe(bh::consume);
+        }
+    }
+}
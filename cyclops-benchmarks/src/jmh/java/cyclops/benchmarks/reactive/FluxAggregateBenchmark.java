@@ -0,0 +1,71 @@
+package cyclops.benchmarks.reactive;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * reduce, count and collect on FluxReactiveSeq, which use the Flux reducers directly, compared with the
+ * previous implementations via a Spouts stream (reduce, count) and Flux#toStream (collect)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FluxAggregateBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    Flux<Integer> flux;
+
+    @Setup
+    public void setup(){
+        flux = Flux.range(0, size);
+    }
+
+    private ReactiveSeq<Integer> seq(){
+        return Fluxs.reactiveSeq(flux);
+    }
+
+    private ReactiveSeq<Integer> spouts(){
+        return Spouts.from(flux);
+    }
+
+    @Benchmark
+    public Integer reduceNative(){
+        return seq().reduce(0, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    public Integer reduceSpouts(){
+        return spouts().reduce(0, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    public long countNative(){
+        return seq().count();
+    }
+
+    @Benchmark
+    public long countSpouts(){
+        return spouts().count();
+    }
+
+    @Benchmark
+    public Object collectNative(){
+        return seq().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    @Benchmark
+    public Object collectToStream(){
+        return flux.toStream().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+}
@@ -0,0 +1,58 @@
+package cyclops.benchmarks.reactive;
+
+import cyclops.companion.reactor.Fluxs;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pulls every element of a synchronous Flux through ReactiveSeq.iterator(), compared with iterating the
+ * source List directly and with the Flux#toIterable queue handoff previously used by FluxReactiveSeq
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FluxIteratorBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    List<Integer> list;
+    Flux<Integer> flux;
+
+    @Setup
+    public void setup(){
+        list = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            list.add(i);
+        flux = Flux.fromIterable(list);
+    }
+
+    private static void drain(Iterator<Integer> it, Blackhole bh){
+        while(it.hasNext())
+            bh.consume(it.next());
+    }
+
+    @Benchmark
+    public void sourceIterable(Blackhole bh){
+        drain(list.iterator(), bh);
+    }
+
+    @Benchmark
+    public void reactiveSeqIterator(Blackhole bh){
+        drain(Fluxs.reactiveSeq(flux).iterator(), bh);
+    }
+
+    @Benchmark
+    public void toIterable(Blackhole bh){
+        drain(flux.toIterable().iterator(), bh);
+    }
+}
@@ -0,0 +1,126 @@
+package cyclops.benchmarks.reactive;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the native Reactor operators used by FluxReactiveSeq against the previous
+ * implementation of each operator, which converted the Flux to a Spouts stream and back
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FluxReactiveSeqBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    Flux<Integer> flux;
+
+    @Setup
+    public void setup(){
+        flux = Flux.range(0, size);
+    }
+
+    private ReactiveSeq<Integer> seq(){
+        return Fluxs.reactiveSeq(flux);
+    }
+
+    private ReactiveSeq<Integer> spouts(){
+        return Spouts.from(flux);
+    }
+
+    private static void consume(Publisher<?> publisher, Blackhole bh){
+        Flux.from(publisher).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void groupedWhileNative(Blackhole bh){
+        consume(seq().groupedWhile(i -> i % 100 != 0), bh);
+    }
+
+    @Benchmark
+    public void groupedWhileSpouts(Blackhole bh){
+        consume(spouts().groupedWhile(i -> i % 100 != 0), bh);
+    }
+
+    @Benchmark
+    public void limitWhileNative(Blackhole bh){
+        consume(seq().map(i -> i + 1).limitWhile(i -> i < size), bh);
+    }
+
+    @Benchmark
+    public void limitWhileSpouts(Blackhole bh){
+        consume(spouts().map(i -> i + 1).limitWhile(i -> i < size), bh);
+    }
+
+    @Benchmark
+    public void limitUntilNative(Blackhole bh){
+        consume(seq().map(i -> i + 1).limitUntil(i -> i >= size), bh);
+    }
+
+    @Benchmark
+    public void limitUntilSpouts(Blackhole bh){
+        consume(spouts().map(i -> i + 1).limitUntil(i -> i >= size), bh);
+    }
+
+    @Benchmark
+    public void prependAppendNative(Blackhole bh){
+        consume(seq().prepend(-1).append(size), bh);
+    }
+
+    @Benchmark
+    public void prependAppendSpouts(Blackhole bh){
+        consume(spouts().prepend(-1).append(size), bh);
+    }
+
+    @Benchmark
+    public void onEmptyGetNative(Blackhole bh){
+        consume(seq().onEmptyGet(() -> -1), bh);
+    }
+
+    @Benchmark
+    public void onEmptyGetSpouts(Blackhole bh){
+        consume(spouts().onEmptyGet(() -> -1), bh);
+    }
+
+    @Benchmark
+    public void recoverNative(Blackhole bh){
+        consume(seq().map(i -> i + 1).recover(e -> -1), bh);
+    }
+
+    @Benchmark
+    public void recoverSpouts(Blackhole bh){
+        consume(spouts().map(i -> i + 1).recover(e -> -1), bh);
+    }
+
+    @Benchmark
+    public boolean anyMatchNative(){
+        return seq().anyMatch(i -> i == size - 1);
+    }
+
+    @Benchmark
+    public boolean anyMatchSpouts(){
+        return spouts().anyMatch(i -> i == size - 1);
+    }
+
+    @Benchmark
+    public Object findFirstNative(){
+        return seq().filter(i -> i == size / 2).findFirst();
+    }
+
+    @Benchmark
+    public Object findFirstSpouts(){
+        return spouts().filter(i -> i == size / 2).findFirst();
+    }
+}
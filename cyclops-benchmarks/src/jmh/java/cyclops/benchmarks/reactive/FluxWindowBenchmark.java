@@ -0,0 +1,71 @@
+package cyclops.benchmarks.reactive;
+
+import com.aol.cyclops.reactor.adapter.FluxReactiveSeq;
+import cyclops.companion.reactor.Fluxs;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sliding windows over a Flux via Spouts (a copied window per element), the native
+ * FluxReactiveSeq windows (views over shared chunks) and recycled windows (views over one ring buffer).
+ * Run main, or the jmh task with -prof gc, to report the allocation rate of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FluxWindowBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"1000"})
+    int windowSize;
+
+    Flux<Integer> flux;
+
+    @Setup
+    public void setup(){
+        flux = Flux.range(0, size);
+    }
+
+    private FluxReactiveSeq<Integer> seq(){
+        return (FluxReactiveSeq<Integer>)Fluxs.reactiveSeq(flux);
+    }
+
+    private static void consume(Publisher<?> publisher, Blackhole bh){
+        Flux.from(publisher).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void slidingSpouts(Blackhole bh){
+        consume(Spouts.from(flux).sliding(windowSize, 1).map(w -> w.get(0)), bh);
+    }
+
+    @Benchmark
+    public void slidingNative(Blackhole bh){
+        consume(seq().sliding(windowSize, 1).map(w -> w.get(0)), bh);
+    }
+
+    @Benchmark
+    public void slidingRecycled(Blackhole bh){
+        consume(seq().slidingRecycled(windowSize, 1).map(w -> w.get(0)), bh);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FluxWindowBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package cyclops.benchmarks.reactive;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pipelines from ReactiveSeqAdapterBenchmark on raw Flux, Flowable and Observable, the baseline for
+ * the cost of the adapters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RawReactiveBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Benchmark
+    public void mapFlux(Blackhole bh){
+        Flux.range(0, size).map(i -> i + 1).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void mapFlowable(Blackhole bh){
+        Flowable.range(0, size).map(i -> i + 1).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void mapObservable(Blackhole bh){
+        Observable.range(0, size).map(i -> i + 1).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void filterFlux(Blackhole bh){
+        Flux.range(0, size).filter(i -> i % 2 == 0).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void filterFlowable(Blackhole bh){
+        Flowable.range(0, size).filter(i -> i % 2 == 0).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void filterObservable(Blackhole bh){
+        Observable.range(0, size).filter(i -> i % 2 == 0).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMapFlux(Blackhole bh){
+        Flux.range(0, size).flatMap(i -> Flux.just(i, i)).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMapFlowable(Blackhole bh){
+        Flowable.range(0, size).flatMap(i -> Flowable.just(i, i)).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMapObservable(Blackhole bh){
+        Observable.range(0, size).flatMap(i -> Observable.just(i, i)).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void zipFlux(Blackhole bh){
+        Flux.range(0, size).zipWith(Flux.range(0, size), (a, b) -> a + b).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void zipFlowable(Blackhole bh){
+        Flowable.range(0, size).zipWith(Flowable.range(0, size), (a, b) -> a + b).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void zipObservable(Blackhole bh){
+        Observable.range(0, size).zipWith(Observable.range(0, size), (a, b) -> a + b).subscribe(bh::consume);
+    }
+}
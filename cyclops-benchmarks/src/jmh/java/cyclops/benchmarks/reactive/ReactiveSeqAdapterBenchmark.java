@@ -0,0 +1,76 @@
+package cyclops.benchmarks.reactive;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.rx2.Flowables;
+import cyclops.companion.rx2.Observables;
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * map / filter / flatMap / zip through the ReactiveSeq adapters (FluxReactiveSeq, FlowableReactiveSeq
+ * and ObservableReactiveSeq). RawReactiveBenchmark runs the same pipelines on the raw types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReactiveSeqAdapterBenchmark {
+
+    @Param({"flux", "flowable", "observable"})
+    String source;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private ReactiveSeq<Integer> seq(){
+        switch(source){
+            case "flux":
+                return Fluxs.reactiveSeq(Flux.range(0, size));
+            case "flowable":
+                return Flowables.reactiveSeq(Flowable.range(0, size));
+            default:
+                return Observables.reactiveSeq(Observable.range(0, size));
+        }
+    }
+
+    private Publisher<Integer> other(){
+        return source.equals("flux") ? Flux.range(0, size) : Flowable.range(0, size);
+    }
+
+    private Publisher<Integer> pair(Integer i){
+        return source.equals("flux") ? Flux.just(i, i) : Flowable.just(i, i);
+    }
+
+    private static void consume(Publisher<?> publisher, Blackhole bh){
+        Flowable.fromPublisher(publisher).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void map(Blackhole bh){
+        consume(seq().map(i -> i + 1), bh);
+    }
+
+    @Benchmark
+    public void filter(Blackhole bh){
+        consume(seq().filter(i -> i % 2 == 0), bh);
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole bh){
+        consume(seq().flatMapP(this::pair), bh);
+    }
+
+    @Benchmark
+    public void zip(Blackhole bh){
+        consume(seq().zipP(other(), (a, b) -> a + b), bh);
+    }
+}
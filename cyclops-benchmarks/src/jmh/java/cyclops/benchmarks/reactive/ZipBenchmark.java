@@ -0,0 +1,106 @@
+package cyclops.benchmarks.reactive;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.rx2.Flowables;
+import cyclops.companion.rx2.Observables;
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import org.jooq.lambda.tuple.Tuple;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * zip3 / zip4 through the ReactiveSeq adapters (observable1 is the RxJava 1 ObservableReactiveSeq) : the previous chain of pairwise zips (a Tuple2, Tuple3 and
+ * Tuple4 per element), the native n-ary zip producing tuples, and the native n-ary zip with a zipper
+ * function (no tuples). Run main, or the jmh task with -prof gc, to report the allocation rate of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ZipBenchmark {
+
+    @Param({"flux", "flowable", "observable", "observable1"})
+    String source;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> list;
+
+    @Setup
+    public void setup(){
+        list = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            list.add(i);
+    }
+
+    private ReactiveSeq<Integer> seq(){
+        switch(source){
+            case "flux":
+                return Fluxs.reactiveSeq(Flux.range(0, size));
+            case "flowable":
+                return Flowables.reactiveSeq(Flowable.range(0, size));
+            case "observable1":
+                return cyclops.companion.rx.Observables.reactiveSeq(rx.Observable.range(0, size));
+            default:
+                return Observables.reactiveSeq(Observable.range(0, size));
+        }
+    }
+
+    private static void consume(Publisher<?> publisher, Blackhole bh){
+        Flowable.fromPublisher(publisher).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void zip3Chained(Blackhole bh){
+        consume(seq().zip(list, Tuple::tuple)
+                     .zip(list, (a, b) -> Tuple.tuple(a.v1, a.v2, b)), bh);
+    }
+
+    @Benchmark
+    public void zip3Tuples(Blackhole bh){
+        consume(seq().zip3(list, list), bh);
+    }
+
+    @Benchmark
+    public void zip3Fn(Blackhole bh){
+        consume(seq().zip3(list, list, (a, b, c) -> a + b + c), bh);
+    }
+
+    @Benchmark
+    public void zip4Chained(Blackhole bh){
+        consume(seq().zip(list, Tuple::tuple)
+                     .zip(list, (a, b) -> Tuple.tuple(a.v1, a.v2, b))
+                     .zip(list, (a, b) -> Tuple.tuple(a.v1, a.v2, a.v3, b)), bh);
+    }
+
+    @Benchmark
+    public void zip4Tuples(Blackhole bh){
+        consume(seq().zip4(list, list, list), bh);
+    }
+
+    @Benchmark
+    public void zip4Fn(Blackhole bh){
+        consume(seq().zip4(list, list, list, (a, b, c, d) -> a + b + c + d), bh);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ZipBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+package cyclops.benchmarks.typeclasses;
+
+import com.aol.cyclops.reactor.hkt.FluxKind;
+import com.aol.cyclops.vavr.hkt.VectorKind;
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.vavr.Vectors;
+import cyclops.companion.Monoids;
+import cyclops.monads.ReactorWitness;
+import cyclops.monads.VavrWitness;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * map, flatMap and foldLeft on a Flux and a Vavr Vector three ways : directly, via AnyM and via the
+ * Instances type classes (Functor, Monad and Foldable over the Kind wrappers)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TypeclassBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    Flux<Integer> flux;
+    Vector<Integer> vector;
+
+    @Setup
+    public void setup(){
+        flux = Flux.range(0, size);
+        vector = Vector.range(0, size);
+    }
+
+    @Benchmark
+    public void mapFlux(Blackhole bh){
+        flux.map(i -> i + 1).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void mapFluxAnyM(Blackhole bh){
+        ReactorWitness.flux(Fluxs.anyM(flux).map(i -> i + 1)).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void mapFluxFunctor(Blackhole bh){
+        FluxKind.narrow(Fluxs.Instances.functor().map((Integer i) -> i + 1, FluxKind.widen(flux))).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMapFlux(Blackhole bh){
+        flux.flatMap(i -> Flux.just(i, i)).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMapFluxAnyM(Blackhole bh){
+        ReactorWitness.flux(Fluxs.anyM(flux).flatMap(i -> Fluxs.anyM(Flux.just(i, i)))).subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMapFluxMonad(Blackhole bh){
+        FluxKind.narrow(Fluxs.Instances.monad().flatMap((Integer i) -> FluxKind.widen(Flux.just(i, i)), FluxKind.widen(flux)))
+                .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public Integer foldFlux(){
+        return flux.reduce(0, (a, b) -> a + b).block();
+    }
+
+    @Benchmark
+    public Integer foldFluxFoldable(){
+        return Fluxs.Instances.foldable().foldLeft(Monoids.intSum, FluxKind.widen(flux));
+    }
+
+    @Benchmark
+    public Vector<Integer> mapVector(){
+        return vector.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Vector<Integer> mapVectorAnyM(){
+        return VavrWitness.vector(Vectors.anyM(vector).map(i -> i + 1));
+    }
+
+    @Benchmark
+    public Vector<Integer> mapVectorFunctor(){
+        return VectorKind.narrow(Vectors.Instances.functor().map((Integer i) -> i + 1, VectorKind.widen(vector)));
+    }
+
+    @Benchmark
+    public Vector<Integer> flatMapVector(){
+        return vector.flatMap(i -> Vector.of(i, i));
+    }
+
+    @Benchmark
+    public Vector<Integer> flatMapVectorAnyM(){
+        return VavrWitness.vector(Vectors.anyM(vector).flatMapI(i -> Vector.of(i, i)));
+    }
+
+    @Benchmark
+    public Vector<Integer> flatMapVectorMonad(){
+        return VectorKind.narrow(Vectors.Instances.monad().flatMap((Integer i) -> VectorKind.widen(Vector.of(i, i)), VectorKind.widen(vector)));
+    }
+
+    @Benchmark
+    public Integer foldVector(){
+        return vector.foldLeft(0, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    public Integer foldVectorFoldable(){
+        return Vectors.Instances.foldable().foldLeft(Monoids.intSum, VectorKind.widen(vector));
+    }
+}
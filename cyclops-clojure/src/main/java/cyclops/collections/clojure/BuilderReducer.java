@@ -0,0 +1,45 @@
+package cyclops.collections.clojure;
+
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import cyclops.function.Reducer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/*
+ * A Reducer whose mapReduce runs the Collector of a Clojure wrapper (vectors, sets and the hash and array maps
+ * fill a single transient), rather than wrapping each element in a singleton collection and merging with
+ * plusAll. zero, apply and mapToType are those of the wrapped Reducer. cyclops-clojure depends only on
+ * cyclops-react and Clojure, so it keeps its own package-private copy.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class BuilderReducer<T> implements Reducer<T> {
+
+    private final Reducer<T> reducer;
+    private final Collector<?, ?, ? extends T> collector;
+
+    static <T> Reducer<T> of(Reducer<T> reducer, Collector<?, ?, ? extends T> collector){
+        return new BuilderReducer<>(reducer, collector);
+    }
+
+    @Override
+    public T zero() {
+        return reducer.zero();
+    }
+
+    @Override
+    public T apply(T a, T b) {
+        return reducer.apply(a, b);
+    }
+
+    @Override
+    public Stream<T> mapToType(Stream<?> stream) {
+        return reducer.mapToType(stream);
+    }
+
+    @Override
+    public T mapReduce(Stream<?> stream) {
+        return ((Stream<Object>) stream).collect((Collector<Object, ?, T>) collector);
+    }
+}
@@ -1,9 +1,9 @@
 package cyclops.collections.clojure;
 
+import clojure.lang.ITransientMap;
 import clojure.lang.PersistentArrayMap;
 import clojure.lang.PersistentVector;
 import com.aol.cyclops2.data.collections.extensions.ExtensiblePMapX;
-import com.aol.cyclops2.types.mixins.TupleWrapper;
 import cyclops.collections.immutable.PersistentMapX;
 import cyclops.companion.MapXs;
 import cyclops.control.Eval;
@@ -17,16 +17,27 @@ import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PMap;
 
 import java.util.*;
+import java.util.stream.Collector;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClojureArrayMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
     
     @Wither
     PersistentArrayMap map;
     public static <K, V> Reducer<PersistentMapX<K, V>> toPersistentMapX() {
-        return Reducer.<PersistentMapX<K, V>> of(empty(), (final PersistentMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
-            final List w = ((TupleWrapper) () -> in).values();
-            return singleton((K) w.get(0), (V) w.get(1));
-        });
+        return BuilderReducer.of(Reducer.<PersistentMapX<K, V>> of(empty(), (final PersistentMapX<K, V> a) -> b -> a.plusAll(b),
+                                                                   (final Tuple2<K, V> t) -> singleton(t.v1, t.v2)),
+                                 persistentMapXCollector());
+    }
+
+    /**
+     * Collector that assocs each entry onto a single transient map, rather than building a singleton map
+     * per entry
+     *
+     * @return Collector for PersistentMapX
+     */
+    public static <K, V> Collector<Tuple2<K, V>, ?, PersistentMapX<K, V>> persistentMapXCollector() {
+        return ClojureHashMapX.transientMapCollector(PersistentArrayMap.EMPTY,
+                                                     m -> new ExtensiblePMapX<K,V>(fromMap((PersistentArrayMap) m), Eval.later(()-> ClojureArrayMapX.<K,V>toPersistentMapX())));
     }
     public static <K,V> ClojureArrayMapX<K,V> fromMap(@NonNull PersistentArrayMap map){
         return new ClojureArrayMapX<>(map);
@@ -60,11 +71,13 @@ public class ClojureArrayMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>
     }
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
-        PersistentArrayMap m = map;
-        for(Object next : m2.entrySet()){
-            m = (PersistentArrayMap)m.cons(next);
+        if(m2.isEmpty())
+            return this;
+        ITransientMap m = (ITransientMap)map.asTransient();
+        for(Map.Entry<? extends K, ? extends V> next : m2.entrySet()){
+            m = m.assoc(next.getKey(), next.getValue());
         }
-        return withMap(m);
+        return withMap((PersistentArrayMap)m.persistent());
     }
     @Override
     public PMap<K, V> minus(Object key) {
@@ -76,13 +89,14 @@ public class ClojureArrayMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>
    
     @Override
     public PMap<K, V> minusAll(Collection<?> keys) {
-      
-       PersistentArrayMap m = map;
+       if(keys.isEmpty())
+           return this;
+       ITransientMap m = (ITransientMap)map.asTransient();
        for(Object key : keys){
           
-           m = (PersistentArrayMap)m.without(key);
+           m = m.without(key);
        }
-       return withMap(m);
+       return withMap((PersistentArrayMap)m.persistent());
         
     }
     @Override
@@ -97,6 +111,36 @@ public class ClojureArrayMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>
     public V get(Object key) {
        return (V)map.valAt(key);
     }
+
+    @Override
+    public int size() {
+        return map.count();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.count() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return map.values();
+    }
    
     
    
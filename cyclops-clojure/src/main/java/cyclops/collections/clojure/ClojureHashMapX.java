@@ -1,10 +1,12 @@
 package cyclops.collections.clojure;
 
+import clojure.lang.IEditableCollection;
+import clojure.lang.IPersistentCollection;
+import clojure.lang.ITransientMap;
 import clojure.lang.PersistentHashMap;
 import clojure.lang.PersistentVector;
 import com.aol.cyclops2.data.collections.extensions.ExtensiblePMapX;
 import com.aol.cyclops2.types.Unwrapable;
-import com.aol.cyclops2.types.mixins.TupleWrapper;
 import cyclops.collections.immutable.PersistentMapX;
 import cyclops.companion.MapXs;
 import cyclops.control.Eval;
@@ -16,6 +18,8 @@ import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PMap;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Unwrapable{
     
@@ -32,11 +36,41 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
     }
 
     public static <K, V> Reducer<PersistentMapX<K, V>> toPersistentMapX() {
-        return Reducer.<PersistentMapX<K, V>> of(empty(), (final PersistentMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
-            final List w = ((TupleWrapper) () -> in).values();
-            return singleton((K) w.get(0), (V) w.get(1));
-        });
+        return BuilderReducer.of(Reducer.<PersistentMapX<K, V>> of(empty(), (final PersistentMapX<K, V> a) -> b -> a.plusAll(b),
+                                                                   (final Tuple2<K, V> t) -> singleton(t.v1, t.v2)),
+                                 persistentMapXCollector());
     }
+
+    /**
+     * Collector that assocs each entry onto a single transient map, rather than building a singleton map
+     * per entry
+     *
+     * @return Collector for PersistentMapX
+     */
+    public static <K, V> Collector<Tuple2<K, V>, ?, PersistentMapX<K, V>> persistentMapXCollector() {
+        return transientMapCollector(PersistentHashMap.EMPTY,
+                                     m -> new ExtensiblePMapX<K,V>(fromMap((PersistentHashMap) m), Eval.later(()-> ClojureHashMapX.<K,V>toPersistentMapX())));
+    }
+
+    /*
+     * Assocs each Tuple2 onto a transient of empty, held in a one element array as each assoc returns the
+     * transient to use next. The chunks of a parallel Stream are joined by assoc'ing the entries of the right
+     * chunk onto the left transient. Shared with ClojureArrayMapX.
+     */
+    static <K, V, M> Collector<Tuple2<K, V>, ?, M> transientMapCollector(IEditableCollection empty,
+                                                                          Function<IPersistentCollection, M> finisher) {
+        return Collector.<Tuple2<K, V>, ITransientMap[], M>of(() -> new ITransientMap[]{ (ITransientMap) empty.asTransient() },
+                                                             (t, e) -> t[0] = t[0].assoc(e.v1, e.v2),
+                                                             (a, b) -> {
+                                                                 for (Object next : (Iterable<?>) b[0].persistent()) {
+                                                                     Map.Entry<?, ?> entry = (Map.Entry<?, ?>) next;
+                                                                     a[0] = a[0].assoc(entry.getKey(), entry.getValue());
+                                                                 }
+                                                                 return a;
+                                                             },
+                                                             t -> finisher.apply(t[0].persistent()));
+    }
+
     public static <K,V> ClojureHashMapX<K,V> fromMap(@NonNull PersistentHashMap map){
         return new ClojureHashMapX<K,V>(map);
     }
@@ -66,11 +100,13 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
     }
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
-        PersistentHashMap m = map;
-        for(Object next : m2.entrySet()){
-            m = (PersistentHashMap)m.cons(next);
+        if(m2.isEmpty())
+            return this;
+        ITransientMap m = (ITransientMap)map.asTransient();
+        for(Map.Entry<? extends K, ? extends V> next : m2.entrySet()){
+            m = m.assoc(next.getKey(), next.getValue());
         }
-        return withMap(m);
+        return withMap((PersistentHashMap)m.persistent());
     }
     @Override
     public PMap<K, V> minus(Object key) {
@@ -82,13 +118,14 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
    
     @Override
     public PMap<K, V> minusAll(Collection<?> keys) {
-      
-       PersistentHashMap m = map;
+       if(keys.isEmpty())
+           return this;
+       ITransientMap m = (ITransientMap)map.asTransient();
        for(Object key : keys){
           
-           m = (PersistentHashMap)m.without(key);
+           m = m.without(key);
        }
-       return withMap(m);
+       return withMap((PersistentHashMap)m.persistent());
         
     }
     @Override
@@ -104,6 +141,36 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
        return (V)map.valAt(key);
     }
 
+    @Override
+    public int size() {
+        return map.count();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.count() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return map.values();
+    }
+
 
     public static <K,V> PersistentMapX<K,V> copyFromMap(Map<K,V> map){
         return ClojureHashMapX.<K,V>empty()
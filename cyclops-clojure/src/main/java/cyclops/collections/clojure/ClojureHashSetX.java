@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -21,6 +22,7 @@ import org.pcollections.PSet;
 
 
 
+import clojure.lang.ITransientSet;
 import clojure.lang.PersistentHashSet;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -34,8 +36,8 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
     }
 
     public static <T> PersistentSetX<T> copyFromCollection(CollectionX<? extends T> vec) {
-        PersistentSetX<T> res = ClojureHashSetX.<T>empty()
-                .plusAll(vec);
+        PersistentSetX<T> res = fromPSet(ClojureHashSetX.<T>emptyPSet()
+                                                   .plusAll(vec), toPSet());
         return res;
     }
     @Override
@@ -135,8 +137,34 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(ClojureHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                    (final T x) -> ClojureHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(ClojureHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                    (final T x) -> ClojureHashSetX.singleton(x)),
+                                 pSetCollector());
+    }
+
+    /**
+     * Collector that conjoins each element onto a transient set. The transient is held in a one
+     * element array, as each conj returns the transient to use next.
+     *
+     * @return Collector for PSet
+     */
+    public static <T> Collector<T, ?, PSet<T>> pSetCollector() {
+        return Collector.<T, ITransientSet[], PSet<T>>of(() -> new ITransientSet[]{ (ITransientSet) PersistentHashSet.EMPTY.asTransient() },
+                                                        (t, e) -> t[0] = (ITransientSet) t[0].conj(e),
+                                                        (a, b) -> {
+                                                            for (Object next : (PersistentHashSet) b[0].persistent())
+                                                                a[0] = (ITransientSet) a[0].conj(next);
+                                                            return a;
+                                                        },
+                                                        t -> new ClojureHashSetX<>((PersistentHashSet) t[0].persistent()),
+                                                        Collector.Characteristics.UNORDERED);
+    }
+
+    private static PersistentHashSet conjAll(PersistentHashSet set, Iterator<?> it) {
+        ITransientSet use = (ITransientSet) set.asTransient();
+        while (it.hasNext())
+            use = (ITransientSet) use.conj(it.next());
+        return (PersistentHashSet) use.persistent();
     }
 
     public static <T> ClojureHashSetX<T> fromSet(PersistentHashSet set) {
@@ -194,11 +222,9 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
 
     @Override
     public ClojureHashSetX<T> plusAll(Collection<? extends T> l) {
-
-        PersistentHashSet use = set;
-        for (T next : l)
-            use = (PersistentHashSet) use.cons(next);
-        return withSet(use);
+        if (l.isEmpty())
+            return this;
+        return withSet(conjAll(set, l.iterator()));
 
     }
 
@@ -210,10 +236,12 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
 
     @Override
     public PSet<T> minusAll(Collection<?> s) {
-        PersistentHashSet use = set;
+        if (s.isEmpty())
+            return this;
+        ITransientSet use = (ITransientSet) set.asTransient();
         for (Object next : s)
-            use = (PersistentHashSet) use.disjoin(next);
-        return withSet(use);
+            use = use.disjoin(next);
+        return withSet((PersistentHashSet) use.persistent());
     }
 
     @Override
@@ -221,6 +249,20 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
         return set.count();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
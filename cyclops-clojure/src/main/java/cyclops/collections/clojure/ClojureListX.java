@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -30,25 +31,25 @@ import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrapable {
 
-    static final FoldToList gen = (it, i)-> ClojureListX.from(from(it,i));
+    static final FoldToList gen = (it, i)-> ClojureListX.from(from(it));
 
     public static <T> LinkedListX<T> listX(ReactiveSeq<T> stream){
         return fromStream(stream);
     }
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
-        return fromPStack(new ClojureListX<T>(from(vec.iterator(),0)),toPStack());
+        return fromPStack(new ClojureListX<T>(from(vec.iterator())),toPStack());
 
     }
     public static <T> LazyLinkedListX<T> from(IPersistentList q) {
         return fromPStack(new ClojureListX<>(q), toPStack());
     }
 
-    private static <E> IPersistentList from(final Iterator<E> i, int depth) {
+    private static <E> IPersistentList from(final Iterator<E> i) {
 
-        if(!i.hasNext())
-            return PersistentList.create(Arrays.asList());
-        E e = i.next();
-        return  (IPersistentList) from(i,depth++).cons(e);
+        List<E> buffer = new ArrayList<>();
+        while (i.hasNext())
+            buffer.add(i.next());
+        return PersistentList.create(buffer);
     }
     @Override
     public <R> R unwrap() {
@@ -148,8 +149,27 @@ public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrap
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ClojureListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ClojureListX.singleton(x));
+        return BuilderReducer.of(Reducer.<PStack<T>> of(ClojureListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ClojureListX.singleton(x)),
+                                 pStackCollector());
+    }
+
+    /**
+     * Collector with the same semantics as {@link #toPStack()}, each element is prepended in turn.
+     * Elements are buffered and the Clojure list built once they have all been collected.
+     *
+     * @return Collector for PStack
+     */
+    public static <T> Collector<T, ?, PStack<T>> pStackCollector() {
+        return Collector.<T, ArrayList<T>, PStack<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            IPersistentList list = PersistentList.create(Arrays.asList());
+            for (T next : buffer)
+                list = (IPersistentList) list.cons(next);
+            return new ClojureListX<>(list);
+        });
     }
 
     public static <T> ClojureListX<T> fromList(List<T> list) {
@@ -352,6 +372,38 @@ public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrap
         return (T) nel.get(index);
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        if (list instanceof PersistentList)
+            return ((PersistentList) list).iterator();
+        return Collections.emptyIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return LinearLists.listIterator(this, index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinearLists.indexOf(this, o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinearLists.lastIndexOf(this, o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinearLists.equals(this, o);
+    }
+
     @Override
     public int size() {
         if (list instanceof PersistentList) {
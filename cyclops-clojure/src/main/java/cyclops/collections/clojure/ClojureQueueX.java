@@ -1,6 +1,7 @@
 package cyclops.collections.clojure;
 
 import java.util.AbstractQueue;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
@@ -8,6 +9,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -136,8 +138,27 @@ public class ClojureQueueX<T> extends AbstractQueue<T> implements PQueue<T>, Unw
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(ClojureQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ClojureQueueX.singleton(x));
+        return BuilderReducer.of(Reducer.<PQueue<T>> of(ClojureQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ClojureQueueX.singleton(x)),
+                                 pQueueCollector());
+    }
+
+    /**
+     * PersistentQueue has no transient form, elements are buffered and appended to the queue once
+     * they have all been collected.
+     *
+     * @return Collector for PQueue
+     */
+    public static <T> Collector<T, ?, PQueue<T>> pQueueCollector() {
+        return Collector.<T, ArrayList<T>, PQueue<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            PersistentQueue use = PersistentQueue.EMPTY;
+            for (T next : buffer)
+                use = (PersistentQueue) use.cons(next);
+            return new ClojureQueueX<>(use);
+        });
     }
 
     public static <T> ClojureQueueX<T> fromQueue(PersistentQueue queue) {
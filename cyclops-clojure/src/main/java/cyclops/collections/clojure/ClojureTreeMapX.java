@@ -132,6 +132,36 @@ public class ClojureTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
        return (V)map.valAt(key);
     }
 
+    @Override
+    public int size() {
+        return map.count();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.count() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return map.values();
+    }
+
     public static <K,V> PersistentMapX<K,V> copyFromMap(Map<K,V> map){
         return ClojureTreeMapX.<K,V>empty()
                 .plusAll(map);
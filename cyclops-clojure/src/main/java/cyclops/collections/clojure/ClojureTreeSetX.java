@@ -1,6 +1,7 @@
 package cyclops.collections.clojure;
 
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
@@ -9,6 +10,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -16,6 +18,7 @@ import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPOrderedS
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.OrderedSetX;
+import cyclops.control.Eval;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
 import org.jooq.lambda.tuple.Tuple2;
@@ -152,9 +155,29 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
      * @return Reducer for POrderedSet
      */
     public static <T> Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(ordering),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(ordering),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> ClojureTreeSetX.singleton(ordering, x));
+                                           (final T x) -> ClojureTreeSetX.singleton(ordering, x)),
+                                 pOrderedSetCollector(ordering));
+    }
+
+    /**
+     * PersistentTreeSet has no transient form, elements are buffered and added to the set once they
+     * have all been collected.
+     *
+     * @param ordering Comparator for the TreeSet
+     * @return Collector for POrderedSet
+     */
+    public static <T> Collector<T, ?, POrderedSet<T>> pOrderedSetCollector(Comparator<T> ordering) {
+        return Collector.<T, ArrayList<T>, POrderedSet<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            PersistentTreeSet set = ClojureTreeSetX.emptyPOrderedSet(ordering).set;
+            for (T next : buffer)
+                set = (PersistentTreeSet) set.cons(next);
+            return new ClojureTreeSetX<>(set);
+        }, Collector.Characteristics.UNORDERED);
     }
     /**
      * <pre>
@@ -167,9 +190,7 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>> Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(Comparator.<T>naturalOrder()),
-                                           (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> ClojureTreeSetX.singleton(Comparator.<T>naturalOrder(), x));
+        return toPOrderedSet(Comparator.<T>naturalOrder());
     }
 
     public static <T> ClojureTreeSetX<T> fromSet(PersistentTreeSet set) {
@@ -231,6 +252,8 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
 
     @Wither
     private final PersistentTreeSet set;
+    //sorted snapshot for indexed access, built at most once per (immutable) instance
+    private final Eval<Object[]> ranked = Eval.later(this::sortedElements);
 
     @Override
     public ClojureTreeSetX<T> plus(T e) {
@@ -269,6 +292,20 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
@@ -276,20 +313,21 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
 
     @Override
     public T get(int index) {
-        return (T)set.get(index);
-
+        Object[] elements = ranked.get();
+        if (index < 0 || index >= elements.length)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + index + " is out of bounds - size : " + elements.length);
+        return (T)elements[index];
     }
 
     @Override
     public int indexOf(Object o) {
-        Iterable<T> it = set;
-        return ReactiveSeq.fromIterable(it)
-                          .zipWithIndex()
-                          .filter(t->t.v1.equals(o))
-                          .map(t->t.v2.intValue())
-                          .findFirst()
-                          .get();
-                          
+        int index = Arrays.binarySearch(ranked.get(), o, (Comparator)set.comparator());
+        return index < 0 ? -1 : index;
+    }
+
+    private Object[] sortedElements() {
+        return set.toArray();
     }
 
     
@@ -2,11 +2,14 @@ package cyclops.collections.clojure;
 
 import java.util.AbstractList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -20,6 +23,9 @@ import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PVector;
 
 
+import clojure.lang.APersistentVector;
+import clojure.lang.ITransientCollection;
+import clojure.lang.ITransientVector;
 import clojure.lang.PersistentVector;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,13 +38,19 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
         return fromStream(stream);
     }
     public static <T> VectorX<T> copyFromCollection(CollectionX<T> vec) {
-        return ClojureVectorX.<T>empty()
-                .plusAll(vec);
+        return fromPVector(ClojureVectorX.<T>emptyPVector()
+                                         .plusAll(vec), toPVector());
 
     }
+    /**
+     * @return The backing PersistentVector, a vector produced by subList or tail is copied into a new
+     * PersistentVector so callers never see the SubVector view (or keep its parent reachable)
+     */
     @Override
     public <R> R unwrap() {
-        return (R)vector;
+        if(vector instanceof PersistentVector)
+            return (R)vector;
+        return (R)conjAll(vector, Collections.emptyIterator());
     }
     /**
      * Create a LazyPVectorX from a Stream
@@ -133,7 +145,67 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(ClojureVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ClojureVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(ClojureVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ClojureVectorX.singleton(x)),
+                                 pVectorCollector());
+    }
+
+    /**
+     * Collector that conjoins each element onto a transient vector. The transient is held in a one
+     * element array, as each conj returns the transient to use next. Clojure has no vector concatenation,
+     * so the chunks of a parallel Stream are joined by conjoining the right chunk, a leaf array at a time, onto
+     * the left transient.
+     *
+     * @return Collector for PVector
+     */
+    public static <T> Collector<T, ?, PVector<T>> pVectorCollector() {
+        return Collector.<T, ITransientCollection[], PVector<T>>of(() -> new ITransientCollection[]{ PersistentVector.EMPTY.asTransient() },
+                                                                  (t, e) -> t[0] = t[0].conj(e),
+                                                                  (a, b) -> {
+                                                                      PersistentVector right = (PersistentVector) b[0].persistent();
+                                                                      for (int i = 0; i < right.count(); i += 32) {
+                                                                          for (Object next : right.arrayFor(i))
+                                                                              a[0] = a[0].conj(next);
+                                                                      }
+                                                                      return a;
+                                                                  },
+                                                                  t -> new ClojureVectorX<>((PersistentVector) t[0].persistent()));
+    }
+
+    /*
+     * A transient holding the first n elements of the vector. A PersistentVector pops its trailing
+     * elements, anything else (a SubVector) is conjoined onto an empty transient.
+     */
+    private static ITransientVector asTransient(APersistentVector vector, int n) {
+        if (vector instanceof PersistentVector) {
+            ITransientVector use = (ITransientVector) ((PersistentVector) vector).asTransient();
+            for (int i = vector.count(); i > n; i--)
+                use = use.pop();
+            return use;
+        }
+        ITransientCollection use = PersistentVector.EMPTY.asTransient();
+        for (int i = 0; i < n; i++)
+            use = use.conj(vector.nth(i));
+        return (ITransientVector) use;
+    }
+
+    /*
+     * Replace remove elements at index i with the inserted elements, only the elements after the
+     * splice point are rewritten
+     */
+    private ClojureVectorX<T> splice(int i, int remove, Iterator<? extends T> insert) {
+        ITransientCollection use = asTransient(vector, i);
+        while (insert.hasNext())
+            use = use.conj(insert.next());
+        for (int n = i + remove; n < vector.count(); n++)
+            use = use.conj(vector.nth(n));
+        return withVector((PersistentVector) use.persistent());
+    }
+
+    private static PersistentVector conjAll(APersistentVector vector, Iterator<?> it) {
+        ITransientCollection use = asTransient(vector, vector.count());
+        while (it.hasNext())
+            use = use.conj(it.next());
+        return (PersistentVector) use.persistent();
     }
     
    
@@ -163,20 +235,23 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
     public static <T> LazyPVectorX<T> PVector(T... elements){
         return fromPVector(of(elements),toPVector());
     }
+    /*
+     * Usually a PersistentVector, subList and tail share structure with this vector through
+     * APersistentVector.SubVector rather than copying
+     */
     @Wither
-    private final PersistentVector vector;
+    private final APersistentVector vector;
 
     @Override
     public ClojureVectorX<T> plus(T e) {
-        return withVector(vector.cons(e));
+        return withVector((APersistentVector) vector.cons(e));
     }
 
     @Override
     public ClojureVectorX<T> plusAll(Collection<? extends T> list) {
-        PersistentVector use = vector;
-        for(T next : list)
-            use = use.cons(next);
-        return withVector(use);
+        if(list.isEmpty())
+            return this;
+        return withVector(conjAll(vector, list.iterator()));
      }
  
 
@@ -184,28 +259,27 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
     public ClojureVectorX<T> with(int i, T e) {
         if(i<0 || i>size())
             throw new IndexOutOfBoundsException("Index " + i + " is out of bounds - size : " + size());
-        return withVector(vector.assocN(i,e));
+        return withVector((APersistentVector) vector.assocN(i,e));
     }
 
     @Override
     public PVector<T>  plus(int i, T e){
-        if(size()==0 || i==size())
+        if(i<0 || i>size())
+            throw new IndexOutOfBoundsException("Index " + i + " is out of bounds - size : " + size());
+        if(i==size())
             return plus(e);
-       ReactiveSeq<T> flux = ReactiveSeq.fromIterable(vector);
-       ReactiveSeq<T> inserted = flux.insertAt(i, e);
-       return fromStream(inserted);
-
-       
+        return splice(i, 0, Collections.singletonList(e).iterator());
     }
     private static <T> LazyPVectorX<T> fromPVector(PVector<T> vec, Reducer<PVector<T>> pVectorReducer) {
         return new LazyPVectorX<T>(vec,null, pVectorReducer, Evaluation.LAZY);
     }
     @Override
     public PVector<T> plusAll(int i, Collection<? extends T> list) {
-        ReactiveSeq<T> flux = fromPVector(this,toPVector()).stream();
-        ReactiveSeq<T> inserted = flux.insertAtS(i, (Stream<T>)list.stream());
-        
-        return fromStream(inserted);
+        if(i<0 || i>size())
+            throw new IndexOutOfBoundsException("Index " + i + " is out of bounds - size : " + size());
+        if(i==size())
+            return plusAll(list);
+        return splice(i, 0, list.iterator());
     }
 
     @Override
@@ -220,7 +294,7 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
     }
     
     public ClojureVectorX<T> tail(){
-        return withVector(PersistentVector.create(vector.tail));
+        return subList(1, size());
     }
     public T head(){
         return (T)vector.nth(0);
@@ -228,19 +302,22 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
 
     @Override
     public PVector<T> minus(int i) {
-      
-        return fromPVector(this,toPVector())
-                        .zipWithIndex()
-                        .filter(t->t.v2.intValue()!=i)
-                        .map(t->t.v1);
+        if(i<0 || i>=size())
+            return this;
+        return splice(i, 1, Collections.<T>emptyIterator());
     }
 
+    /**
+     * A view sharing structure with this vector, as with Clojure's subvec. The view keeps the whole
+     * underlying vector reachable.
+     */
     @Override
-    public PVector<T> subList(int start, int end) {
-        return fromPVector(this,toPVector())
-                .skip((long)start)
-                .limit(end-start);
-        
+    public ClojureVectorX<T> subList(int start, int end) {
+        int from = Math.max(0, Math.min(start, size()));
+        int to = Math.max(from, Math.min(end, size()));
+        if(from==0 && to==size())
+            return this;
+        return withVector(new APersistentVector.SubVector(null, vector, from, to));
     }
 
     @Override
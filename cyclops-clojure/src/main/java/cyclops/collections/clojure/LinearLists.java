@@ -0,0 +1,60 @@
+package cyclops.collections.clojure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/*
+ * Single pass List operations for ClojureListX. The Clojure PersistentList backing it is a cons list, so the AbstractList defaults,
+ * which call get(i) for every index, would walk it from the head each time. cyclops-clojure depends only on
+ * cyclops-react and Clojure, so it keeps its own package-private copy.
+ */
+final class LinearLists {
+
+    private LinearLists() {
+    }
+
+    static int indexOf(Iterable<?> list, Object o) {
+        int index = 0;
+        for (Object next : list) {
+            if (Objects.equals(o, next))
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(Iterable<?> list, Object o) {
+        int index = 0;
+        int last = -1;
+        for (Object next : list) {
+            if (Objects.equals(o, next))
+                last = index;
+            index++;
+        }
+        return last;
+    }
+
+    static boolean equals(List<?> list, Object o) {
+        if (o == list)
+            return true;
+        if (!(o instanceof List))
+            return false;
+        Iterator<?> it = list.iterator();
+        Iterator<?> other = ((List<?>) o).iterator();
+        while (it.hasNext() && other.hasNext()) {
+            if (!Objects.equals(it.next(), other.next()))
+                return false;
+        }
+        return !(it.hasNext() || other.hasNext());
+    }
+
+    //copy once so that moving backwards does not walk the list from the head for every get(i)
+    static <T> ListIterator<T> listIterator(List<T> list, int index) {
+        return Collections.unmodifiableList(new ArrayList<>(list))
+                          .listIterator(index);
+    }
+}
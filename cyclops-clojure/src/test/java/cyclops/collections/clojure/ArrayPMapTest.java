@@ -1,8 +1,13 @@
 package cyclops.collections.clojure;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 
@@ -45,4 +50,32 @@ public class ArrayPMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+
+    @Test
+    public void views(){
+        PersistentMapX<Integer,String> map = test.plus(2,"world");
+        PersistentMapX<Integer,String> expected = org.plus(2,"world");
+        assertThat(map.size(),equalTo(2));
+        assertFalse(map.isEmpty());
+        assertTrue(test.minus(1).isEmpty());
+        assertTrue(map.containsKey(2));
+        assertFalse(map.containsKey(3));
+        assertTrue(map.containsValue("world"));
+        assertFalse(map.containsValue("other"));
+        assertThat(map.keySet(),equalTo(expected.keySet()));
+        assertTrue(map.keySet().contains(1));
+        assertThat(new ArrayList<>(map.values()),hasItems("hello","world"));
+        assertTrue(map.values().contains("hello"));
+        assertThat(map.entrySet(),equalTo(expected.entrySet()));
+        assertTrue(map.entrySet().contains(new AbstractMap.SimpleEntry<>(2,"world")));
+        assertFalse(map.entrySet().contains(new AbstractMap.SimpleEntry<>(2,"hello")));
+        assertThat(map,equalTo(expected));
+    }
+    @Test
+    public void plusAllTransient(){
+        assertThat(org.plusAll(MapXs.of(2, "world", 3, "!")),
+                   equalTo(test.plusAll(MapXs.of(2, "world", 3, "!"))));
+        assertThat(org.plusAll(MapXs.of(2, "world", 3, "!")).minusAll(Arrays.asList(1,3)),
+                   equalTo(test.plusAll(MapXs.of(2, "world", 3, "!")).minusAll(Arrays.asList(1,3))));
+    }
 }
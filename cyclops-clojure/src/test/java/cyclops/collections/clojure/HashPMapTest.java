@@ -1,12 +1,21 @@
 package cyclops.collections.clojure;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import cyclops.collections.immutable.PersistentMapX;
 import cyclops.companion.MapXs;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import org.jooq.lambda.tuple.Tuple;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -44,4 +53,49 @@ public class HashPMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+
+    @Test
+    public void views(){
+        PersistentMapX<Integer,String> map = test.plus(2,"world");
+        PersistentMapX<Integer,String> expected = org.plus(2,"world");
+        assertThat(map.size(),equalTo(2));
+        assertFalse(map.isEmpty());
+        assertTrue(test.minus(1).isEmpty());
+        assertTrue(map.containsKey(2));
+        assertFalse(map.containsKey(3));
+        assertTrue(map.containsValue("world"));
+        assertFalse(map.containsValue("other"));
+        assertThat(map.keySet(),equalTo(expected.keySet()));
+        assertTrue(map.keySet().contains(1));
+        assertThat(new ArrayList<>(map.values()),hasItems("hello","world"));
+        assertTrue(map.values().contains("hello"));
+        assertThat(map.entrySet(),equalTo(expected.entrySet()));
+        assertTrue(map.entrySet().contains(new AbstractMap.SimpleEntry<>(2,"world")));
+        assertFalse(map.entrySet().contains(new AbstractMap.SimpleEntry<>(2,"hello")));
+        assertThat(map,equalTo(expected));
+    }
+    @Test
+    public void plusAllTransient(){
+        assertThat(org.plusAll(MapXs.of(2, "world", 3, "!")),
+                   equalTo(test.plusAll(MapXs.of(2, "world", 3, "!"))));
+        assertThat(org.plusAll(MapXs.of(1, "world")),
+                   equalTo(test.plusAll(MapXs.of(1, "world"))));
+    }
+    @Test
+    public void largeMap(){
+        PersistentMapX<Integer,Integer> map = ClojureHashMapX.fromStream(ReactiveSeq.range(0, 1_000_000)
+                                                                                 .map(i -> Tuple.tuple(i, i * 2)));
+        assertThat(map.size(),equalTo(1_000_000));
+        assertThat(map.getOrDefault(999_999, -1),equalTo(1_999_998));
+        assertThat(ClojureHashMapX.copyFromMap(map),equalTo(map));
+        assertThat(map.minusAll(ListX.range(0, 500_000)).size(),equalTo(500_000));
+    }
+    @Test
+    public void collectorParallel(){
+        PersistentMapX<Integer,Integer> map = IntStream.range(0, 10_000).boxed().parallel()
+                                                       .map(i -> Tuple.tuple(i, i * 2))
+                                                       .collect(ClojureHashMapX.persistentMapXCollector());
+        assertThat(map.size(),equalTo(10_000));
+        assertThat(map.getOrDefault(9_999, -1),equalTo(19_998));
+    }
 }
@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import cyclops.collections.immutable.PersistentQueueX;
 import org.junit.Before;
@@ -61,5 +64,10 @@ public class PQueueTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray(),
                    equalTo(test.plusAll(ClojureQueueX.of(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray()));
     }
-   
+    @Test
+    public void pQueueCollector(){
+        PQueue<Integer> queue = IntStream.range(0, 10_000).boxed().parallel()
+                                         .collect(ClojureQueueX.pQueueCollector());
+        assertThat(new ArrayList<>(queue),equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+    }
 }
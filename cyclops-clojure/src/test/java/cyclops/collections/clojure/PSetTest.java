@@ -4,7 +4,12 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import cyclops.collections.immutable.PersistentSetX;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.HashTreePSet;
@@ -54,5 +59,24 @@ public class PSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)),
                    equalTo(test.plusAll(ClojureHashSetX.of(1,2,3)).plusAll(Arrays.asList(5,6,7))));
     }
-   
+    @Test
+    public void minusAllTransient(){
+        assertThat(org.plusAll(Arrays.asList(1,2,3,4)).minusAll(Arrays.asList(2,4,5)),
+                   equalTo(test.plusAll(Arrays.asList(1,2,3,4)).minusAll(Arrays.asList(2,4,5))));
+        assertThat(test.minusAll(Arrays.asList()),equalTo(test));
+    }
+    @Test
+    public void largeSet(){
+        PersistentSetX<Integer> set = ClojureHashSetX.fromStream(ReactiveSeq.range(0, 1_000_000))
+                                                    .materialize();
+        assertThat(set.size(),equalTo(1_000_000));
+        assertThat(ClojureHashSetX.copyFromCollection(ListX.range(0, 1_000_000)),equalTo(set));
+        assertThat(set.minusAll(ListX.range(0, 500_000)).size(),equalTo(500_000));
+    }
+    @Test
+    public void pSetCollector(){
+        PSet<Integer> set = IntStream.range(0, 10_000).boxed().parallel()
+                                     .collect(ClojureHashSetX.pSetCollector());
+        assertThat(set,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toSet())));
+    }
 }
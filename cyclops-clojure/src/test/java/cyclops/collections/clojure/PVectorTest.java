@@ -1,10 +1,19 @@
 package cyclops.collections.clojure;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
 
+import clojure.lang.PersistentVector;
+
+import java.util.stream.Stream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import cyclops.collections.immutable.VectorX;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.PVector;
@@ -50,6 +59,15 @@ public class PVectorTest {
         
     }
     
+    @Test
+    public void unwrapAfterSubList(){
+        ClojureVectorX<Integer> vec = ClojureVectorX.fromVector(PersistentVector.create(1,2,3,4));
+        assertThat(vec.unwrap(),instanceOf(PersistentVector.class));
+        assertThat(vec.subList(1,3).unwrap(),instanceOf(PersistentVector.class));
+        assertThat(vec.subList(1,3).<PersistentVector>unwrap(),equalTo(PersistentVector.create(2,3)));
+        assertThat(vec.tail().<PersistentVector>unwrap(),equalTo(PersistentVector.create(2,3,4)));
+    }
+
     @Test
     public void subList(){
         
@@ -62,4 +80,76 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void plusAllTransient(){
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(4,5,6)),
+                   equalTo(test.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(4,5,6))));
+        assertThat(test.plusAll(Arrays.asList()),equalTo(test));
+    }
+    @Test
+    public void toPVectorMapReduce(){
+        PVector<Integer> vec = ClojureVectorX.<Integer>toPVector().mapReduce(Stream.of(1,2,3));
+        assertThat(vec,equalTo(Arrays.asList(1,2,3)));
+    }
+    @Test
+    public void largeVector(){
+        VectorX<Integer> vec = ClojureVectorX.fromStream(ReactiveSeq.range(0, 1_000_000))
+                                             .materialize();
+        assertThat(vec.size(),equalTo(1_000_000));
+        assertThat(vec.get(999_999),equalTo(999_999));
+        VectorX<Integer> copy = ClojureVectorX.copyFromCollection(ListX.range(0, 1_000_000));
+        assertThat(copy,equalTo(vec));
+    }
+    @Test
+    public void pVectorCollector(){
+        PVector<Integer> vec = IntStream.range(0, 10_000).boxed().parallel()
+                                        .collect(ClojureVectorX.pVectorCollector());
+        assertThat(vec,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+        assertThat(ClojureVectorX.<Integer>toPVector().mapReduce(Stream.of(1,2,3)),equalTo(Arrays.asList(1,2,3)));
+    }
+    @Test
+    public void positionalEdits(){
+        PVector<Integer> o = org.plusAll(Arrays.asList(1,2,3,4,5,6));
+        PVector<Integer> c = ClojureVectorX.<Integer>emptyPVector().plusAll(Arrays.asList(1,2,3,4,5,6));
+        for(int i=0;i<=6;i++){
+            assertThat(o.plus(i,10),equalTo(c.plus(i,10)));
+            assertThat(o.plusAll(i,Arrays.asList(7,8,9)),equalTo(c.plusAll(i,Arrays.asList(7,8,9))));
+        }
+        for(int i=0;i<6;i++){
+            assertThat(o.minus(i),equalTo(c.minus(i)));
+            assertThat(o.with(i,10),equalTo(c.with(i,10)));
+        }
+    }
+    @Test
+    public void subListShared(){
+        PVector<Integer> o = org.plusAll(Arrays.asList(1,2,3,4,5,6));
+        PVector<Integer> c = ClojureVectorX.<Integer>emptyPVector().plusAll(Arrays.asList(1,2,3,4,5,6));
+        PVector<Integer> sub = c.subList(1,4);
+        assertThat(sub,equalTo(o.subList(1,4)));
+        assertThat(sub.subList(1,3),equalTo(o.subList(2,4)));
+        assertThat(sub.plus(10),equalTo(o.subList(1,4).plus(10)));
+        assertThat(sub.plus(1,10),equalTo(o.subList(1,4).plus(1,10)));
+        assertThat(sub.minus(0),equalTo(o.subList(1,4).minus(0)));
+        assertThat(sub.with(2,10),equalTo(o.subList(1,4).with(2,10)));
+        assertThat(sub.plusAll(Arrays.asList(8,9)),equalTo(o.subList(1,4).plusAll(Arrays.asList(8,9))));
+        assertThat(c,equalTo(o));
+    }
+    @Test
+    public void tail(){
+        ClojureVectorX<Integer> c = ClojureVectorX.<Integer>emptyPVector().plusAll(Arrays.asList(1,2,3));
+        assertThat(c.tail(),equalTo(Arrays.asList(2,3)));
+        assertThat(c.tail().tail().tail(),equalTo(Arrays.asList()));
+        assertThat(c.tail().head(),equalTo(2));
+    }
+    @Test
+    public void positionalEditsLarge(){
+        PVector<Integer> c = ClojureVectorX.<Integer>emptyPVector().plusAll(IntStream.range(0, 500_000).boxed().collect(Collectors.toList()));
+        PVector<Integer> removed = c.minus(250_000);
+        assertThat(removed.size(),equalTo(499_999));
+        assertThat(removed.get(250_000),equalTo(250_001));
+        PVector<Integer> inserted = c.plus(499_990,-1);
+        assertThat(inserted.get(499_990),equalTo(-1));
+        assertThat(inserted.get(499_991),equalTo(499_990));
+        assertThat(c.subList(100_000,100_010).get(9),equalTo(100_009));
+    }
 }
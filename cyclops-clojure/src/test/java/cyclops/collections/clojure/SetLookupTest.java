@@ -0,0 +1,26 @@
+package cyclops.collections.clojure;
+
+import clojure.lang.RT;
+import cyclops.collections.AbstractSetLookupTest;
+import org.junit.BeforeClass;
+
+import java.util.List;
+import java.util.Set;
+
+public class SetLookupTest extends AbstractSetLookupTest {
+    @BeforeClass
+    public static void bootstrap() throws Exception {
+        //initialising PersistentTreeSet ahead of the Clojure runtime breaks clojure.core loading
+        RT.load("clojure/core");
+    }
+
+    @Override
+    public Set<Key> hashSet(List<Key> keys) {
+        return ClojureHashSetX.<Key>empty().plusAll(keys);
+    }
+
+    @Override
+    public Set<Key> sortedSet(List<Key> keys) {
+        return ClojureTreeSetX.<Key>empty().plusAll(keys);
+    }
+}
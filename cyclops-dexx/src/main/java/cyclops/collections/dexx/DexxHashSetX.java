@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -134,8 +135,19 @@ public class DexxHashSetX<T> extends AbstractSet<T>implements PSet<T>, Unwrapabl
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(DexxHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                    (final T x) -> DexxHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(DexxHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                    (final T x) -> DexxHashSetX.singleton(x)),
+                                 pSetCollector());
+    }
+
+    /**
+     * @return Collector that adds each element to a Dexx Set builder
+     */
+    public static <T> Collector<T, ?, PSet<T>> pSetCollector() {
+        return Collector.<T, Builder<T, Set<T>>, PSet<T>>of(Sets::builder, Builder::add,
+                                                           (a, b) -> a.addAll(b.build().iterator()),
+                                                           b -> new DexxHashSetX<>(b.build()),
+                                                           Collector.Characteristics.UNORDERED);
     }
 
     public static <T> DexxHashSetX<T> fromSet(Set<T> set) {
@@ -227,6 +239,20 @@ public class DexxHashSetX<T> extends AbstractSet<T>implements PSet<T>, Unwrapabl
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T)o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -27,8 +28,6 @@ import com.github.andrewoma.dexx.collection.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 
-import lombok.experimental.Wither;
-
 
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -36,7 +35,7 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
     public static <T> LinkedListX<T> listX(ReactiveSeq<T> stream){
         return fromStream(stream);
     }
-    static final FoldToList gen = (it, i)-> DexxListX.from(from(it,i));
+    static final FoldToList gen = (it, i)-> DexxListX.from(from(it));
     public static <T> LazyLinkedListX<T> from(List<T> q) {
         return fromPStack(new DexxListX<>(q), toPStack());
     }
@@ -47,15 +46,15 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
 
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
 
-        return PStack(from(vec.iterator(),0));
+        return PStack(from(vec.iterator()));
 
     }
-    private static <E> List<E> from(final Iterator<E> i, int depth) {
+    private static <E> List<E> from(final Iterator<E> i) {
 
-        if(!i.hasNext())
-            return ConsList.empty();
-        E e = i.next();
-        return  from(i,depth++).prepend(e);
+        Builder<E, ConsList<E>> lb = ConsList.<E>factory().newBuilder();
+        while (i.hasNext())
+            lb.add(i.next());
+        return lb.build();
     }
     /**
      * Create a LazyLinkedListX from a Stream
@@ -150,8 +149,27 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(DexxListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxListX.singleton(x));
+        return BuilderReducer.of(Reducer.<PStack<T>> of(DexxListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> DexxListX.singleton(x)),
+                                 pStackCollector());
+    }
+
+    /**
+     * Collector with the same semantics as {@link #toPStack()}, each element is prepended in turn.
+     * Elements are buffered and the Dexx list built once they have all been collected.
+     *
+     * @return Collector for PStack
+     */
+    public static <T> Collector<T, ?, PStack<T>> pStackCollector() {
+        return Collector.<T, ArrayList<T>, PStack<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            List<T> list = ConsList.empty();
+            for (T next : buffer)
+                list = list.prepend(next);
+            return new DexxListX<>(list, buffer.size());
+        });
     }
 
     public static <T> DexxListX<T> fromList(List<T> list) {
@@ -162,18 +180,18 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
     public static <T> DexxListX<T> emptyPStack() {
 
         return new DexxListX<>(
-                                ConsList.empty());
+                                ConsList.empty(), 0);
     }
 
     public static <T> LazyLinkedListX<T> empty() {
-        return fromPStack(new DexxListX<>(ConsList.empty()),
+        return fromPStack(new DexxListX<>(ConsList.empty(), 0),
                                       toPStack());
     }
 
     public static <T> LazyLinkedListX<T> singleton(T t) {
         List<T> result = ConsList.empty();
         return fromPStack(new DexxListX<>(
-                                                        result.prepend(t)),
+                                                        result.prepend(t), 1),
                                       toPStack());
     }
 
@@ -184,7 +202,7 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
             lb.add(next);
         List<T> vec = lb.build();
         return fromPStack(new DexxListX<>(
-                                                        vec),
+                                                        vec, t.length),
                                       toPStack());
     }
 
@@ -203,12 +221,21 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
         return fromPStack(of(elements), toPStack());
     }
 
-    @Wither
     private final List<T> list;
+    //ConsList.size() walks the list, so the size is tracked alongside it
+    private final int size;
+
+    private DexxListX(List<T> list){
+        this(list, list.size());
+    }
+
+    private DexxListX<T> withList(List<T> list, int size){
+        return new DexxListX<>(list, size);
+    }
 
     @Override
     public DexxListX<T> plus(T e) {
-        return withList(list.prepend(e));
+        return withList(list.prepend(e), size + 1);
     }
 
     @Override
@@ -218,61 +245,99 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
             vec = vec.prepend(next);
         }
 
-        return withList(vec);
+        return withList(vec, size + l.size());
     }
 
     @Override
     public DexxListX<T> with(int i, T e) {
-        if (i < 0 || i > size())
+        if (i < 0 || i >= size)
             throw new IndexOutOfBoundsException(
-                                                "Index " + i + " is out of bounds - size : " + size());
+                                                "Index " + i + " is out of bounds - size : " + size);
         
-        return withList(list.set(i, e));
+        return splice(i, 1, Collections.singletonList(e));
+    }
+
+    /**
+     * Replace the elements at each of the supplied indices, walking the prefix of the list once up to the
+     * largest index rather than once per update
+     *
+     * <pre>
+     * {@code
+     *  Map<Integer,Integer> updates = new HashMap<>();
+     *  updates.put(0,10);
+     *  updates.put(3,40);
+     *  DexxListX.fromList(list).withAll(updates);
+     *  //list [1,2,3,4] becomes [10,2,3,40]
+     * }
+     * </pre>
+     *
+     * @param updates Map from index to the replacement value
+     * @return List with every update applied
+     */
+    public DexxListX<T> withAll(Map<Integer, ? extends T> updates) {
+        if (updates.isEmpty())
+            return this;
+        int max = -1;
+        for (Integer i : updates.keySet()) {
+            if (i < 0 || i >= size)
+                throw new IndexOutOfBoundsException(
+                                                    "Index " + i + " is out of bounds - size : " + size);
+            max = Math.max(max, i);
+        }
+        Object[] prefix = new Object[max + 1];
+        List<T> rest = list;
+        for (int i = 0; i <= max; i++) {
+            prefix[i] = updates.containsKey(i) ? updates.get(i) : rest.first();
+            rest = rest.tail();
+        }
+        for (int i = max; i >= 0; i--)
+            rest = rest.prepend((T) prefix[i]);
+        return withList(rest, size);
     }
 
     @Override
     public DexxListX<T> plus(int i, T e) {
-        if (i < 0 || i > size())
+        if (i < 0 || i > size)
             throw new IndexOutOfBoundsException(
-                                                "Index " + i + " is out of bounds - size : " + size());
+                                                "Index " + i + " is out of bounds - size : " + size);
         if (i == 0)
-            return withList(list.prepend(e));
-        
-        if (i == size()) {
+            return plus(e);
 
-            return withList(list.append(e));
-        }
- 
-        return withList(prependAll(list.drop(i),list.take(i).prepend(e)));
-       
-
-    }
-    private List<T> prependAll(List<T> list,Iterable<T>... its) {
-         List<T> result = list;
-         for(Iterable<T> toprepend : its) {
-             for(T next : toprepend){
-                 result = result.prepend(next);
-             }
-         }
-         return result;
-    }
-    private List<T> prependCol(List<T> list,Collection<T> toprepend) {
-        List<T> result = list;
-        for(T next : toprepend){
-            result = result.prepend(next);
-        }
-        return result;
-   }
+        return splice(i, 0, Collections.singletonList(e));
+    }
 
     @Override
     public DexxListX<T> plusAll(int i, Collection<? extends T> l) {
 
-        if (i < 0 || i > size())
+        if (i < 0 || i > size)
             throw new IndexOutOfBoundsException(
-                                                "Index " + i + " is out of bounds - size : " + size());
-        
-        return withList(prependAll(list.drop(i),(Collection<T>)l,list.take(i)));
-        
+                                                "Index " + i + " is out of bounds - size : " + size);
+        if (i == 0)
+            return plusAll(l);
+        //as with plusAll(Collection), each element is prepended in turn at the insertion point
+        java.util.List<T> reversed = new ArrayList<>(l);
+        Collections.reverse(reversed);
+        return splice(i, 0, reversed);
+    }
+
+    /*
+     * Walk the first i nodes once, drop the next remove nodes and re-link the prefix over the inserted elements
+     */
+    private DexxListX<T> splice(int i, int remove, Collection<? extends T> insert) {
+        Object[] prefix = new Object[i];
+        List<T> rest = list;
+        for (int n = 0; n < i; n++) {
+            prefix[n] = rest.first();
+            rest = rest.tail();
+        }
+        for (int n = 0; n < remove; n++)
+            rest = rest.tail();
+        Object[] inserted = insert.toArray();
+        for (int n = inserted.length - 1; n >= 0; n--)
+            rest = rest.prepend((T) inserted[n]);
+        for (int n = i - 1; n >= 0; n--)
+            rest = rest.prepend((T) prefix[n]);
+        return withList(rest, size - remove + inserted.length);
     }
 
     @Override
@@ -289,37 +354,34 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
     }
 
     public DexxListX<T> tail() {
-        return withList(list.tail());
+        return withList(list.tail(), size - 1);
     }
 
     public T head() {
-        return list.get(0);
+        return list.first();
     }
 
     @Override
     public PStack<T> minus(int i) {
 
-        if (i < 0 || i > size())
+        if (i < 0 || i > size)
             throw new IndexOutOfBoundsException(
-                                                "Index " + i + " is out of bounds - size : " + size());
+                                                "Index " + i + " is out of bounds - size : " + size);
+        if (i == size)
+            return this;
         if (i == 0)
-            return withList(list.drop(1));
-/**
-        if (i == size() - 1)
-           return fromPStack(this, toPStack()).dropRight(1).materialize();
-**/
-        return fromPStack(this,toPStack())
-                          .zipWithIndex()
-                          .filter(t->t.v2.intValue()!=i)
-                          .map(t->t.v1).materialize();
+            return tail();
+
+        return splice(i, 1, Collections.emptyList());
       
     }
 
     @Override
     public DexxListX<T> subList(int start, int end) {
 
+        int from = Math.max(0, Math.min(start, size));
         return withList(list.drop(start)
-                            .take(end - start));
+                            .take(end - start), Math.max(0, Math.min(end - start, size - from)));
     }
 
     @Override
@@ -327,14 +389,44 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
         return list.get(index);
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return LinearLists.listIterator(this, index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinearLists.indexOf(this, o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinearLists.lastIndexOf(this, o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinearLists.equals(this, o);
+    }
+
     @Override
     public int size() {
-        return list.size();
+        return size;
     }
 
     @Override
     public DexxListX<T> subList(int start) {
-        return withList(list.drop(start));
+        return withList(list.drop(start), size - Math.max(0, Math.min(start, size)));
     }
 
     
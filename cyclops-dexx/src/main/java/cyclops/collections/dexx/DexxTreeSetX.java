@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -148,14 +149,27 @@ public class DexxTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>>  Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxTreeSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> DexxTreeSetX.singleton(x)),
+                                 pOrderedSetCollector(Comparator.<T>naturalOrder()));
     }
     
     public static <T>  Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(ordering),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(ordering),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxTreeSetX.singleton(ordering,x));
+                                      (final T x) -> DexxTreeSetX.singleton(ordering,x)),
+                                 pOrderedSetCollector(ordering));
+    }
+
+    /**
+     * @param ordering Comparator for the TreeSet
+     * @return Collector that adds each element to a Dexx TreeSet builder
+     */
+    public static <T> Collector<T, ?, POrderedSet<T>> pOrderedSetCollector(Comparator<T> ordering) {
+        return Collector.<T, Builder<T, TreeSet<T>>, POrderedSet<T>>of(() -> TreeSet.factory(ordering).newBuilder(), Builder::add,
+                                                                      (a, b) -> a.addAll(b.build().iterator()),
+                                                                      b -> new DexxTreeSetX<>(b.build()),
+                                                                      Collector.Characteristics.UNORDERED);
     }
 
     public static <T> DexxTreeSetX<T> fromSet(TreeSet<T> set) {
@@ -271,6 +285,20 @@ public class DexxTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T)o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
@@ -278,12 +306,18 @@ public class DexxTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
 
     @Override
     public T get(int index) {
-        return set.toIndexedList().get(index);
+        if (index < 0 || index >= set.size())
+            throw new IndexOutOfBoundsException(
+                                                "Index " + index + " is out of bounds - size : " + set.size());
+        //the red black tree tracks subtree sizes, so drop(index) is a log(n) walk
+        return set.drop(index).first();
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toIndexedList().indexOf((T)o);
+        if (!contains(o))
+            return -1;
+        return set.to((T)o, false).size();
     }
 
    
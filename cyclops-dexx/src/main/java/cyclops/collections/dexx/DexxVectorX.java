@@ -2,11 +2,13 @@ package cyclops.collections.dexx;
 
 import java.util.AbstractList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -135,7 +137,20 @@ public class DexxVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(DexxVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> DexxVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(DexxVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> DexxVectorX.singleton(x)),
+                                 pVectorCollector());
+    }
+
+    /**
+     * Each chunk of a parallel Stream is appended to its own builder, Dexx has no Vector concatenation so partial
+     * results are joined by appending the right chunk to the left builder
+     *
+     * @return Collector that appends each element to a Dexx Vector builder
+     */
+    public static <T> Collector<T, ?, PVector<T>> pVectorCollector() {
+        return Collector.<T, Builder<T, Vector<T>>, PVector<T>>of(DexxVectorX::builder, Builder::add,
+                                                                 (a, b) -> a.addAll(b.build().iterator()),
+                                                                 b -> new DexxVectorX<>(b.build()));
     }
     public static <T> Builder<T,Vector<T>> builder(){
         return Vector.<T>factory().newBuilder();
@@ -189,21 +204,32 @@ public class DexxVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
 
     @Override
     public DexxVectorX<T> plusAll(Collection<? extends T> list) {
-        Vector<T> vec = vector;
-        for(T next :  list){
-            vec = vec.append(next);
-        }
-        return withVector(vec);
+        if(list.isEmpty())
+            return this;
+        return withVector(appendAll(vector, list, list.size()));
      }
  
     private PVector<T> plusAllVec(Vector<? extends T> list) {
-        Vector<T> vec = vector;
-        for(T next :  list){
-            vec = vec.append(next);
-        }
-        return withVector(vec);
+        return withVector(appendAll(vector, list, list.size()));
      }
 
+    /*
+     * Dexx has no Vector concatenation and each append copies the tail block, so unless the addition is
+     * much smaller than the Vector it is cheaper to rebuild both into a single VectorBuilder
+     */
+    private static <T> Vector<T> appendAll(Vector<T> vec, Iterable<? extends T> list, int size){
+        if(size < (vec.size() >>> 4)){
+            for(T next :  list){
+                vec = vec.append(next);
+            }
+            return vec;
+        }
+        return DexxVectorX.<T>builder()
+                          .addAll(vec.iterator())
+                          .addAll((Iterator<T>)list.iterator())
+                          .build();
+    }
+
     @Override
     public DexxVectorX<T> with(int i, T e) {
         return withVector(vector.set(i,e));
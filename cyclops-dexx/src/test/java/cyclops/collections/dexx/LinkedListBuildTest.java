@@ -0,0 +1,25 @@
+package cyclops.collections.dexx;
+
+import cyclops.collections.AbstractLinkedListBuildTest;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.pcollections.PStack;
+
+public class LinkedListBuildTest extends AbstractLinkedListBuildTest {
+    @Override
+    public LinkedListX<Integer> copyFromCollection(ListX<Integer> values) {
+        return DexxListX.copyFromCollection(values);
+    }
+
+    @Override
+    public LinkedListX<Integer> fromStream(ReactiveSeq<Integer> values) {
+        return DexxListX.fromStream(values);
+    }
+
+    @Override
+    public Reducer<PStack<Integer>> toPStack() {
+        return DexxListX.toPStack();
+    }
+}
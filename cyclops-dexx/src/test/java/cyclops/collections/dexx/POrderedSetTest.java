@@ -4,6 +4,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +53,34 @@ public class POrderedSetTest {
         
         
     }
-    
-   
+    @Test
+    public void getIndexOf(){
+        POrderedSet<Integer> set = test.plusAll(Arrays.asList(50,10,40,20,30));
+        assertThat(set.get(0),equalTo(10));
+        assertThat(set.get(4),equalTo(50));
+        assertThat(set.indexOf(10),equalTo(0));
+        assertThat(set.indexOf(40),equalTo(3));
+        assertThat(set.indexOf(35),equalTo(-1));
+    }
+    @Test
+    public void getIndexOfLarge(){
+        POrderedSet<Integer> set = test;
+        for(int i=0;i<100_000;i++)
+            set = set.plus(i*2);
+        for(int i=0;i<100_000;i+=997){
+            assertThat(set.get(i),equalTo(i*2));
+            assertThat(set.indexOf(i*2),equalTo(i));
+            assertThat(set.indexOf(i*2+1),equalTo(-1));
+        }
+    }
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getOutOfBounds(){
+        test.plusAll(Arrays.asList(1,2,3)).get(3);
+    }
+    @Test
+    public void pOrderedSetCollector(){
+        POrderedSet<Integer> set = IntStream.range(0, 10_000).map(i -> 9_999 - i).boxed().parallel()
+                                            .collect(DexxTreeSetX.pOrderedSetCollector(Comparator.<Integer>naturalOrder()));
+        assertThat(new ArrayList<>(set),equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+    }
 }
@@ -4,6 +4,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +51,10 @@ public class PSetTest {
         
         
     }
-    
-   
+    @Test
+    public void pSetCollector(){
+        PSet<Integer> set = IntStream.range(0, 10_000).boxed().parallel()
+                                     .collect(DexxHashSetX.pSetCollector());
+        assertThat(set,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toSet())));
+    }
 }
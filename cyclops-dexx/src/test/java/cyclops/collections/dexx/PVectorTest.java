@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -62,4 +65,30 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void pVectorCollector(){
+        PVector<Integer> vec = IntStream.range(0, 10_000).boxed().parallel()
+                                        .collect(DexxVectorX.pVectorCollector());
+        assertThat(vec,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+        assertThat(DexxVectorX.<Integer>toPVector().mapReduce(Stream.of(1,2,3)),equalTo(Arrays.asList(1,2,3)));
+    }
+    @Test
+    public void pVectorCollectorLarge(){
+        PVector<Integer> vec = IntStream.range(0, 1_000_000).boxed().parallel()
+                                        .collect(DexxVectorX.pVectorCollector());
+        assertThat(vec.size(),equalTo(1_000_000));
+        for(int i=0;i<1_000_000;i+=997)
+            assertThat(vec.get(i),equalTo(i));
+        assertThat(vec.get(999_999),equalTo(999_999));
+    }
+    @Test
+    public void plusAllConcat(){
+        PVector<Integer> small = DexxVectorX.<Integer>emptyPVector().plusAll(Arrays.asList(1,2,3));
+        PVector<Integer> large = DexxVectorX.<Integer>emptyPVector().plusAll(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+        assertThat(large.plusAll(small).subList(9_999,10_003),equalTo(Arrays.asList(9_999,1,2,3)));
+        assertThat(small.plusAll(large).subList(0,5),equalTo(Arrays.asList(1,2,3,0,1)));
+        assertThat(small.plusAll(large).size(),equalTo(10_003));
+        assertThat(large.plusAll(Arrays.asList()),equalTo(large));
+        assertThat(small.plusAll(2,Arrays.asList(8,9)),equalTo(Arrays.asList(1,2,8,9,3)));
+    }
 }
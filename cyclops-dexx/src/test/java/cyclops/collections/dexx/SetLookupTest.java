@@ -0,0 +1,18 @@
+package cyclops.collections.dexx;
+
+import cyclops.collections.AbstractSetLookupTest;
+
+import java.util.List;
+import java.util.Set;
+
+public class SetLookupTest extends AbstractSetLookupTest {
+    @Override
+    public Set<Key> hashSet(List<Key> keys) {
+        return DexxHashSetX.<Key>empty().plusAll(keys);
+    }
+
+    @Override
+    public Set<Key> sortedSet(List<Key> keys) {
+        return DexxTreeSetX.<Key>empty().plusAll(keys);
+    }
+}
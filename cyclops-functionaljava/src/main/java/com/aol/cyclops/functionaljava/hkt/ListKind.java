@@ -6,6 +6,7 @@ import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 
 import com.aol.cyclops2.hkt.Higher;
@@ -31,8 +32,6 @@ import fj.data.TreeMap;
 import fj.data.Validation;
 import fj.data.vector.V2;
 import fj.function.Effect1;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 
 /**
  * Simulates Higher Kinded Types for List's
@@ -43,7 +42,6 @@ import lombok.AllArgsConstructor;
  *
  * @param <T> Data type stored within the List
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public  class ListKind<T> implements Higher<list, T> {
 
     public Active<list,T> allTypeclasses(){
@@ -56,14 +54,14 @@ public  class ListKind<T> implements Higher<list, T> {
                 completableList);
     }
     public <W2,R> Nested<list,W2,R> mapM(Function<? super T,? extends Higher<W2,R>> fn, InstanceDefinitions<W2> defs){
-        return Lists.mapM(boxed,fn,defs);
+        return Lists.mapM(narrow(),fn,defs);
     }
 
     public <W extends WitnessType<W>> ListT<W, T> liftM(W witness) {
-        return ListT.of(witness.adapter().unit(ListX.fromIterable(boxed)));
+        return ListT.of(witness.adapter().unit(ListX.fromIterable(narrow())));
     }
     public <R> ListKind<R> fold(Function<? super List<?  super T>,? extends List<R>> op){
-        return widen(op.apply(boxed));
+        return widen(op.apply(narrow()));
     }
     public static <T> ListKind<T> list(final T... values) {
         
@@ -116,11 +114,11 @@ public  class ListKind<T> implements Higher<list, T> {
 
 
     public Array<T> toArray(Class<T[]> c) {
-        return boxed.toArray(c);
+        return narrow().toArray(c);
     }
 
     public T[] array(Class<T[]> c) {
-        return boxed.array(c);
+        return narrow().array(c);
     }
 
     public static <A, B, C> F<List<A>, F<List<B>, List<C>>> liftM2(F<A, F<B, C>> f) {
@@ -128,7 +126,7 @@ public  class ListKind<T> implements Higher<list, T> {
     }
 
     public <E, B> Validation<E, List<B>> traverseValidation(Semigroup<E> s, F<T, Validation<E, B>> f) {
-        return boxed.traverseValidation(s, f);
+        return narrow().traverseValidation(s, f);
     }
 
     public static <A, B, C> F<List<A>, F<List<B>, F<F<A, F<B, C>>, List<C>>>> zipWith() {
@@ -152,11 +150,11 @@ public  class ListKind<T> implements Higher<list, T> {
     }
 
     public Option<T> maximumOption(Ord<T> o) {
-        return boxed.maximumOption(o);
+        return narrow().maximumOption(o);
     }
 
     public Option<T> minimumOption(Ord<T> o) {
-        return boxed.minimumOption(o);
+        return narrow().minimumOption(o);
     }
 
     @SafeVarargs
@@ -295,20 +293,55 @@ public  class ListKind<T> implements Higher<list, T> {
     }
 
     public void forEach(Consumer<? super T> action) {
-        boxed.forEach(action);
+        narrow().forEach(action);
     }
 
     public Spliterator<T> spliterator() {
-        return boxed.spliterator();
+        return narrow().spliterator();
     }
 
-    private final List<T> boxed;
+    private final List<?> source;
+    private final Fused steps;
+    private volatile List<T> boxed;
+
+    private ListKind(List<T> boxed) {
+        this.source = boxed;
+        this.steps = null;
+        this.boxed = boxed;
+    }
+
+    private ListKind(List<?> source, Fused steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * @return ListKind with fn pending until {@link #narrow()}
+     */
+    public <R> ListKind<R> fusedMap(Function<? super T, ? extends R> fn) {
+        return new ListKind<>(source, Fused.map(steps, fn));
+    }
+
+    /**
+     * @return ListKind with predicate pending until {@link #narrow()}
+     */
+    public ListKind<T> fusedFilter(Predicate<? super T> predicate) {
+        return new ListKind<>(source, Fused.filter(steps, predicate));
+    }
 
     /**
-     * @return This back as a ListX
+     * @return This back as a ListX, with any pending map / filter steps applied in a single pass
      */
     public List<T> narrow() {
-        return (List) (boxed);
+        List<T> result = boxed;
+        if (result == null) {
+            synchronized (this) {
+                result = boxed;
+                if (result == null)
+                    boxed = result = steps.filters ? List.iterableList(steps.<T>apply(source)) : (List) source.map(steps.fn()::apply);
+            }
+        }
+        return result;
     }
     
     /**
@@ -316,21 +349,21 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#iterator()
      */
     public final Iterator<T> iterator() {
-        return boxed.iterator();
+        return narrow().iterator();
     }
     /**
      * @return
      * @see fj.data.List#head()
      */
     public T head() {
-        return boxed.head();
+        return narrow().head();
     }
     /**
      * @return
      * @see fj.data.List#tail()
      */
     public List<T> tail() {
-        return boxed.tail();
+        return narrow().tail();
     }
     
     /**
@@ -338,21 +371,21 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#length()
      */
     public final int length() {
-        return boxed.length();
+        return narrow().length();
     }
     /**
      * @return
      * @see fj.data.List#isEmpty()
      */
     public final boolean isEmpty() {
-        return boxed.isEmpty();
+        return narrow().isEmpty();
     }
     /**
      * @return
      * @see fj.data.List#isNotEmpty()
      */
     public final boolean isNotEmpty() {
-        return boxed.isNotEmpty();
+        return narrow().isNotEmpty();
     }
     /**
      * @param nil
@@ -362,7 +395,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#list(java.lang.Object, fj.F)
      */
     public final <B> B list(B nil, F<T, F<List<T>, B>> cons) {
-        return boxed.list(nil, cons);
+        return narrow().list(nil, cons);
     }
     /**
      * @param cons
@@ -371,7 +404,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#uncons(fj.F2, java.lang.Object)
      */
     public final <B> B uncons(F2<T, List<T>, B> cons, B nil) {
-        return boxed.uncons(cons, nil);
+        return narrow().uncons(cons, nil);
     }
     /**
      * @param a
@@ -379,7 +412,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#orHead(fj.F0)
      */
     public final T orHead(F0<T> a) {
-        return boxed.orHead(a);
+        return narrow().orHead(a);
     }
     /**
      * @param as
@@ -387,7 +420,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#orTail(fj.F0)
      */
     public final List<T> orTail(F0<List<T>> as) {
-        return boxed.orTail(as);
+        return narrow().orTail(as);
     }
     /**
      * @return
@@ -395,14 +428,14 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#toOption()
      */
     public final Option<T> toOption() {
-        return boxed.toOption();
+        return narrow().toOption();
     }
     /**
      * @return
      * @see fj.data.List#headOption()
      */
     public Option<T> headOption() {
-        return boxed.headOption();
+        return narrow().headOption();
     }
     /**
      * @param x
@@ -410,35 +443,35 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#toEither(fj.F0)
      */
     public final <X> Either<X, T> toEither(F0<X> x) {
-        return boxed.toEither(x);
+        return narrow().toEither(x);
     }
     /**
      * @return
      * @see fj.data.List#toStream()
      */
     public final Stream<T> toStream() {
-        return boxed.toStream();
+        return narrow().toStream();
     }
     /**
      * @return
      * @see fj.data.List#toArray()
      */
     public final Array<T> toArray() {
-        return boxed.toArray();
+        return narrow().toArray();
     }
     /**
      * @return
      * @see fj.data.List#toArrayObject()
      */
     public final Object[] toArrayObject() {
-        return boxed.toArrayObject();
+        return narrow().toArrayObject();
     }
     /**
      * @return
      * @see fj.data.List#toJavaArray()
      */
     public final T[] toJavaArray() {
-        return boxed.toJavaArray();
+        return narrow().toJavaArray();
     }
 
     /**
@@ -447,7 +480,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#cons(java.lang.Object)
      */
     public final List<T> cons(T a) {
-        return boxed.cons(a);
+        return narrow().cons(a);
     }
     /**
      * @param a
@@ -455,7 +488,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#conss(java.lang.Object)
      */
     public final List<T> conss(T a) {
-        return boxed.conss(a);
+        return narrow().conss(a);
     }
     /**
      * @param f
@@ -463,7 +496,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#map(fj.F)
      */
     public final <B> List<B> map(F<T, B> f) {
-        return boxed.map(f);
+        return narrow().map(f);
     }
     /**
      * @param f
@@ -471,14 +504,14 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foreach(fj.F)
      */
     public final Unit foreach(F<T, Unit> f) {
-        return boxed.foreach(f);
+        return narrow().foreach(f);
     }
     /**
      * @param f
      * @see fj.data.List#foreachDoEffect(fj.function.Effect1)
      */
     public final void foreachDoEffect(Effect1<T> f) {
-        boxed.foreachDoEffect(f);
+        narrow().foreachDoEffect(f);
     }
     /**
      * @param f
@@ -486,7 +519,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#filter(fj.F)
      */
     public final List<T> filter(F<T, Boolean> f) {
-        return boxed.filter(f);
+        return narrow().filter(f);
     }
     /**
      * @param f
@@ -494,7 +527,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#removeAll(fj.F)
      */
     public final List<T> removeAll(F<T, Boolean> f) {
-        return boxed.removeAll(f);
+        return narrow().removeAll(f);
     }
     /**
      * @param a
@@ -503,7 +536,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#delete(java.lang.Object, fj.Equal)
      */
     public final List<T> delete(T a, Equal<T> e) {
-        return boxed.delete(a, e);
+        return narrow().delete(a, e);
     }
     /**
      * @param f
@@ -511,7 +544,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#takeWhile(fj.F)
      */
     public final List<T> takeWhile(F<T, Boolean> f) {
-        return boxed.takeWhile(f);
+        return narrow().takeWhile(f);
     }
     /**
      * @param f
@@ -519,7 +552,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#dropWhile(fj.F)
      */
     public final List<T> dropWhile(F<T, Boolean> f) {
-        return boxed.dropWhile(f);
+        return narrow().dropWhile(f);
     }
     /**
      * @param p
@@ -527,7 +560,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#span(fj.F)
      */
     public final P2<List<T>, List<T>> span(F<T, Boolean> p) {
-        return boxed.span(p);
+        return narrow().span(p);
     }
     /**
      * @param p
@@ -535,7 +568,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#breakk(fj.F)
      */
     public final P2<List<T>, List<T>> breakk(F<T, Boolean> p) {
-        return boxed.breakk(p);
+        return narrow().breakk(p);
     }
     /**
      * @param e
@@ -543,7 +576,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#group(fj.Equal)
      */
     public final List<List<T>> group(Equal<T> e) {
-        return boxed.group(e);
+        return narrow().group(e);
     }
     /**
      * @param f
@@ -551,7 +584,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#bind(fj.F)
      */
     public final <B> List<B> bind(F<T, List<B>> f) {
-        return boxed.bind(f);
+        return narrow().bind(f);
     }
     /**
      * @param lb
@@ -560,7 +593,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#bind(fj.data.List, fj.F)
      */
     public final <B, C> List<C> bind(List<B> lb, F<T, F<B, C>> f) {
-        return boxed.bind(lb, f);
+        return narrow().bind(lb, f);
     }
     /**
      * @param lb
@@ -569,7 +602,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#bind(fj.data.List, fj.F2)
      */
     public final <B, C> List<C> bind(List<B> lb, F2<T, B, C> f) {
-        return boxed.bind(lb, f);
+        return narrow().bind(lb, f);
     }
     /**
      * @param lb
@@ -579,7 +612,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#bind(fj.data.List, fj.data.List, fj.F)
      */
     public final <B, C, D> List<D> bind(List<B> lb, List<C> lc, F<T, F<B, F<C, D>>> f) {
-        return boxed.bind(lb, lc, f);
+        return narrow().bind(lb, lc, f);
     }
     /**
      * @param lb
@@ -590,7 +623,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#bind(fj.data.List, fj.data.List, fj.data.List, fj.F)
      */
     public final <B, C, D, E> List<E> bind(List<B> lb, List<C> lc, List<D> ld, F<T, F<B, F<C, F<D, E>>>> f) {
-        return boxed.bind(lb, lc, ld, f);
+        return narrow().bind(lb, lc, ld, f);
     }
     /**
      * @param lb
@@ -603,7 +636,7 @@ public  class ListKind<T> implements Higher<list, T> {
      */
     public final <B, C, D, E, F$> List<F$> bind(List<B> lb, List<C> lc, List<D> ld, List<E> le,
             F<T, F<B, F<C, F<D, F<E, F$>>>>> f) {
-        return boxed.bind(lb, lc, ld, le, f);
+        return narrow().bind(lb, lc, ld, le, f);
     }
     /**
      * @param lb
@@ -617,7 +650,7 @@ public  class ListKind<T> implements Higher<list, T> {
      */
     public final <B, C, D, E, F$, G> List<G> bind(List<B> lb, List<C> lc, List<D> ld, List<E> le, List<F$> lf,
             F<T, F<B, F<C, F<D, F<E, F<F$, G>>>>>> f) {
-        return boxed.bind(lb, lc, ld, le, lf, f);
+        return narrow().bind(lb, lc, ld, le, lf, f);
     }
     /**
      * @param lb
@@ -632,7 +665,7 @@ public  class ListKind<T> implements Higher<list, T> {
      */
     public final <B, C, D, E, F$, G, H> List<H> bind(List<B> lb, List<C> lc, List<D> ld, List<E> le, List<F$> lf,
             List<G> lg, F<T, F<B, F<C, F<D, F<E, F<F$, F<G, H>>>>>>> f) {
-        return boxed.bind(lb, lc, ld, le, lf, lg, f);
+        return narrow().bind(lb, lc, ld, le, lf, lg, f);
     }
     /**
      * @param lb
@@ -648,7 +681,7 @@ public  class ListKind<T> implements Higher<list, T> {
      */
     public final <B, C, D, E, F$, G, H, I> List<I> bind(List<B> lb, List<C> lc, List<D> ld, List<E> le, List<F$> lf,
             List<G> lg, List<H> lh, F<T, F<B, F<C, F<D, F<E, F<F$, F<G, F<H, I>>>>>>>> f) {
-        return boxed.bind(lb, lc, ld, le, lf, lg, lh, f);
+        return narrow().bind(lb, lc, ld, le, lf, lg, lh, f);
     }
     /**
      * @param bs
@@ -656,7 +689,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#sequence(fj.data.List)
      */
     public final <B> List<B> sequence(List<B> bs) {
-        return boxed.sequence(bs);
+        return narrow().sequence(bs);
     }
     /**
      * @param f
@@ -664,7 +697,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseOption(fj.F)
      */
     public <B> Option<List<B>> traverseOption(F<T, Option<B>> f) {
-        return boxed.traverseOption(f);
+        return narrow().traverseOption(f);
     }
     /**
      * @param f
@@ -672,7 +705,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseEither(fj.F)
      */
     public <B, E> Either<E, List<B>> traverseEither(F<T, Either<E, B>> f) {
-        return boxed.traverseEither(f);
+        return narrow().traverseEither(f);
     }
     /**
      * @param f
@@ -680,7 +713,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseStream(fj.F)
      */
     public <B> Stream<List<B>> traverseStream(F<T, Stream<B>> f) {
-        return boxed.traverseStream(f);
+        return narrow().traverseStream(f);
     }
     /**
      * @param f
@@ -688,7 +721,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseP1(fj.F)
      */
     public <B> P1<List<B>> traverseP1(F<T, P1<B>> f) {
-        return boxed.traverseP1(f);
+        return narrow().traverseP1(f);
     }
     /**
      * @param f
@@ -696,7 +729,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseIO(fj.F)
      */
     public <B> IO<List<B>> traverseIO(F<T, IO<B>> f) {
-        return boxed.traverseIO(f);
+        return narrow().traverseIO(f);
     }
     /**
      * @param f
@@ -704,7 +737,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseF(fj.F)
      */
     public <C, B> F<C, List<B>> traverseF(F<T, F<C, B>> f) {
-        return boxed.traverseF(f);
+        return narrow().traverseF(f);
     }
     /**
      * @param f
@@ -712,7 +745,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseTrampoline(fj.F)
      */
     public <B> Trampoline<List<B>> traverseTrampoline(F<T, Trampoline<B>> f) {
-        return boxed.traverseTrampoline(f);
+        return narrow().traverseTrampoline(f);
     }
     /**
      * @param f
@@ -720,7 +753,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traversePromise(fj.F)
      */
     public <B> Promise<List<B>> traversePromise(F<T, Promise<B>> f) {
-        return boxed.traversePromise(f);
+        return narrow().traversePromise(f);
     }
     /**
      * @param f
@@ -728,7 +761,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseList(fj.F)
      */
     public <B> List<List<B>> traverseList(F<T, List<B>> f) {
-        return boxed.traverseList(f);
+        return narrow().traverseList(f);
     }
 
     /**
@@ -737,7 +770,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#traverseV2(fj.F)
      */
     public <B> V2<List<B>> traverseV2(F<T, V2<B>> f) {
-        return boxed.traverseV2(f);
+        return narrow().traverseV2(f);
     }
     /**
      * @param lf
@@ -745,7 +778,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#apply(fj.data.List)
      */
     public final <B> List<B> apply(List<F<T, B>> lf) {
-        return boxed.apply(lf);
+        return narrow().apply(lf);
     }
     /**
      * @param as
@@ -753,7 +786,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#append(fj.data.List)
      */
     public final List<T> append(List<T> as) {
-        return boxed.append(as);
+        return narrow().append(as);
     }
     /**
      * @param f
@@ -762,7 +795,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldRight(fj.F, java.lang.Object)
      */
     public final <B> B foldRight(F<T, F<B, B>> f, B b) {
-        return boxed.foldRight(f, b);
+        return narrow().foldRight(f, b);
     }
     /**
      * @param f
@@ -771,7 +804,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldRight(fj.F2, java.lang.Object)
      */
     public final <B> B foldRight(F2<T, B, B> f, B b) {
-        return boxed.foldRight(f, b);
+        return narrow().foldRight(f, b);
     }
     /**
      * @param f
@@ -780,7 +813,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldRightC(fj.F2, java.lang.Object)
      */
     public final <B> Trampoline<B> foldRightC(F2<T, B, B> f, B b) {
-        return boxed.foldRightC(f, b);
+        return narrow().foldRightC(f, b);
     }
     /**
      * @param f
@@ -789,7 +822,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldLeft(fj.F, java.lang.Object)
      */
     public final <B> B foldLeft(F<B, F<T, B>> f, B b) {
-        return boxed.foldLeft(f, b);
+        return narrow().foldLeft(f, b);
     }
     /**
      * @param f
@@ -798,7 +831,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldLeft(fj.F2, java.lang.Object)
      */
     public final <B> B foldLeft(F2<B, T, B> f, B b) {
-        return boxed.foldLeft(f, b);
+        return narrow().foldLeft(f, b);
     }
     /**
      * @param f
@@ -806,7 +839,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldLeft1(fj.F2)
      */
     public final T foldLeft1(F2<T, T, T> f) {
-        return boxed.foldLeft1(f);
+        return narrow().foldLeft1(f);
     }
     /**
      * @param f
@@ -814,14 +847,14 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#foldLeft1(fj.F)
      */
     public final T foldLeft1(F<T, F<T, T>> f) {
-        return boxed.foldLeft1(f);
+        return narrow().foldLeft1(f);
     }
     /**
      * @return
      * @see fj.data.List#reverse()
      */
     public final List<T> reverse() {
-        return boxed.reverse();
+        return narrow().reverse();
     }
     /**
      * @param i
@@ -829,7 +862,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#index(int)
      */
     public final T index(int i) {
-        return boxed.index(i);
+        return narrow().index(i);
     }
     /**
      * @param i
@@ -837,7 +870,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#take(int)
      */
     public final List<T> take(int i) {
-        return boxed.take(i);
+        return narrow().take(i);
     }
     /**
      * @param i
@@ -845,7 +878,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#drop(int)
      */
     public final List<T> drop(int i) {
-        return boxed.drop(i);
+        return narrow().drop(i);
     }
     /**
      * @param i
@@ -853,7 +886,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#splitAt(int)
      */
     public final P2<List<T>, List<T>> splitAt(int i) {
-        return boxed.splitAt(i);
+        return narrow().splitAt(i);
     }
     /**
      * @param n
@@ -861,7 +894,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#partition(int)
      */
     public final List<List<T>> partition(int n) {
-        return boxed.partition(n);
+        return narrow().partition(n);
     }
     /**
      * @param f
@@ -869,21 +902,21 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#partition(fj.F)
      */
     public P2<List<T>, List<T>> partition(F<T, Boolean> f) {
-        return boxed.partition(f);
+        return narrow().partition(f);
     }
     /**
      * @return
      * @see fj.data.List#inits()
      */
     public final List<List<T>> inits() {
-        return boxed.inits();
+        return narrow().inits();
     }
     /**
      * @return
      * @see fj.data.List#tails()
      */
     public final List<List<T>> tails() {
-        return boxed.tails();
+        return narrow().tails();
     }
     /**
      * @param o
@@ -891,7 +924,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#sort(fj.Ord)
      */
     public final List<T> sort(Ord<T> o) {
-        return boxed.sort(o);
+        return narrow().sort(o);
     }
     /**
      * @param bs
@@ -900,7 +933,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#zipWith(fj.data.List, fj.F)
      */
     public final <B, C> List<C> zipWith(List<B> bs, F<T, F<B, C>> f) {
-        return boxed.zipWith(bs, f);
+        return narrow().zipWith(bs, f);
     }
     /**
      * @param bs
@@ -909,7 +942,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#zipWith(fj.data.List, fj.F2)
      */
     public final <B, C> List<C> zipWith(List<B> bs, F2<T, B, C> f) {
-        return boxed.zipWith(bs, f);
+        return narrow().zipWith(bs, f);
     }
     /**
      * @param bs
@@ -917,14 +950,14 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#zip(fj.data.List)
      */
     public final <B> List<P2<T, B>> zip(List<B> bs) {
-        return boxed.zip(bs);
+        return narrow().zip(bs);
     }
     /**
      * @return
      * @see fj.data.List#zipIndex()
      */
     public final List<P2<T, Integer>> zipIndex() {
-        return boxed.zipIndex();
+        return narrow().zipIndex();
     }
     /**
      * @param a
@@ -932,7 +965,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#snoc(java.lang.Object)
      */
     public final List<T> snoc(T a) {
-        return boxed.snoc(a);
+        return narrow().snoc(a);
     }
     /**
      * @param f
@@ -940,7 +973,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#forall(fj.F)
      */
     public final boolean forall(F<T, Boolean> f) {
-        return boxed.forall(f);
+        return narrow().forall(f);
     }
     /**
      * @param f
@@ -948,7 +981,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#exists(fj.F)
      */
     public final boolean exists(F<T, Boolean> f) {
-        return boxed.exists(f);
+        return narrow().exists(f);
     }
     /**
      * @param f
@@ -956,7 +989,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#find(fj.F)
      */
     public final Option<T> find(F<T, Boolean> f) {
-        return boxed.find(f);
+        return narrow().find(f);
     }
     /**
      * @param a
@@ -964,7 +997,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#intersperse(java.lang.Object)
      */
     public final List<T> intersperse(T a) {
-        return boxed.intersperse(a);
+        return narrow().intersperse(a);
     }
     /**
      * @param as
@@ -972,14 +1005,14 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#intercalate(fj.data.List)
      */
     public final List<T> intercalate(List<List<T>> as) {
-        return boxed.intercalate(as);
+        return narrow().intercalate(as);
     }
     /**
      * @return
      * @see fj.data.List#nub()
      */
     public final List<T> nub() {
-        return boxed.nub();
+        return narrow().nub();
     }
     /**
      * @param eq
@@ -987,7 +1020,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#nub(fj.Equal)
      */
     public final List<T> nub(Equal<T> eq) {
-        return boxed.nub(eq);
+        return narrow().nub(eq);
     }
     /**
      * @param o
@@ -995,14 +1028,14 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#nub(fj.Ord)
      */
     public final List<T> nub(Ord<T> o) {
-        return boxed.nub(o);
+        return narrow().nub(o);
     }
     /**
      * @return
      * @see fj.data.List#tailOption()
      */
     public Option<List<T>> tailOption() {
-        return boxed.tailOption();
+        return narrow().tailOption();
     }
     /**
      * @param eq
@@ -1011,7 +1044,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#minus(fj.Equal, fj.data.List)
      */
     public final List<T> minus(Equal<T> eq, List<T> xs) {
-        return boxed.minus(eq, xs);
+        return narrow().minus(eq, xs);
     }
     /**
      * @param f
@@ -1019,7 +1052,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#mapM(fj.F)
      */
     public final <B, C> F<B, List<C>> mapM(F<T, F<B, C>> f) {
-        return boxed.mapM(f);
+        return narrow().mapM(f);
     }
     /**
      * @param f
@@ -1027,7 +1060,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#mapMOption(fj.F)
      */
     public final <B> Option<List<B>> mapMOption(F<T, Option<B>> f) {
-        return boxed.mapMOption(f);
+        return narrow().mapMOption(f);
     }
     /**
      * @param f
@@ -1035,7 +1068,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#mapMTrampoline(fj.F)
      */
     public final <B> Trampoline<List<B>> mapMTrampoline(F<T, Trampoline<B>> f) {
-        return boxed.mapMTrampoline(f);
+        return narrow().mapMTrampoline(f);
     }
     /**
      * @param e
@@ -1044,21 +1077,21 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#elementIndex(fj.Equal, java.lang.Object)
      */
     public final Option<Integer> elementIndex(Equal<T> e, T a) {
-        return boxed.elementIndex(e, a);
+        return narrow().elementIndex(e, a);
     }
     /**
      * @return
      * @see fj.data.List#last()
      */
     public final T last() {
-        return boxed.last();
+        return narrow().last();
     }
     /**
      * @return
      * @see fj.data.List#init()
      */
     public final List<T> init() {
-        return boxed.init();
+        return narrow().init();
     }
     /**
      * @param f
@@ -1067,7 +1100,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#insertBy(fj.F, java.lang.Object)
      */
     public final List<T> insertBy(F<T, F<T, Ordering>> f, T x) {
-        return boxed.insertBy(f, x);
+        return narrow().insertBy(f, x);
     }
     /**
      * @param o
@@ -1075,7 +1108,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#mode(fj.Ord)
      */
     public final T mode(Ord<T> o) {
-        return boxed.mode(o);
+        return narrow().mode(o);
     }
     /**
      * @param keyFunction
@@ -1083,7 +1116,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#groupBy(fj.F)
      */
     public final <B> TreeMap<B, List<T>> groupBy(F<T, B> keyFunction) {
-        return boxed.groupBy(keyFunction);
+        return narrow().groupBy(keyFunction);
     }
     /**
      * @param keyFunction
@@ -1092,7 +1125,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#groupBy(fj.F, fj.Ord)
      */
     public final <B> TreeMap<B, List<T>> groupBy(F<T, B> keyFunction, Ord<B> keyOrd) {
-        return boxed.groupBy(keyFunction, keyOrd);
+        return narrow().groupBy(keyFunction, keyOrd);
     }
     /**
      * @param keyFunction
@@ -1101,7 +1134,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#groupBy(fj.F, fj.F)
      */
     public final <B, C> TreeMap<B, List<C>> groupBy(F<T, B> keyFunction, F<T, C> valueFunction) {
-        return boxed.groupBy(keyFunction, valueFunction);
+        return narrow().groupBy(keyFunction, valueFunction);
     }
     /**
      * @param keyFunction
@@ -1111,7 +1144,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#groupBy(fj.F, fj.F, fj.Ord)
      */
     public final <B, C> TreeMap<B, List<C>> groupBy(F<T, B> keyFunction, F<T, C> valueFunction, Ord<B> keyOrd) {
-        return boxed.groupBy(keyFunction, valueFunction, keyOrd);
+        return narrow().groupBy(keyFunction, valueFunction, keyOrd);
     }
     /**
      * @param keyFunction
@@ -1123,7 +1156,7 @@ public  class ListKind<T> implements Higher<list, T> {
      */
     public final <B, C> TreeMap<B, C> groupBy(F<T, B> keyFunction, F<T, C> valueFunction, Monoid<C> monoid,
             Ord<B> keyOrd) {
-        return boxed.groupBy(keyFunction, valueFunction, monoid, keyOrd);
+        return narrow().groupBy(keyFunction, valueFunction, monoid, keyOrd);
     }
     /**
      * @param keyFunction
@@ -1136,7 +1169,7 @@ public  class ListKind<T> implements Higher<list, T> {
      */
     public final <B, C, D> TreeMap<B, D> groupBy(F<T, B> keyFunction, F<T, C> valueFunction, D groupingIdentity,
             F2<C, D, D> groupingAcc, Ord<B> keyOrd) {
-        return boxed.groupBy(keyFunction, valueFunction, groupingIdentity, groupingAcc, keyOrd);
+        return narrow().groupBy(keyFunction, valueFunction, groupingIdentity, groupingAcc, keyOrd);
     }
     /**
      * @param eq
@@ -1144,7 +1177,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#allEqual(fj.Equal)
      */
     public boolean allEqual(Equal<T> eq) {
-        return boxed.allEqual(eq);
+        return narrow().allEqual(eq);
     }
     /**
      * @param eq
@@ -1153,7 +1186,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#isPrefixOf(fj.Equal, fj.data.List)
      */
     public final boolean isPrefixOf(Equal<T> eq, List<T> xs) {
-        return boxed.isPrefixOf(eq, xs);
+        return narrow().isPrefixOf(eq, xs);
     }
     /**
      * @param eq
@@ -1162,7 +1195,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#isSuffixOf(fj.Equal, fj.data.List)
      */
     public final boolean isSuffixOf(Equal<T> eq, List<T> xs) {
-        return boxed.isSuffixOf(eq, xs);
+        return narrow().isSuffixOf(eq, xs);
     }
     /**
      * @param o
@@ -1170,7 +1203,7 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#maximum(fj.Ord)
      */
     public final T maximum(Ord<T> o) {
-        return boxed.maximum(o);
+        return narrow().maximum(o);
     }
     /**
      * @param o
@@ -1178,21 +1211,21 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#minimum(fj.Ord)
      */
     public final T minimum(Ord<T> o) {
-        return boxed.minimum(o);
+        return narrow().minimum(o);
     }
     /**
      * @return
      * @see fj.data.List#toJavaList()
      */
     public final java.util.List<T> toJavaList() {
-        return boxed.toJavaList();
+        return narrow().toJavaList();
     }
     /**
      * @return
      * @see fj.data.List#toCollection()
      */
     public final Collection<T> toCollection() {
-        return boxed.toCollection();
+        return narrow().toCollection();
     }
     /**
      * @param obj
@@ -1200,28 +1233,28 @@ public  class ListKind<T> implements Higher<list, T> {
      * @see fj.data.List#equals(java.lang.Object)
      */
     public boolean equals(Object obj) {
-        return boxed.equals(obj);
+        return narrow().equals(obj);
     }
     /**
      * @return
      * @see fj.data.List#hashCode()
      */
     public int hashCode() {
-        return boxed.hashCode();
+        return narrow().hashCode();
     }
     /**
      * @return
      * @see fj.data.List#toString()
      */
     public String toString() {
-        return boxed.toString();
+        return narrow().toString();
     }
     /**
      * @return
      * @see fj.data.List#isSingle()
      */
     public boolean isSingle() {
-        return boxed.isSingle();
+        return narrow().isSingle();
     }
 
 }
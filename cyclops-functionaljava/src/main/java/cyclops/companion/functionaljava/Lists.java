@@ -335,6 +335,10 @@ public class Lists {
     /**
      * Companion class for creating Type Class instances for working with Lists
      *
+     * Functor map and MonadZero filter are deferred : the functions run when the resulting ListKind is first
+     * narrowed (or compared, hashed, printed or used as a collection). Exceptions and side effects from
+     * them surface at that point, once per ListKind.
+     *
      */
     @UtilityClass
     public static class Instances {
@@ -539,7 +543,9 @@ public class Lists {
          */
         public static <T,R> MonadZero<list> monadZero(){
 
-            return General.monadZero(monad(), widen(List.list()));
+            BiFunction<Higher<list,T>,Predicate<? super T>,Higher<list,T>> filter = Instances::filter;
+            Supplier<Higher<list, T>> zero = ()-> widen(List.list());
+            return General.<list,T,R>monadZero(monad(), zero,filter);
         }
         /**
          * <pre>
@@ -588,22 +594,8 @@ public class Lists {
          */
         public static <C2,T> Traverse<list> traverse(){
 
-            BiFunction<Applicative<C2>,ListKind<Higher<C2, T>>,Higher<C2, ListKind<T>>> sequenceFn = (ap, list) -> {
-
-                Higher<C2,ListKind<T>> identity = ap.unit(widen(List.list()));
-
-                BiFunction<Higher<C2,ListKind<T>>,Higher<C2,T>,Higher<C2,ListKind<T>>> combineToList =
-                        (acc,next) -> ap.apBiFn(ap.unit((a,b) -> widen(ListKind.narrow(a).cons(b))), acc,next);
-
-                BinaryOperator<Higher<C2,ListKind<T>>> combineLists = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> widen(ListKind.narrow(l1).append(ListKind.narrow(l2)))),a,b); ;
-
-                return ReactiveSeq.fromIterable(ListKind.narrow(list))
-                        .reduce(identity,
-                                combineToList,
-                                combineLists);
-
-
-            };
+            BiFunction<Applicative<C2>,ListKind<Higher<C2, T>>,Higher<C2, ListKind<T>>> sequenceFn = (ap, list) ->
+                    Traversals.sequence(ap, ListKind.narrow(list), l -> widen(List.iterableList(l)));
             BiFunction<Applicative<C2>,Higher<list,Higher<C2, T>>,Higher<C2, Higher<list,T>>> sequenceNarrow  =
                     (a,b) -> ListKind.widen2(sequenceFn.apply(a, ListKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -646,7 +638,10 @@ public class Lists {
             return widen(ListKind.narrow(lt).bind(in->fn.andThen(ListKind::narrow).apply(in)));
         }
         private static <T,R> ListKind<R> map(ListKind<T> lt, Function<? super T, ? extends R> fn){
-            return widen(ListKind.narrow(lt).map(in->fn.apply(in)));
+            return lt.fusedMap(fn);
+        }
+        private static <T> ListKind<T> filter(Higher<list,T> lt, Predicate<? super T> fn){
+            return ListKind.narrowK(lt).fusedFilter(fn);
         }
         public static Unfoldable<list> unfoldable(){
             return new Unfoldable<list>() {
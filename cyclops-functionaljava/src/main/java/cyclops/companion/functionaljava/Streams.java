@@ -590,22 +590,8 @@ public class Streams {
          */
         public static <C2,T> Traverse<stream> traverse(){
 
-            BiFunction<Applicative<C2>,StreamKind<Higher<C2, T>>,Higher<C2, StreamKind<T>>> sequenceFn = (ap, stream) -> {
-
-                Higher<C2,StreamKind<T>> identity = ap.unit(StreamKind.widen(Stream.stream()));
-
-                BiFunction<Higher<C2,StreamKind<T>>,Higher<C2,T>,Higher<C2,StreamKind<T>>> combineToStream =
-                        (acc,next) -> ap.apBiFn(ap.unit((a,b) -> StreamKind.widen(StreamKind.narrow(a).cons(b))), acc,next);
-
-                BinaryOperator<Higher<C2,StreamKind<T>>> combineStreams = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> StreamKind.widen(StreamKind.narrow(l1).append(StreamKind.narrow(l2)))),a,b); ;
-
-                return ReactiveSeq.fromIterable(StreamKind.narrow(stream))
-                        .reduce(identity,
-                                combineToStream,
-                                combineStreams);
-
-
-            };
+            BiFunction<Applicative<C2>,StreamKind<Higher<C2, T>>,Higher<C2, StreamKind<T>>> sequenceFn = (ap, stream) ->
+                    Traversals.sequence(ap, StreamKind.narrow(stream), l -> StreamKind.widen(Stream.iterableStream(l)));
             BiFunction<Applicative<C2>,Higher<stream,Higher<C2, T>>,Higher<C2, Higher<stream,T>>> sequenceNarrow  =
                     (a,b) -> StreamKind.widen2(sequenceFn.apply(a, StreamKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -5,6 +5,9 @@ import static cyclops.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import cyclops.companion.functionaljava.Lists;
 import com.aol.cyclops.functionaljava.hkt.ListKind;
 import cyclops.monads.FJWitness;
@@ -12,6 +15,8 @@ import cyclops.monads.FJWitness.list;
 import org.junit.Test;
 
 import com.aol.cyclops2.hkt.Higher;
+import cyclops.companion.Optionals;
+import cyclops.companion.Optionals.OptionalKind;
 import cyclops.control.Maybe;
 import cyclops.function.Fn1;
 import cyclops.function.Lambda;
@@ -141,7 +146,35 @@ public class ListsTest {
                                                          .traverseA(Maybe.Instances.applicative(), (Integer a)->Maybe.just(a*2), ListKind.list(1,2,3))
                                                          .convert(Maybe::narrowK);
             
-       assertThat(res,equalTo(Maybe.just(List.list(6,4,2))));
+       assertThat(res,equalTo(Maybe.just(List.list(2,4,6))));
     }
-    
+    @Test
+    public void traverseLarge(){
+        List<Integer> large = List.range(0,50_000);
+        Optional<Higher<list, Integer>> res = Lists.Instances.traverse()
+                                                         .traverseA(Optionals.Instances.applicative(), (Integer a)->OptionalKind.of(a*2), widen(large))
+                                                         .convert(OptionalKind::narrowK);
+
+        assertThat(res,equalTo(Optional.of(large.map(a->a*2))));
+    }
+    @Test
+    public void fusedMapFilter(){
+        AtomicInteger calls = new AtomicInteger(0);
+        Higher<list,Integer> list = widen(List.range(0,10));
+        for(int i=0;i<5;i++)
+            list = Lists.Instances.functor().map((Integer x)->{calls.incrementAndGet(); return x+1;}, list);
+        list = Lists.Instances.monadZero().filter((Integer x)->x%2==0, list);
+        list = Lists.Instances.functor().map((Integer x)->x*10, list);
+
+        assertThat(calls.get(),equalTo(0));
+        assertThat(ListKind.narrow(list),equalTo(List.list(60,80,100,120,140)));
+        assertThat(ListKind.narrow(list),equalTo(List.list(60,80,100,120,140)));
+        assertThat(calls.get(),equalTo(50));
+
+        Higher<list,Integer> deep = widen(List.range(0,10));
+        for(int i=0;i<50_000;i++)
+            deep = Lists.Instances.functor().map((Integer x)->x+1, deep);
+        assertThat(ListKind.narrow(deep).head(),equalTo(50_000));
+    }
+
 }
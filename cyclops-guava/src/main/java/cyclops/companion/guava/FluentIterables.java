@@ -607,20 +607,8 @@ public class FluentIterables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<fluentIterable> traverse(){
-            BiFunction<Applicative<C2>,FluentIterableKind<Higher<C2, T>>,Higher<C2, FluentIterableKind<T>>> sequenceFn = (ap, flux) -> {
-
-                Higher<C2,FluentIterableKind<T>> identity = ap.unit(widen(FluentIterable.of()));
-
-                BiFunction<Higher<C2,FluentIterableKind<T>>,Higher<C2,T>,Higher<C2,FluentIterableKind<T>>> combineToFluentIterable =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(FluentIterable.concat(a,FluentIterable.of(b)))),acc,next);
-
-                BinaryOperator<Higher<C2,FluentIterableKind<T>>> combineFluentIterables = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return widen(FluentIterable.concat(l1.narrow(),l2.narrow()));}),a,b); ;
-
-                return ReactiveSeq.fromIterable(flux).reduce(identity,
-                        combineToFluentIterable,
-                        combineFluentIterables);
-
-
-            };
+            BiFunction<Applicative<C2>,FluentIterableKind<Higher<C2, T>>,Higher<C2, FluentIterableKind<T>>> sequenceFn = (ap, flux) ->
+                    Traversals.sequence(ap, flux, l -> widen(FluentIterable.from(l)));
             BiFunction<Applicative<C2>,Higher<fluentIterable,Higher<C2, T>>,Higher<C2, Higher<fluentIterable,T>>> sequenceNarrow  =
                     (a,b) -> FluentIterableKind.widen2(sequenceFn.apply(a, FluentIterableKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -24,7 +24,7 @@ public class FluxAdapter extends AbstractFunctionalAdapter<ReactorWitness.flux>
 
     @Override
     public <T> Iterable<T> toIterable(AnyM<flux, T> t) {
-        return ()->stream(t).toIterable().iterator();
+        return ()->FluxIterators.iterator(stream(t));
     }
 
     @Override
@@ -42,7 +42,7 @@ public class FluxAdapter extends AbstractFunctionalAdapter<ReactorWitness.flux>
     }
 
     <T> Flux<T> stream(AnyM<flux,T> anyM){
-        return anyM.unwrap();
+        return ReactorWitness.flux(anyM);
     }
 
     @Override
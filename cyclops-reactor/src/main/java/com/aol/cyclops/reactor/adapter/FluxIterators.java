@@ -0,0 +1,160 @@
+package com.aol.cyclops.reactor.adapter;
+
+import lombok.experimental.UtilityClass;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.Fuseable;
+import reactor.core.Fuseable.QueueSubscription;
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Iterator and Spliterator views of a Flux.
+ *
+ * Synchronous sources (Flux.range, Flux.just, Flux.fromIterable, Flux.fromArray and fuseable operators
+ * such as map and filter applied to them) are pulled directly from the fused subscription, on the calling
+ * thread without an intermediate queue. Other sources fall back to Flux#toIterable.
+ */
+@UtilityClass
+public class FluxIterators {
+
+    /**
+     * @param flux Flux to iterate over (subscribed immediately)
+     * @return Iterator over the elements of the Flux
+     */
+    public static <T> Iterator<T> iterator(Publisher<T> flux) {
+        return new FusedIterator<>(flux);
+    }
+
+    /**
+     * The Spliterator is ORDERED and NONNULL. It is also SIZED when the Flux is a range, array or scalar
+     * source with no operators applied, so Streams can presize and split it.
+     *
+     * @param flux Flux to iterate over (subscribed immediately)
+     * @return Spliterator over the elements of the Flux
+     */
+    public static <T> Spliterator<T> spliterator(Publisher<T> flux) {
+        FusedIterator<T> it = new FusedIterator<>(flux);
+        if (it.size >= 0)
+            return Spliterators.spliterator(it, it.size, Spliterator.ORDERED | Spliterator.NONNULL);
+        return Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /*
+     * The QueueSubscriptions of these sources report exactly the number of elements remaining.
+     * FluxRange and FluxArray are package-private in reactor-core 3.0.7, so they are matched by name :
+     * check these names when upgrading Reactor, a rename only loses SIZED, it does not break iteration.
+     */
+    private static boolean sized(Publisher<?> flux) {
+        if (flux instanceof Fuseable.ScalarCallable)
+            return true;
+        String name = flux.getClass().getName();
+        return name.equals("reactor.core.publisher.FluxRange") || name.equals("reactor.core.publisher.FluxArray");
+    }
+
+    /*
+     * Subscribes in the constructor. If the source grants synchronous fusion during that call, elements
+     * are polled from the QueueSubscription on demand. Otherwise every signal is relayed to a Flux#toIterable
+     * iterator.
+     */
+    static final class FusedIterator<T> implements Iterator<T>, Subscriber<T> {
+        private volatile Iterator<T> fallback;
+        private Subscriber<? super T> relay;
+        private Thread subscribing;
+        private QueueSubscription<T> qs;
+        private T next;
+        private boolean done;
+        long size = -1;
+
+        FusedIterator(Publisher<T> source) {
+            subscribing = Thread.currentThread();
+            source.subscribe(this);
+            subscribing = null;
+            if (qs != null && sized(source))
+                size = qs.size();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscribing == Thread.currentThread() && s instanceof QueueSubscription) {
+                QueueSubscription<T> fused = (QueueSubscription<T>) s;
+                if (fused.requestFusion(Fuseable.SYNC) == Fuseable.SYNC) {
+                    qs = fused;
+                    return;
+                }
+            }
+            relay().onSubscribe(s);
+        }
+
+        /*
+         * The fallback iterator (and its prefetch queue) is only created once fusion has been refused.
+         * onSubscribe may arrive on another thread after the first call to hasNext, whichever comes first
+         * creates it. Some sources (e.g. cyclops' push operators on an empty stream) signal onComplete or
+         * onError without calling onSubscribe first, so every signal goes through relay().
+         */
+        private Iterator<T> fallback() {
+            Iterator<T> it = fallback;
+            if (it == null) {
+                synchronized (this) {
+                    it = fallback;
+                    if (it == null)
+                        fallback = it = Flux.<T>from(s -> relay = s).toIterable().iterator();
+                }
+            }
+            return it;
+        }
+
+        private Subscriber<? super T> relay() {
+            fallback();
+            return relay;
+        }
+
+        @Override
+        public void onNext(T t) {
+            relay().onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            relay().onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            relay().onComplete();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (qs == null)
+                return fallback().hasNext();
+            if (next == null && !done) {
+                try {
+                    next = qs.poll();
+                } catch (RuntimeException e) {
+                    done = true;
+                    qs.cancel();
+                    throw e;
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (qs == null)
+                return fallback().next();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            T result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -15,6 +15,8 @@ import cyclops.control.Eval;
 import cyclops.control.Maybe;
 import cyclops.control.Try;
 import cyclops.control.lazy.Either;
+import cyclops.function.Fn3;
+import cyclops.function.Fn4;
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import cyclops.monads.AnyM;
@@ -37,6 +39,10 @@ import org.reactivestreams.Subscription;
 import reactor.core.publisher.ConnectableFlux;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSource;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.QueueSupplier;
 
 import java.time.Duration;
 import java.util.*;
@@ -64,6 +70,19 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return new FluxReactiveSeq<>(Flux.from(flux));
     }
 
+    private static <T> Flux<T> fromStream(Stream<? extends T> stream){
+        if(stream instanceof Publisher){
+            return Flux.from((Publisher<T>)stream);
+        }
+        return Flux.fromStream((Stream<T>)stream);
+    }
+    private static <T> Flux<T> fromIterable(Iterable<? extends T> iterable){
+        if(iterable instanceof Publisher){
+            return Flux.from((Publisher<T>)iterable);
+        }
+        return Flux.fromIterable(iterable);
+    }
+
     @Override
     public <R> ReactiveSeq<R> coflatMap(Function<? super ReactiveSeq<T>, ? extends R> fn) {
         return flux(Flux.just(fn.apply(this)));
@@ -76,7 +95,70 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <U> U foldRight(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
-        return flux.reduce(identity,(a,b)->accumulator.apply(b,a)).block();
+        return foldRightAsync(identity,accumulator).block();
+    }
+
+    /**
+     * Non-blocking {@link #foldRight(Object, BiFunction)}, the result is emitted by the returned Mono
+     * once the underlying Flux completes. A right fold starts from the last element, so the elements are
+     * collected into a List first.
+     */
+    public <U> Mono<U> foldRightAsync(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        return flux.collectList().map(list->ReactiveSeq.fromList(list).foldRight(identity,accumulator));
+    }
+
+    public Mono<T> reduceAsync(Monoid<T> reducer) {
+        return flux.reduce(reducer.zero(),reducer);
+    }
+
+    /**
+     * @return Mono with the reduced value, or an empty Mono if this Stream is empty
+     */
+    public Mono<T> reduceAsync(BinaryOperator<T> accumulator) {
+        return flux.reduce(accumulator);
+    }
+
+    public Mono<T> reduceAsync(T identity, BinaryOperator<T> accumulator) {
+        return flux.reduce(identity,accumulator);
+    }
+
+    public <R, A> Mono<R> collectAsync(Collector<? super T, A, R> collector) {
+        return flux.collect((Collector<T,A,R>)collector);
+    }
+
+    /**
+     * @return Mono with the first element, or an empty Mono if this Stream is empty
+     */
+    public Mono<T> findFirstAsync() {
+        return flux.next();
+    }
+
+    public Mono<Boolean> allMatchAsync(Predicate<? super T> c) {
+        return flux.all(c);
+    }
+
+    public Mono<Boolean> anyMatchAsync(Predicate<? super T> c) {
+        return flux.any(c);
+    }
+
+    public Mono<Boolean> noneMatchAsync(Predicate<? super T> c) {
+        return flux.any(c).map(b->!b);
+    }
+
+    public Mono<Long> countAsync() {
+        return flux.count();
+    }
+
+    public Mono<String> joinAsync() {
+        return joinAsync("");
+    }
+
+    public Mono<String> joinAsync(String sep) {
+        return joinAsync(sep,"","");
+    }
+
+    public Mono<String> joinAsync(String sep, String start, String end) {
+        return collectAsync(Collectors.mapping(String::valueOf,Collectors.joining(sep,start,end)));
     }
 
     @Override
@@ -167,18 +249,49 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return zip3(second,third,Tuple::tuple);
+    }
+
+    /**
+     * Zip with two other Iterables in a single zip operator, each element is built directly by zipper
+     */
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third,
+                                         Fn3<? super T, ? super S, ? super U, ? extends R> zipper) {
+        return flux(Flux.<Object,R>zip(a->zipper.apply((T)a[0],(S)a[1],(U)a[2]),flux,fromIterable(second),fromIterable(third)));
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return zip4(second,third,fourth,Tuple::tuple);
+    }
+
+    /**
+     * Zip with three other Iterables in a single zip operator, each element is built directly by zipper
+     */
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                               Fn4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> zipper) {
+        return flux(Flux.<Object,R>zip(a->zipper.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),
+                            flux,fromIterable(second),fromIterable(third),fromIterable(fourth)));
     }
 
     @Override
     public ReactiveSeq<VectorX<T>> sliding(int windowSize, int increment) {
-        return flux(Spouts.from(flux).sliding(windowSize,increment));
+        return flux(FluxWindows.sliding(flux,windowSize,increment));
+    }
+
+    /**
+     * Sliding windows over a single buffer that is reused for every window, see
+     * {@link FluxWindows#slidingRecycled(Flux, int, int)}. Each window must be consumed before the next
+     * element is emitted, it must not be retained.
+     *
+     * @param windowSize Size of each window
+     * @param increment Distance between the start of each window
+     * @return ReactiveSeq of windows over a recycled buffer
+     */
+    public ReactiveSeq<VectorX<T>> slidingRecycled(int windowSize, int increment) {
+        return flux(FluxWindows.slidingRecycled(flux,windowSize,increment));
     }
 
     @Override
@@ -188,22 +301,22 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<ListX<T>> groupedStatefullyUntil(BiPredicate<ListX<? super T>, ? super T> predicate) {
-        return flux(Spouts.from(flux).groupedStatefullyUntil(predicate));
+        return flux(FluxWindows.groupedStatefully(flux,predicate,true));
     }
 
     @Override
     public <C extends Collection<T>, R> ReactiveSeq<R> groupedStatefullyUntil(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return flux(Spouts.from(flux).groupedStatefullyUntil(predicate,factory,finalizer));
+        return flux(FluxWindows.groupedStatefully(flux,predicate,factory,finalizer,true));
     }
 
     @Override
     public ReactiveSeq<ListX<T>> groupedStatefullyWhile(BiPredicate<ListX<? super T>, ? super T> predicate) {
-        return flux(Spouts.from(flux).groupedStatefullyWhile(predicate));
+        return flux(FluxWindows.groupedStatefully(flux,predicate,false));
     }
 
     @Override
     public <C extends Collection<T>, R> ReactiveSeq<R> groupedStatefullyWhile(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return flux(Spouts.from(flux).groupedStatefullyWhile(predicate,factory,finalizer));
+        return flux(FluxWindows.groupedStatefully(flux,predicate,factory,finalizer,false));
     }
 
     @Override
@@ -243,12 +356,16 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<ListX<T>> groupedWhile(Predicate<? super T> predicate) {
-        return flux(Spouts.from(flux).groupedWhile(predicate));
+        return flux(flux.bufferUntil(t->!predicate.test(t)).map(ListX::fromIterable));
     }
 
     @Override
     public <C extends Collection<? super T>> ReactiveSeq<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
-        return flux(Spouts.from(flux).groupedWhile(predicate,factory));
+        return flux(flux.bufferUntil(t->!predicate.test(t)).map(l->{
+            C c = factory.get();
+            c.addAll(l);
+            return c;
+        }));
     }
 
     @Override
@@ -304,7 +421,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> limitWhile(Predicate<? super T> p) {
-        return flux(Spouts.from(flux).takeWhile(p));
+        return flux(flux.takeWhile(p));
     }
     @Override
     public ReactiveSeq<T> limitWhileClosed(Predicate<? super T> p) {
@@ -313,7 +430,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> limitUntil(Predicate<? super T> p) {
-       return flux(Spouts.from(flux).limitUntil(p));
+       return flux(flux.takeWhile(t->!p.test(t)));
     }
 
     @Override
@@ -321,19 +438,60 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return flux(flux.takeUntil(p));
     }
 
+    /**
+     * Split this Flux into one rail per available processor, running on the Reactor parallel Scheduler.
+     * Results keep encounter order.
+     *
+     * @see ParallelFluxReactiveSeq
+     */
     @Override
-    public ReactiveSeq<T> parallel() {
-        return this;
+    public ParallelFluxReactiveSeq<T> parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors(), Schedulers.parallel());
+    }
+
+    /**
+     * Split this Flux into rails, map / filter / flatMap / reduce / collect run on each rail in parallel.
+     * Results keep encounter order, see {@link #parallel(int, Scheduler, boolean)} for what that costs.
+     *
+     * @param rails Number of rails
+     * @param scheduler Scheduler each rail runs on
+     * @return ReactiveSeq backed by a ParallelFlux
+     */
+    public ParallelFluxReactiveSeq<T> parallel(int rails, Scheduler scheduler) {
+        return parallel(rails, scheduler, true);
+    }
+
+    /**
+     * Split this Flux into rails, map / filter / flatMap / reduce / collect run on each rail in parallel.
+     *
+     * Ordered mode buffers in two places, so it suits large numbers of short, finite tasks:
+     * <ul>
+     *  <li>flatMap collects each inner Stream into a List on its rail before the merge, an infinite inner
+     *  Stream never completes and a very large one is held in memory in full</li>
+     *  <li>results that complete ahead of a slow element are held by the merge until it finishes, there is
+     *  no bound on how many are held</li>
+     * </ul>
+     * Pass ordered=false for inner Streams that are infinite or very large, or for elements with very uneven
+     * processing times.
+     *
+     * @param rails Number of rails
+     * @param scheduler Scheduler each rail runs on
+     * @param ordered true to restore encounter order via sequence numbers, false to emit results as each
+     *                rail produces them
+     * @return ReactiveSeq backed by a ParallelFlux
+     */
+    public ParallelFluxReactiveSeq<T> parallel(int rails, Scheduler scheduler, boolean ordered) {
+        return ParallelFluxReactiveSeq.parallel(flux, rails, scheduler, ordered);
     }
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Spouts.from(flux).allMatch(c);
+        return flux.all(c).block();
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Spouts.from(flux).anyMatch(c);
+        return flux.any(c).block();
     }
 
     @Override
@@ -343,7 +501,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Spouts.from(flux).noneMatch(c);
+        return !flux.any(c).block();
     }
 
     @Override
@@ -368,7 +526,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findFirst() {
-        return Spouts.from(flux).findFirst();
+        return Optional.ofNullable(flux.next().block());
     }
 
     @Override
@@ -383,7 +541,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findAny() {
-        return Spouts.from(flux).findAny();
+        return findFirst();
     }
 
     @Override
@@ -393,37 +551,55 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Spouts.from(flux).mapReduce(mapper,reducer);
+        return flux.map(mapper).reduce(reducer.zero(),(a,b)->reducer.apply(a,b)).block();
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Spouts.from(flux).reduce(reducer);
+        return reduceAsync(reducer).block();
     }
 
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return Spouts.from(flux).reduce(accumulator);
+        return Optional.ofNullable(reduceAsync(accumulator).block());
     }
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Spouts.from(flux).reduce(identity,accumulator);
+        return reduceAsync(identity,accumulator).block();
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Spouts.from(flux).reduce(identity, accumulator, combiner);
+        return flux.reduce(identity,accumulator).block();
     }
 
     @Override
     public ListX<T> reduce(Stream<? extends Monoid<T>> reducers) {
-        return Spouts.from(flux).reduce(reducers);
+        return reduceAll(reducers.collect(Collectors.toList()));
     }
 
     @Override
     public ListX<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Spouts.from(flux).reduce(reducers);
+        return reduceAll(ListX.fromIterable(reducers));
+    }
+
+    /*
+     * Applies every Monoid in a single pass, accumulating into one mutable List of partial results
+     */
+    private ListX<T> reduceAll(List<? extends Monoid<T>> reducers) {
+        return flux.collect(()->{
+                        List<T> zeros = new ArrayList<>(reducers.size());
+                        for(Monoid<T> m : reducers)
+                            zeros.add(m.zero());
+                        return zeros;
+                    },
+                    (List<T> acc, T next)->{
+                        for(int i=0;i<acc.size();i++)
+                            acc.set(i,reducers.get(i).apply(acc.get(i),next));
+                    })
+                   .map(ListX::fromIterable)
+                   .block();
     }
 
     @Override
@@ -531,12 +707,12 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return flux.toIterable().iterator();
+        return FluxIterators.iterator(flux);
     }
 
     @Override
     public Spliterator<T> spliterator() {
-        return flux.toIterable().spliterator();
+        return FluxIterators.spliterator(flux);
     }
 
     @Override
@@ -571,27 +747,27 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> prependS(Stream<? extends T> stream) {
-        return flux(Spouts.from(flux).prependS(stream));
+        return flux(flux.startWith(fromStream(stream)));
     }
 
     @Override
     public ReactiveSeq<T> append(T... values) {
-        return flux(Spouts.from(flux).append(values));
+        return flux(flux.concatWith(Flux.just(values)));
     }
 
     @Override
     public ReactiveSeq<T> append(T value) {
-        return flux(Spouts.from(flux).append(value));
+        return flux(flux.concatWith(Flux.just(value)));
     }
 
     @Override
     public ReactiveSeq<T> prepend(T value) {
-        return flux(Spouts.from(flux).prepend(value));
+        return flux(flux.startWith(value));
     }
 
     @Override
     public ReactiveSeq<T> prepend(T... values) {
-        return flux(Spouts.from(flux).prepend(values));
+        return flux(flux.startWith(values));
     }
 
     @Override
@@ -631,17 +807,17 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> onEmptySwitch(Supplier<? extends Stream<T>> switchTo) {
-        return flux(Spouts.from(flux).onEmptySwitch(switchTo));
+        return flux(flux.switchIfEmpty(Flux.defer(()->fromStream(switchTo.get()))));
     }
 
     @Override
     public ReactiveSeq<T> onEmptyGet(Supplier<? extends T> supplier) {
-        return flux(Spouts.from(flux).onEmptyGet(supplier));
+        return flux(flux.switchIfEmpty(Mono.fromSupplier(supplier)));
     }
 
     @Override
     public <X extends Throwable> ReactiveSeq<T> onEmptyThrow(Supplier<? extends X> supplier) {
-        return flux(Spouts.from(flux).onEmptyThrow(supplier));
+        return flux(flux.switchIfEmpty(Flux.defer(()->Flux.error(supplier.get()))));
     }
 
     @Override
@@ -676,32 +852,32 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> recover(Function<? super Throwable, ? extends T> fn) {
-        return flux(Spouts.from(flux).recover(fn));
+        return flux(flux.onErrorResume(e->Flux.just(fn.apply(e))));
     }
 
     @Override
     public <EX extends Throwable> ReactiveSeq<T> recover(Class<EX> exceptionClass, Function<? super EX, ? extends T> fn) {
-        return flux(Spouts.from(flux).recover(exceptionClass,fn));
+        return flux(flux.onErrorResume(exceptionClass,e->Flux.just(fn.apply(e))));
     }
 
     @Override
     public long count() {
-        return Spouts.from(flux).count();
+        return countAsync().block();
     }
 
     @Override
     public ReactiveSeq<T> appendS(Stream<? extends T> other) {
-        return flux(Spouts.from(flux).appendS(other));
+        return flux(flux.concatWith(fromStream(other)));
     }
 
     @Override
     public ReactiveSeq<T> append(Iterable<? extends T> other) {
-        return  flux(Spouts.from(flux).append(other));
+        return flux(flux.concatWith(fromIterable(other)));
     }
 
     @Override
     public ReactiveSeq<T> prepend(Iterable<? extends T> other) {
-        return flux(Spouts.from(flux).prepend(other));
+        return flux(flux.startWith(fromIterable(other)));
     }
 
     @Override
@@ -744,8 +920,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
-
-        return flux.toStream().collect(supplier,accumulator,combiner);
+        return flux.collect(supplier,accumulator).block();
     }
 
     @Override
@@ -755,7 +930,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R, A> R collect(Collector<? super T, A, R> collector) {
-        return flux.collect((Collector<T,A,R>)collector).block();
+        return collectAsync(collector).block();
     }
 
 
@@ -804,32 +979,106 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return maybe;
     }
     /**
+     * Hot multicast : the returned ReactiveSeqs share a single subscription to this Flux, made once all
+     * num of them have been subscribed to. Every branch receives every element and requests at its own
+     * rate, up to {@link QueueSupplier#SMALL_BUFFER_SIZE} elements are held for the slowest branch.
+     *
+     * Branches must be subscribed to concurrently (e.g. merged, zipped or each with forEach), a branch
+     * consumed on its own waits for the others.
+     */
     @Override
-   public <R> ReactiveSeq<R> fanOut(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path1,
-                                      Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path2,
-                                      Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path3){
-
-        Flux<T> co = flux.doOnSubscribe(s -> System.out.println("subscribed to source")).publish().autoConnect(3);
-        ListX<ReactiveSeq<T>> list = multicast(3);
-        Publisher<R> pub2 = (Publisher<R>)path2.apply(list.get(1));
-        Publisher<R> pub3 = (Publisher<R>)path3.apply(list.get(2));
-        ReactiveSeq<R> seq = (ReactiveSeq<R>)path1.apply(list.get(0));
-        return  flux(Flux.merge(pub2,pub3,seq));
+    public ListX<ReactiveSeq<T>> multicast(int num) {
+        return multicast(num, QueueSupplier.SMALL_BUFFER_SIZE);
+    }
 
+    /**
+     * @see #multicast(int)
+     * @param num Number of branches
+     * @param bufferSize Maximum number of elements held for the slowest branch
+     * @return num ReactiveSeqs sharing a single subscription to this Flux
+     */
+    public ListX<ReactiveSeq<T>> multicast(int num, int bufferSize) {
+        Flux<T> shared = flux.publish(bufferSize).autoConnect(num);
+        ListX<ReactiveSeq<T>> result = ListX.empty();
+        for(int i=0;i<num;i++)
+            result.add(flux(shared));
+        return result;
+    }
 
+    @Override
+    public <R> ReactiveSeq<R> fanOut(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path1,
+                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path2) {
+        return fanOutMerge(path1,path2);
+    }
 
+    @Override
+    public <R> ReactiveSeq<R> fanOut(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path1,
+                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path2,
+                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path3) {
+        return fanOutMerge(path1,path2,path3);
     }
+
     @Override
-    public ListX<ReactiveSeq<T>> multicast(int num) {
-        ListX<ReactiveSeq<T>> result = ListX.empty();
-         for(int i=0;i<num;i++) {
+    public <R> ReactiveSeq<R> fanOut(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path1,
+                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path2,
+                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path3,
+                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> path4) {
+        return fanOutMerge(path1,path2,path3,path4);
+    }
 
-            result.add(flux(FluxSource.wrap()));
-        }
+    /*
+     * Each subscription to the result multicasts a fresh subscription to this Flux across the paths
+     */
+    @SafeVarargs
+    private final <R> ReactiveSeq<R> fanOutMerge(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>>... paths) {
+        return flux(Flux.defer(() -> {
+            ListX<ReactiveSeq<T>> branches = multicast(paths.length);
+            List<Publisher<? extends R>> results = new ArrayList<>(paths.length);
+            for(int i=0;i<paths.length;i++)
+                results.add(paths[i].apply(branches.get(i)));
+            return Flux.<R>merge(results.toArray(new Publisher[paths.length]));
+        }));
+    }
 
-        return result;
+    /**
+     * The paths run on a hot {@link #multicast(int)} and are zipped pairwise, paths that emit at different
+     * rates can fall at most {@link QueueSupplier#SMALL_BUFFER_SIZE} elements apart
+     */
+    @Override
+    public <R1, R2, R3> ReactiveSeq<R3> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
+                                                    Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R2>> path2,
+                                                    BiFunction<? super R1, ? super R2, ? extends R3> zipFn) {
+        return flux(Flux.defer(() -> {
+            ListX<ReactiveSeq<T>> branches = multicast(2);
+            return Flux.<R1,R2,R3>zip(path1.apply(branches.get(0)),path2.apply(branches.get(1)),zipFn);
+        }));
+    }
+
+    @Override
+    public <R1, R2, R3, R4> ReactiveSeq<R4> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
+                                                        Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R2>> path2,
+                                                        Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R3>> path3,
+                                                        Fn3<? super R1, ? super R2, ? super R3, ? extends R4> zipFn) {
+        return flux(Flux.defer(() -> {
+            ListX<ReactiveSeq<T>> branches = multicast(3);
+            return Flux.<Object,R4>zip(a->zipFn.apply((R1)a[0],(R2)a[1],(R3)a[2]),
+                                path1.apply(branches.get(0)),path2.apply(branches.get(1)),path3.apply(branches.get(2)));
+        }));
+    }
+
+    @Override
+    public <R1, R2, R3, R4, R5> ReactiveSeq<R5> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
+                                                            Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R2>> path2,
+                                                            Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R3>> path3,
+                                                            Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R4>> path4,
+                                                            Fn4<? super R1, ? super R2, ? super R3, ? super R4, ? extends R5> zipFn) {
+        return flux(Flux.defer(() -> {
+            ListX<ReactiveSeq<T>> branches = multicast(4);
+            return Flux.<Object,R5>zip(a->zipFn.apply((R1)a[0],(R2)a[1],(R3)a[2],(R4)a[3]),
+                                path1.apply(branches.get(0)),path2.apply(branches.get(1)),
+                                path3.apply(branches.get(2)),path4.apply(branches.get(3)));
+        }));
     }
-     **/
 
     @Override
     public void subscribe(Subscriber<? super T> s) {
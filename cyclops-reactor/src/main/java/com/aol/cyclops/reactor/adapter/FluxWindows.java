@@ -0,0 +1,320 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.collections.immutable.VectorX;
+import cyclops.collections.mutable.ListX;
+import lombok.experimental.UtilityClass;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Windowing operators for Flux that expose each window as a view over a buffer, rather than copying
+ * every window into a new collection.
+ *
+ * Windows follow the ReactiveSeq semantics : a window is emitted each time windowSize elements are
+ * buffered, the window then advances by increment (at most windowSize), and a trailing partial window
+ * is emitted only if it holds elements not already emitted.
+ */
+@UtilityClass
+public class FluxWindows {
+
+    /**
+     * Sliding windows as immutable views. Non-overlapping windows are collected by Flux.buffer directly
+     * into the array backing each view. Overlapping windows share append-only chunks, an element is
+     * copied again only when a chunk fills and the open window moves to the next chunk.
+     *
+     * <pre>
+     * {@code
+     *   FluxWindows.sliding(Flux.just(1,2,3,4,5),3,1);
+     *   //[[1,2,3],[2,3,4],[3,4,5]]
+     * }
+     * </pre>
+     *
+     * @param flux Flux to window
+     * @param windowSize Size of each window
+     * @param increment Distance between the start of each window
+     * @return Flux of windows, each safe to retain
+     */
+    public static <T> Flux<VectorX<T>> sliding(Flux<T> flux, int windowSize, int increment) {
+        checkWindow(windowSize, increment);
+        if (increment >= windowSize)
+            return flux.buffer(windowSize, () -> new ArrayBuffer<T>(windowSize))
+                       .map(b -> VectorX.fromIterable(new WindowView<T>(b.elements, 0, b.size)));
+        return Flux.defer(() -> {
+            SharedChunks<T> chunks = new SharedChunks<>(windowSize, increment);
+            return flux.handle(chunks::next)
+                       .concatWith(Flux.defer(chunks::last));
+        });
+    }
+
+    /**
+     * Sliding windows as views over a single ring buffer that is reused for every window. A window is
+     * only valid until the onNext call it was delivered in returns : it must not be retained, and must
+     * not be handed to an asynchronous stage (e.g. publishOn). Copy the window if it is needed later.
+     *
+     * @param flux Flux to window
+     * @param windowSize Size of each window
+     * @param increment Distance between the start of each window
+     * @return Flux of windows over a recycled buffer
+     */
+    public static <T> Flux<VectorX<T>> slidingRecycled(Flux<T> flux, int windowSize, int increment) {
+        checkWindow(windowSize, increment);
+        return Flux.defer(() -> {
+            Ring<T> ring = new Ring<>(windowSize, increment);
+            return flux.handle(ring::next)
+                       .concatWith(Flux.defer(ring::last));
+        });
+    }
+
+    /**
+     * Group elements into ListX instances, each element is added to the current group and the group is
+     * emitted once the predicate (applied to the group and the element) matches (until) or fails (while).
+     * The group passed to the predicate is the ListX that is emitted, it is not copied.
+     */
+    public static <T> Flux<ListX<T>> groupedStatefully(Flux<T> flux, BiPredicate<ListX<? super T>, ? super T> predicate,
+                                                      boolean until) {
+        return groupedStatefully(flux, (ListX<T> group, T t) -> predicate.test(group, t),
+                                 () -> ListX.fromIterable(new ArrayList<>()), Function.identity(), until);
+    }
+
+    /**
+     * As {@link #groupedStatefully(Flux, BiPredicate, boolean)} with a user supplied collection type and
+     * finalizer
+     */
+    public static <T, C extends Collection<T>, R> Flux<R> groupedStatefully(Flux<T> flux, BiPredicate<C, ? super T> predicate,
+                                                                          Supplier<C> factory,
+                                                                          Function<? super C, ? extends R> finalizer,
+                                                                          boolean until) {
+        return Flux.defer(() -> {
+            Groups<T, C, R> groups = new Groups<>(factory, finalizer, (c, t) -> predicate.test(c, t) == until);
+            return flux.handle(groups::next)
+                       .concatWith(Flux.defer(groups::last));
+        });
+    }
+
+    private static void checkWindow(int windowSize, int increment) {
+        if (windowSize < 1 || increment < 1)
+            throw new IllegalArgumentException("Window size and increment must be positive : " + windowSize + " , " + increment);
+    }
+
+    /*
+     * Immutable list over a slice of an array, the slice itself is never written again. Updates copy
+     * into a TreePVector.
+     */
+    static final class WindowView<T> extends AbstractList<T> implements PVector<T> {
+        private final Object[] elements;
+        private final int offset;
+        private final int length;
+
+        WindowView(Object[] elements, int offset, int length) {
+            this.elements = elements;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds - size : " + length);
+            int i = offset + index;
+            return (T) elements[i < elements.length ? i : i - elements.length];
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public PVector<T> subList(int start, int end) {
+            if (start < 0 || end > length || start > end)
+                throw new IndexOutOfBoundsException("Range " + start + " to " + end + " is out of bounds - size : " + length);
+            return new WindowView<>(elements, offset + start, end - start);
+        }
+
+        private TreePVector<T> copy() {
+            return TreePVector.from(this);
+        }
+
+        @Override
+        public PVector<T> plus(T e) {
+            return copy().plus(e);
+        }
+
+        @Override
+        public PVector<T> plusAll(Collection<? extends T> list) {
+            return copy().plusAll(list);
+        }
+
+        @Override
+        public PVector<T> with(int i, T e) {
+            return copy().with(i, e);
+        }
+
+        @Override
+        public PVector<T> plus(int i, T e) {
+            return copy().plus(i, e);
+        }
+
+        @Override
+        public PVector<T> plusAll(int i, Collection<? extends T> list) {
+            return copy().plusAll(i, list);
+        }
+
+        @Override
+        public PVector<T> minus(Object e) {
+            return copy().minus(e);
+        }
+
+        @Override
+        public PVector<T> minusAll(Collection<?> list) {
+            return copy().minusAll(list);
+        }
+
+        @Override
+        public PVector<T> minus(int i) {
+            return copy().minus(i);
+        }
+    }
+
+    /*
+     * Fixed capacity buffer handed to Flux.buffer, so the buffered array can back a WindowView as is
+     */
+    static final class ArrayBuffer<T> extends AbstractCollection<T> {
+        private final Object[] elements;
+        private int size;
+
+        ArrayBuffer(int capacity) {
+            elements = new Object[capacity];
+        }
+
+        @Override
+        public boolean add(T t) {
+            elements[size++] = t;
+            return true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new WindowView<T>(elements, 0, size).iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static final class SharedChunks<T> {
+        private final int windowSize;
+        private final int increment;
+        private final int capacity;
+        private Object[] chunk;
+        private int start;
+        private int end;
+        private boolean fresh;
+
+        SharedChunks(int windowSize, int increment) {
+            this.windowSize = windowSize;
+            this.increment = increment;
+            this.capacity = Math.max(64, windowSize * 4);
+            this.chunk = new Object[capacity];
+        }
+
+        void next(T t, SynchronousSink<VectorX<T>> sink) {
+            if (end == chunk.length) {
+                int open = end - start;
+                Object[] next = new Object[capacity];
+                System.arraycopy(chunk, start, next, 0, open);
+                chunk = next;
+                start = 0;
+                end = open;
+            }
+            chunk[end++] = t;
+            fresh = true;
+            if (end - start == windowSize) {
+                sink.next(VectorX.fromIterable(new WindowView<T>(chunk, start, windowSize)));
+                start += increment;
+                fresh = false;
+            }
+        }
+
+        Flux<VectorX<T>> last() {
+            if (!fresh)
+                return Flux.empty();
+            return Flux.just(VectorX.fromIterable(new WindowView<T>(chunk, start, end - start)));
+        }
+    }
+
+    static final class Ring<T> {
+        private final int increment;
+        private final Object[] ring;
+        private int start;
+        private int size;
+        private boolean fresh;
+
+        Ring(int windowSize, int increment) {
+            this.increment = Math.min(increment, windowSize);
+            this.ring = new Object[windowSize];
+        }
+
+        void next(T t, SynchronousSink<VectorX<T>> sink) {
+            int i = start + size;
+            ring[i < ring.length ? i : i - ring.length] = t;
+            size++;
+            fresh = true;
+            if (size == ring.length) {
+                sink.next(VectorX.fromIterable(new WindowView<T>(ring, start, size)));
+                start = (start + increment) % ring.length;
+                size -= increment;
+                fresh = false;
+            }
+        }
+
+        Flux<VectorX<T>> last() {
+            if (!fresh)
+                return Flux.empty();
+            return Flux.just(VectorX.fromIterable(new WindowView<T>(ring, start, size)));
+        }
+    }
+
+    static final class Groups<T, C extends Collection<T>, R> {
+        private final Supplier<C> factory;
+        private final Function<? super C, ? extends R> finalizer;
+        private final BiPredicate<C, ? super T> complete;
+        private C group;
+
+        Groups(Supplier<C> factory, Function<? super C, ? extends R> finalizer, BiPredicate<C, ? super T> complete) {
+            this.factory = factory;
+            this.finalizer = finalizer;
+            this.complete = complete;
+        }
+
+        void next(T t, SynchronousSink<R> sink) {
+            if (group == null)
+                group = factory.get();
+            group.add(t);
+            if (complete.test(group, t)) {
+                C done = group;
+                group = null;
+                sink.next(finalizer.apply(done));
+            }
+        }
+
+        Flux<R> last() {
+            if (group == null)
+                return Flux.empty();
+            return Flux.just(finalizer.apply(group));
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.function.Monoid;
+import cyclops.stream.ReactiveSeq;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.ParallelFlux;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A FluxReactiveSeq whose map, filter, flatMap, reduce and collect operators run on the rails of a
+ * Reactor ParallelFlux. Every other operator is applied to the rails merged back into a single Flux
+ * (see {@link #sequential()}).
+ *
+ * In ordered mode each element carries the sequence number it had in the source Flux, rails keep one
+ * entry per sequence number (filtered elements are marked rather than dropped) and the merge releases
+ * entries strictly in sequence. Entries that complete ahead of an earlier entry are held until it arrives.
+ * Neither the held entries nor the List an ordered flatMap collects per element are bounded, see
+ * {@link #parallel(int, Scheduler, boolean)}.
+ * Ordered reduce and collect merge before reducing, so non-commutative reductions see encounter order.
+ *
+ * <pre>
+ * {@code
+ *   new FluxReactiveSeq<>(Flux.range(0,1000))
+ *        .parallel(4,Schedulers.parallel())
+ *        .map(this::expensive)
+ *        .filter(this::accept)
+ *        .toListX();
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the elements
+ */
+public class ParallelFluxReactiveSeq<T> extends FluxReactiveSeq<T> {
+
+    private final ParallelFlux<?> rails;
+    private final boolean ordered;
+
+    private ParallelFluxReactiveSeq(ParallelFlux<?> rails, boolean ordered) {
+        super(ordered ? Sequenced.merge((ParallelFlux<Sequenced>) rails) : ((ParallelFlux<T>) rails).sequential());
+        this.rails = rails;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @param flux Flux to split into rails
+     * @param parallelism Number of rails
+     * @param scheduler Scheduler each rail runs on
+     * @param ordered true if results should keep the encounter order of the source Flux
+     * @return ReactiveSeq with operators that run on each rail
+     */
+    public static <T> ParallelFluxReactiveSeq<T> parallel(Flux<T> flux, int parallelism, Scheduler scheduler, boolean ordered) {
+        if (ordered)
+            return new ParallelFluxReactiveSeq<>(Sequenced.index(flux).parallel(parallelism).runOn(scheduler), true);
+        return new ParallelFluxReactiveSeq<>(flux.parallel(parallelism).runOn(scheduler), false);
+    }
+
+    private ParallelFlux<T> rails() {
+        return (ParallelFlux<T>) rails;
+    }
+
+    private ParallelFlux<Sequenced> sequenced() {
+        return (ParallelFlux<Sequenced>) rails;
+    }
+
+    /**
+     * @return Number of rails
+     */
+    public int parallelism() {
+        return rails.parallelism();
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    @Override
+    public <R> ParallelFluxReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        if (ordered)
+            return new ParallelFluxReactiveSeq<>(sequenced().map(s -> s.map(fn)), true);
+        return new ParallelFluxReactiveSeq<>(rails().map(fn), false);
+    }
+
+    @Override
+    public ParallelFluxReactiveSeq<T> filter(Predicate<? super T> fn) {
+        if (ordered)
+            return new ParallelFluxReactiveSeq<>(sequenced().map(s -> s.filter(fn)), true);
+        return new ParallelFluxReactiveSeq<>(rails().filter(fn), false);
+    }
+
+    @Override
+    public <R> ParallelFluxReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        if (ordered)
+            return new ParallelFluxReactiveSeq<>(sequenced().map(s -> s.flatMap(fn)), true);
+        return new ParallelFluxReactiveSeq<>(rails().concatMap(t -> ReactiveSeq.fromStream(fn.apply(t))), false);
+    }
+
+    @Override
+    public T reduce(Monoid<T> reducer) {
+        return reduce(reducer.zero(), reducer);
+    }
+
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        if (ordered)
+            return super.reduce(accumulator);
+        return Optional.ofNullable(rails().reduce(accumulator).block());
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return reduce(identity, accumulator, accumulator);
+    }
+
+    @Override
+    public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
+        if (ordered)
+            return super.reduce(identity, accumulator, combiner);
+        return rails().reduce(() -> identity, accumulator)
+                      .reduce(combiner)
+                      .block();
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
+        if (ordered)
+            return super.collect(supplier, accumulator, combiner);
+        return rails().collect(supplier, accumulator)
+                      .reduce((a, b) -> {
+                          combiner.accept(a, b);
+                          return a;
+                      })
+                      .block();
+    }
+
+    @Override
+    public <R, A> R collect(Collector<? super T, A, R> collector) {
+        if (ordered)
+            return super.collect(collector);
+        Collector<T, A, R> c = (Collector<T, A, R>) collector;
+        A result = rails().collect(c.supplier(), c.accumulator())
+                          .reduce(c.combiner()::apply)
+                          .block();
+        return c.finisher().apply(result != null ? result : c.supplier().get());
+    }
+
+    @Override
+    public ParallelFluxReactiveSeq<T> parallel() {
+        return this;
+    }
+
+    @Override
+    public ParallelFluxReactiveSeq<T> parallel(int parallelism, Scheduler scheduler, boolean ordered) {
+        return parallel(getFlux(), parallelism, scheduler, ordered);
+    }
+
+    @Override
+    public boolean isParallel() {
+        return true;
+    }
+
+    /**
+     * @return The rails merged back into a single Flux, in encounter order if this ReactiveSeq is ordered
+     */
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return new FluxReactiveSeq<>(getFlux());
+    }
+
+    /**
+     * @return ReactiveSeq on the same rails that merges results as each rail produces them
+     */
+    @Override
+    public ParallelFluxReactiveSeq<T> unordered() {
+        if (!ordered)
+            return this;
+        return new ParallelFluxReactiveSeq<>(sequenced().concatMap(s -> Flux.fromIterable(s.<T>values())), false);
+    }
+
+    /*
+     * An element tagged with its position in the source Flux. The value is the element, SKIPPED if a
+     * filter removed it, or a Many holding the elements a flatMap produced for it. Each Sequenced is
+     * owned by the rail processing it, so steps update it in place.
+     */
+    static final class Sequenced {
+        static final Object SKIPPED = new Object();
+
+        final long index;
+        Object value;
+
+        Sequenced(long index, Object value) {
+            this.index = index;
+            this.value = value;
+        }
+
+        static <T> Flux<Sequenced> index(Flux<T> flux) {
+            return Flux.defer(() -> {
+                long[] next = {0};
+                return flux.map(t -> new Sequenced(next[0]++, t));
+            });
+        }
+
+        static <T> Flux<T> merge(ParallelFlux<Sequenced> rails) {
+            return Flux.defer(() -> {
+                Reorder reorder = new Reorder();
+                return rails.sequential()
+                            .concatMapIterable(reorder::next);
+            });
+        }
+
+        Sequenced map(Function<?, ?> fn) {
+            Function<Object, Object> f = (Function<Object, Object>) fn;
+            if (value instanceof Many)
+                value = new Many(((Many) value).values.stream().map(f).collect(Collectors.toList()));
+            else if (value != SKIPPED)
+                value = f.apply(value);
+            return this;
+        }
+
+        Sequenced filter(Predicate<?> fn) {
+            Predicate<Object> p = (Predicate<Object>) fn;
+            if (value instanceof Many)
+                value = new Many(((Many) value).values.stream().filter(p).collect(Collectors.toList()));
+            else if (value != SKIPPED && !p.test(value))
+                value = SKIPPED;
+            return this;
+        }
+
+        Sequenced flatMap(Function<?, ? extends Stream<?>> fn) {
+            Function<Object, Stream<?>> f = (Function<Object, Stream<?>>) fn;
+            if (value instanceof Many)
+                value = new Many(((Many) value).values.stream().flatMap(f).collect(Collectors.toList()));
+            else if (value != SKIPPED)
+                value = new Many(f.apply(value).collect(Collectors.toList()));
+            return this;
+        }
+
+        <T> List<T> values() {
+            if (value instanceof Many)
+                return (List<T>) ((Many) value).values;
+            if (value == SKIPPED)
+                return Collections.emptyList();
+            return Collections.singletonList((T) value);
+        }
+    }
+
+    static final class Many {
+        final List<Object> values;
+
+        Many(List<Object> values) {
+            this.values = values;
+        }
+    }
+
+    /*
+     * Releases Sequenced entries in index order, the merged rails deliver entries one at a time. pending is
+     * unbounded: every entry that overtakes a slow one waits here
+     */
+    static final class Reorder {
+        private final Map<Long, Sequenced> pending = new HashMap<>();
+        private long expected;
+
+        <T> List<T> next(Sequenced s) {
+            if (s.index != expected) {
+                pending.put(s.index, s);
+                return Collections.emptyList();
+            }
+            expected++;
+            if (pending.isEmpty())
+                return s.values();
+            List<T> ready = new ArrayList<>(s.<T>values());
+            Sequenced n;
+            while ((n = pending.remove(expected)) != null) {
+                expected++;
+                ready.addAll(n.<T>values());
+            }
+            return ready;
+        }
+    }
+}
@@ -791,20 +791,8 @@ public class Fluxs {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<flux> traverse(){
-            BiFunction<Applicative<C2>,FluxKind<Higher<C2, T>>,Higher<C2, FluxKind<T>>> sequenceFn = (ap, flux) -> {
-
-                Higher<C2,FluxKind<T>> identity = ap.unit(widen(Flux.empty()));
-
-                BiFunction<Higher<C2,FluxKind<T>>,Higher<C2,T>,Higher<C2,FluxKind<T>>> combineToFlux =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(Flux.concat(a,Flux.just(b)))),acc,next);
-
-                BinaryOperator<Higher<C2,FluxKind<T>>> combineFluxs = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return widen(Flux.concat(l1.narrow(),l2.narrow()));}),a,b); ;
-
-                return ReactiveSeq.fromPublisher(flux).reduce(identity,
-                        combineToFlux,
-                        combineFluxs);
-
-
-            };
+            BiFunction<Applicative<C2>,FluxKind<Higher<C2, T>>,Higher<C2, FluxKind<T>>> sequenceFn = (ap, flux) ->
+                    Traversals.sequence(ap, ReactiveSeq.fromPublisher(flux), l -> widen(Flux.fromIterable(l)));
             BiFunction<Applicative<C2>,Higher<flux,Higher<C2, T>>,Higher<C2, Higher<flux,T>>> sequenceNarrow  =
                     (a,b) -> FluxKind.widen2(sequenceFn.apply(a, FluxKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -475,7 +475,26 @@ public class Monos {
     @UtilityClass
     public static class Instances {
 
+        /**
+         * Type class definitions that never block. Traverse, Foldable and Comonad are not provided, as they can only be
+         * implemented by blocking on the Mono - see {@link #blockingDefinitions()}, or use the non-blocking
+         * {@link #traverseAsync}, {@link #sequenceAsync} and {@link #foldAsync} operators instead.
+         *
+         * @return Non-blocking type class definitions for Monos
+         */
         public static InstanceDefinitions<mono> definitions() {
+            return definitions(false);
+        }
+        /**
+         * Type class definitions including the Traverse, Foldable and Comonad instances, all of which call block().
+         * Only use these where blocking is acceptable (i.e. not from an event loop / non-blocking Scheduler thread).
+         *
+         * @return Type class definitions for Monos, including blocking instances
+         */
+        public static InstanceDefinitions<mono> blockingDefinitions() {
+            return definitions(true);
+        }
+        private static InstanceDefinitions<mono> definitions(boolean blocking) {
             return new InstanceDefinitions<mono>() {
 
                 @Override
@@ -515,17 +534,17 @@ public class Monos {
 
                 @Override
                 public <C2, T> Maybe<Traverse<mono>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return blocking ? Maybe.just(Instances.traverse()) : Maybe.none();
                 }
 
                 @Override
                 public <T> Maybe<Foldable<mono>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return blocking ? Maybe.just(Instances.foldable()) : Maybe.none();
                 }
 
                 @Override
                 public <T> Maybe<Comonad<mono>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return blocking ? Maybe.just(Instances.comonad()) : Maybe.none();
                 }
 
                 @Override
@@ -727,6 +746,8 @@ public class Monos {
         }
 
         /**
+         * Note this Traverse instance calls block(), see {@link #traverseAsync} for a non-blocking alternative
+         *
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<mono> traverse(){
@@ -747,6 +768,8 @@ public class Monos {
          * </pre>
          *
          *
+         * Note this Foldable instance calls block(), see {@link #foldAsync} for a non-blocking alternative
+         *
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<mono> foldable(){
@@ -754,11 +777,69 @@ public class Monos {
             BiFunction<Monoid<T>,Higher<mono,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), MonoKind.narrow(l).block());
             return General.foldable(foldRightFn, foldLeftFn);
         }
+        /**
+         * Note this Comonad instance calls block() to extract the value
+         *
+         * @return Comonad for Monos
+         */
         public static <T> Comonad<mono> comonad(){
             Function<? super Higher<mono, T>, ? extends T> extractFn = maybe -> maybe.convert(MonoKind::narrow).block();
             return General.comonad(functor(), unit(), extractFn);
         }
 
+        /**
+         * Non-blocking traverse, the result stays inside a Mono rather than blocking for the value
+         *
+         * <pre>
+         * {@code
+         * Mono<Higher<maybe, Higher<mono, Integer>>> res = Monos.Instances.traverseAsync(Maybe.Instances.applicative(),
+         *                                                                   (Integer a)-> Maybe.just(a*2),
+         *                                                                   MonoKind.widen(Mono.just(1)));
+         * //Mono[Maybe[Mono[2]]]
+         * }
+         * </pre>
+         *
+         * @param applicative Applicative for the result type
+         * @param fn Function to apply to the value in the Mono
+         * @param ds Mono to traverse
+         * @return Mono that emits the traversed result, once the value is available
+         */
+        public static <C2,T,R> Mono<Higher<C2, Higher<mono, R>>> traverseAsync(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
+                                                                               Higher<mono, T> ds){
+            Mono<T> future = MonoKind.narrow(ds);
+            return future.<Higher<C2, Higher<mono, R>>>map(t->applicative.map(MonoKind::just, fn.apply(t)))
+                         .switchIfEmpty(Mono.fromSupplier(()->applicative.unit(MonoKind.empty())));
+        }
+        /**
+         * Non-blocking sequence, the result stays inside a Mono rather than blocking for the value
+         *
+         * @param applicative Applicative for the result type
+         * @param ds Mono to sequence
+         * @return Mono that emits the sequenced result, once the value is available
+         */
+        public static <C2,T> Mono<Higher<C2, Higher<mono, T>>> sequenceAsync(Applicative<C2> applicative, Higher<mono, Higher<C2, T>> ds){
+            return traverseAsync(applicative, Function.identity(), ds);
+        }
+        /**
+         * Non-blocking fold, the result stays inside a Mono rather than blocking for the value
+         *
+         * <pre>
+         * {@code
+         * Mono<Integer> sum  = Monos.Instances.foldAsync(Monoids.intSum, MonoKind.widen(Mono.just(1)));
+         * //Mono[1]
+         * }
+         * </pre>
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Mono to fold
+         * @return Mono that emits the folded result (or the Monoid zero if the Mono is empty)
+         */
+        public static <T> Mono<T> foldAsync(Monoid<T> monoid, Higher<mono, T> ds){
+            return MonoKind.narrow(ds)
+                           .map(t->monoid.apply(monoid.zero(), t))
+                           .defaultIfEmpty(monoid.zero());
+        }
+
         private static <T> MonoKind<T> of(T value){
             return widen(Mono.just(value));
         }
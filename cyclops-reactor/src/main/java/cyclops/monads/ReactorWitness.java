@@ -2,6 +2,7 @@ package cyclops.monads;
 
 
 import com.aol.cyclops.reactor.adapter.FluxAdapter;
+import com.aol.cyclops.reactor.adapter.FluxReactiveSeq;
 import com.aol.cyclops.reactor.adapter.MonoAdapter;
 import com.aol.cyclops2.types.extensability.FunctionalAdapter;
 import reactor.core.publisher.Flux;
@@ -9,7 +10,8 @@ import reactor.core.publisher.Mono;
 
 public interface ReactorWitness {
     public static <T> Flux<T> flux(AnyM<flux,? extends T> anyM){
-        return anyM.unwrap();
+        FluxReactiveSeq<T> seq = anyM.unwrap();
+        return seq.getFlux();
     }
     public static <T> Mono<T> mono(AnyM<mono,? extends T> anyM){
         return anyM.unwrap();
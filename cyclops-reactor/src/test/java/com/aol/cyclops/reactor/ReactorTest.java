@@ -46,4 +46,13 @@ public class ReactorTest {
 
     }
 
+    @Test
+    public void anyMFlatMap(){
+        assertThat(Fluxs.anyM(Flux.just(1,2,3))
+                        .flatMap(a->Fluxs.anyM(Flux.just(a+10)))
+                        .toListX(),equalTo(Arrays.asList(11,12,13)));
+        assertThat(Fluxs.raw(Fluxs.anyM(Flux.just(1,2,3)).map(a->a+10))
+                        .collectList().block(),equalTo(Arrays.asList(11,12,13)));
+    }
+
 }
@@ -5,12 +5,15 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import cyclops.companion.reactor.Fluxs;
 import com.aol.cyclops.reactor.hkt.FluxKind;
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.Optionals;
+import cyclops.companion.Optionals.OptionalKind;
 import cyclops.control.Maybe;
 import cyclops.function.Fn1;
 import cyclops.function.Lambda;
@@ -146,5 +149,13 @@ public class FluxTest {
        assertThat(res.map(i->i.convert(FluxKind::narrowK).collect(Collectors.toList()).block()),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void traverseLarge(){
+        Optional<Higher<flux, Integer>> res = Fluxs.Instances.traverse()
+                                                        .traverseA(Optionals.Instances.applicative(), (Integer a)->OptionalKind.of(a*2), widen(Flux.range(0,50_000)))
+                                                        .convert(OptionalKind::narrowK);
+
+        assertThat(res.map(i->i.convert(FluxKind::narrowK).collect(Collectors.toList()).block()),
+                   equalTo(Optional.of(ReactiveSeq.range(0,50_000).map(a->a*2).toListX())));
+    }
 }
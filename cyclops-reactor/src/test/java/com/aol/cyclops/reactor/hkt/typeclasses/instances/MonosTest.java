@@ -4,13 +4,18 @@ import static com.aol.cyclops.reactor.hkt.MonoKind.widen;
 import static cyclops.companion.reactor.Monos.Instances.*;
 import static cyclops.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import cyclops.companion.reactor.Monos;
 import com.aol.cyclops.reactor.hkt.MonoKind;
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.async.Future;
+import cyclops.companion.Monoids;
 import cyclops.companion.reactor.Monos.Instances;
 import cyclops.control.Maybe;
 import cyclops.function.Fn1;
@@ -25,6 +30,8 @@ import org.junit.Test;
 
 
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.scheduler.Schedulers;
 
 public class MonosTest {
 
@@ -162,5 +169,64 @@ public class MonosTest {
                                      .map(h -> h.convert(MonoKind::narrow));
 
     }
-    
+    @Test
+    public void traverseAsync(){
+        Mono<Higher<maybe, Higher<mono, Integer>>> res = Instances.traverseAsync(Maybe.Instances.applicative(),
+                                                                                (Integer a)-> Maybe.just(a*2),
+                                                                                MonoKind.widen(Mono.just(1)));
+
+        assertThat(res.block().convert(Maybe::narrowK).map(h->h.convert(MonoKind::narrowK).block()),
+                   equalTo(Maybe.just(2)));
+    }
+    @Test
+    public void traverseAsyncEmpty(){
+        Mono<Higher<maybe, Higher<mono, Integer>>> res = Instances.traverseAsync(Maybe.Instances.applicative(),
+                                                                                (Integer a)-> Maybe.just(a*2),
+                                                                                MonoKind.<Integer>empty());
+
+        assertThat(res.block().convert(Maybe::narrowK).map(h->h.convert(MonoKind::narrowK).defaultIfEmpty(-1).block()),
+                   equalTo(Maybe.just(-1)));
+    }
+    @Test
+    public void sequenceAsync(){
+        Mono<Higher<maybe, Higher<mono, Integer>>> res = Instances.sequenceAsync(Maybe.Instances.applicative(),
+                                                                                MonoKind.widen(Mono.just(Maybe.just(1))));
+
+        assertThat(res.block().convert(Maybe::narrowK).map(h->h.convert(MonoKind::narrowK).block()),
+                   equalTo(Maybe.just(1)));
+    }
+    @Test
+    public void foldAsync(){
+        assertThat(Instances.foldAsync(Monoids.intSum, MonoKind.widen(Mono.just(10))).block(),equalTo(10));
+        assertThat(Instances.foldAsync(Monoids.intSum, MonoKind.<Integer>empty()).block(),equalTo(0));
+    }
+    @Test
+    public void blockingInstancesAreOptIn(){
+        assertFalse(Instances.definitions().traverse().isPresent());
+        assertFalse(Instances.definitions().foldable().isPresent());
+        assertFalse(Instances.definitions().comonad().isPresent());
+        assertTrue(Instances.blockingDefinitions().traverse().isPresent());
+        assertTrue(Instances.blockingDefinitions().foldable().isPresent());
+        assertTrue(Instances.blockingDefinitions().comonad().isPresent());
+    }
+    @Test
+    public void asyncOperatorsDoNotBlockNonBlockingScheduler() throws Exception {
+        MonoProcessor<Integer> pending = MonoProcessor.create();
+        CompletableFuture<Mono<Higher<maybe, Higher<mono, Integer>>>> traversed = new CompletableFuture<>();
+        CompletableFuture<Mono<Integer>> folded = new CompletableFuture<>();
+
+        Schedulers.parallel().schedule(()->{
+            traversed.complete(Instances.traverseAsync(Maybe.Instances.applicative(), (Integer a)-> Maybe.just(a*2), MonoKind.widen(pending)));
+            folded.complete(Instances.foldAsync(Monoids.intSum, MonoKind.widen(pending)));
+        });
+
+        //a blocking implementation would still be parked on the parallel thread waiting for the pending value
+        Mono<Higher<maybe, Higher<mono, Integer>>> res = traversed.get(5, TimeUnit.SECONDS);
+        Mono<Integer> sum = folded.get(5, TimeUnit.SECONDS);
+
+        pending.onNext(10);
+        assertThat(sum.block(),equalTo(10));
+        assertThat(res.block().convert(Maybe::narrowK).map(h->h.convert(MonoKind::narrowK).block()),
+                   equalTo(Maybe.just(20)));
+    }
 }
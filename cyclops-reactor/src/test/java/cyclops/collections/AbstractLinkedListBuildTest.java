@@ -0,0 +1,50 @@
+package cyclops.collections;
+
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+import org.pcollections.PStack;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Checks that the linked list wrappers are built and materialised iteratively. SIZE is far deeper than
+ * a stack frame per element allows, and small enough that a quadratic build would stand out, large N
+ * timings belong in cyclops-benchmarks.
+ */
+public abstract class AbstractLinkedListBuildTest {
+
+    public static final int SIZE = 100_000;
+
+    public abstract LinkedListX<Integer> copyFromCollection(ListX<Integer> values);
+    public abstract LinkedListX<Integer> fromStream(ReactiveSeq<Integer> values);
+    public abstract Reducer<PStack<Integer>> toPStack();
+
+    @Test
+    public void copyFromCollection(){
+        LinkedListX<Integer> list = copyFromCollection(ListX.range(0, SIZE));
+        assertThat(list.size(),equalTo(SIZE));
+        assertThat(list.get(0),equalTo(0));
+        assertThat(list.get(SIZE-1),equalTo(SIZE-1));
+    }
+    @Test
+    public void fromStream(){
+        LinkedListX<Integer> list = fromStream(ReactiveSeq.range(0, SIZE)).materialize();
+        assertThat(list.size(),equalTo(SIZE));
+        assertThat(list.get(0),equalTo(0));
+        assertThat(list.get(SIZE-1),equalTo(SIZE-1));
+    }
+    @Test
+    public void toPStackMapReduce(){
+        assertThat(toPStack().mapReduce(Stream.of(1,2,3)),equalTo(Arrays.asList(3,2,1)));
+        PStack<Integer> list = toPStack().mapReduce(ReactiveSeq.range(0, SIZE));
+        assertThat(list.size(),equalTo(SIZE));
+        assertThat(list.get(0),equalTo(SIZE-1));
+    }
+}
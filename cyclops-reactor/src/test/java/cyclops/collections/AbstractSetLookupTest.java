@@ -0,0 +1,162 @@
+package cyclops.collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * Checks that the persistent Set wrappers answer membership queries via the underlying
+ * structure's lookup rather than a linear scan. Rather than timing the lookups, Keys count the
+ * number of equals / compareTo calls made against them.
+ */
+public abstract class AbstractSetLookupTest {
+
+    public static final int SIZE = 100_000;
+    public static final int MAX_COMPARISONS = 64;
+
+    public abstract Set<Key> hashSet(List<Key> keys);
+    public abstract Set<Key> sortedSet(List<Key> keys);
+
+    /**
+     * @return BitSet backed Set, or null if the backend has no BitSet wrapper
+     */
+    public Set<Integer> bitSet(List<Integer> values){
+        return null;
+    }
+
+    List<Key> keys;
+
+    @Before
+    public void setup(){
+        keys = new ArrayList<>(SIZE);
+        for(int i=0;i<SIZE;i++)
+            keys.add(new Key(i*2));
+        Key.comparisons=0;
+    }
+
+    @Test
+    public void hashSetContains(){
+        Set<Key> set = hashSet(keys);
+        assertThat(set.size(),equalTo(SIZE));
+        assertTrue(set.contains(new Key(SIZE)));
+        assertFalse(set.contains(new Key(SIZE+1)));
+        assertFalse(set.contains("not a key"));
+    }
+    @Test
+    public void hashSetContainsIsSubLinear(){
+        Set<Key> set = hashSet(keys);
+        Key.comparisons=0;
+        set.contains(new Key(SIZE));
+        set.contains(new Key(SIZE+1));
+        assertThat(Key.comparisons,lessThan(MAX_COMPARISONS));
+    }
+    @Test
+    public void hashSetContainsAllIsSubLinear(){
+        Set<Key> set = hashSet(keys);
+        Key.comparisons=0;
+        assertTrue(set.containsAll(Arrays.asList(new Key(0),new Key(SIZE),new Key(SIZE*2-2))));
+        assertFalse(set.containsAll(Arrays.asList(new Key(0),new Key(1))));
+        assertThat(Key.comparisons,lessThan(MAX_COMPARISONS*5));
+    }
+    @Test
+    public void hashSetRemoveAllIsSubLinear(){
+        Set<Key> set = hashSet(keys);
+        Key.comparisons=0;
+        assertFalse(set.removeAll(Arrays.asList(new Key(1),new Key(3))));
+        assertThat(Key.comparisons,lessThan(MAX_COMPARISONS*2));
+    }
+    @Test(expected=UnsupportedOperationException.class)
+    public void hashSetRemoveAllPresent(){
+        hashSet(keys).removeAll(Arrays.asList(new Key(1),new Key(2)));
+    }
+
+    @Test
+    public void sortedSetContains(){
+        Set<Key> set = sortedSet(keys);
+        assertThat(set.size(),equalTo(SIZE));
+        assertTrue(set.contains(new Key(SIZE)));
+        assertFalse(set.contains(new Key(SIZE+1)));
+    }
+    @Test
+    public void sortedSetContainsIsSubLinear(){
+        Set<Key> set = sortedSet(keys);
+        Key.comparisons=0;
+        set.contains(new Key(SIZE));
+        set.contains(new Key(SIZE+1));
+        assertThat(Key.comparisons,lessThan(MAX_COMPARISONS*2));
+    }
+    @Test
+    public void sortedSetContainsAllIsSubLinear(){
+        Set<Key> set = sortedSet(keys);
+        Key.comparisons=0;
+        assertTrue(set.containsAll(Arrays.asList(new Key(0),new Key(SIZE),new Key(SIZE*2-2))));
+        assertFalse(set.containsAll(Arrays.asList(new Key(0),new Key(1))));
+        assertThat(Key.comparisons,lessThan(MAX_COMPARISONS*5));
+    }
+    @Test
+    public void sortedSetRemoveAllIsSubLinear(){
+        Set<Key> set = sortedSet(keys);
+        Key.comparisons=0;
+        assertFalse(set.removeAll(Arrays.asList(new Key(1),new Key(3))));
+        assertThat(Key.comparisons,lessThan(MAX_COMPARISONS*2));
+    }
+    @Test(expected=UnsupportedOperationException.class)
+    public void sortedSetRemoveAllPresent(){
+        sortedSet(keys).removeAll(Arrays.asList(new Key(1),new Key(2)));
+    }
+
+    @Test
+    public void bitSetContains(){
+        Set<Integer> set = bitSet(Arrays.asList(1,5,64,1000));
+        assumeNotNull(set);
+        assertTrue(set.contains(5));
+        assertTrue(set.contains(1000));
+        assertFalse(set.contains(6));
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains(100_000));
+        assertFalse(set.contains("5"));
+        assertTrue(set.containsAll(Arrays.asList(1,64)));
+        assertFalse(set.containsAll(Arrays.asList(1,63)));
+        assertFalse(set.removeAll(Arrays.asList(2,3)));
+    }
+
+    /**
+     * Comparable key that counts every equals / compareTo call made against it
+     */
+    public static class Key implements Comparable<Key>{
+        public static int comparisons = 0;
+        private final int value;
+
+        public Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Key o) {
+            comparisons++;
+            return Integer.compare(value,o.value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            comparisons++;
+            return o instanceof Key && ((Key)o).value==value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Key["+value+"]";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package cyclops.streams.asyncreactivestreams;
+
+import com.aol.cyclops.reactor.adapter.FluxReactiveSeq;
+import cyclops.companion.Monoids;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.UnicastProcessor;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class AsyncRSTerminalOperationsTest {
+
+    UnicastProcessor<Integer> source;
+    FluxReactiveSeq<Integer> seq;
+
+    @Before
+    public void setup(){
+        source = UnicastProcessor.create();
+        seq = new FluxReactiveSeq<>(source);
+    }
+
+    private void emit(Integer... values){
+        for(Integer next : values)
+            source.onNext(next);
+        source.onComplete();
+    }
+
+    @Test
+    public void reduceAsyncDoesNotBlock() throws Exception{
+        CompletableFuture<Integer> result = seq.reduceAsync(0,(a,b)->a+b).toFuture();
+        assertFalse(result.isDone());
+        emit(1,2,3);
+        assertThat(result.get(),equalTo(6));
+    }
+    @Test
+    public void foldRightAsync() throws Exception{
+        CompletableFuture<String> result = seq.foldRightAsync("",(a,b)->b+a).toFuture();
+        assertFalse(result.isDone());
+        emit(1,2,3);
+        assertThat(result.get(),equalTo("321"));
+    }
+    @Test
+    public void foldRightStartsFromLastElement(){
+        assertThat(new FluxReactiveSeq<>(Flux.just(1,2,3)).foldRight("",(a,b)->b+a),equalTo("321"));
+        assertThat(new FluxReactiveSeq<>(Flux.<Integer>empty()).foldRight("",(a,b)->b+a),equalTo(""));
+    }
+    @Test
+    public void findFirstAsync() throws Exception{
+        CompletableFuture<Integer> result = seq.findFirstAsync().toFuture();
+        assertFalse(result.isDone());
+        source.onNext(10);
+        assertThat(result.get(),equalTo(10));
+    }
+    @Test
+    public void collectAsync() throws Exception{
+        CompletableFuture<String> result = seq.joinAsync(",","[","]").toFuture();
+        assertFalse(result.isDone());
+        emit(1,2,3);
+        assertThat(result.get(),equalTo("[1,2,3]"));
+    }
+    @Test
+    public void emptyAsync(){
+        FluxReactiveSeq<Integer> empty = new FluxReactiveSeq<>(Flux.empty());
+        assertNull(empty.findFirstAsync().block());
+        assertNull(empty.reduceAsync((a,b)->a+b).block());
+        assertThat(empty.reduceAsync(Monoids.intSum).block(),equalTo(0));
+        assertThat(empty.countAsync().block(),equalTo(0l));
+    }
+    @Test
+    public void terminalsAsync(){
+        FluxReactiveSeq<Integer> values = new FluxReactiveSeq<>(Flux.just(1,2,3));
+        assertThat(values.reduceAsync((a,b)->a+b).block(),equalTo(6));
+        assertThat(values.collectAsync(Collectors.toList()).block(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(values.countAsync().block(),equalTo(3l));
+        assertThat(values.joinAsync().block(),equalTo("123"));
+        assertTrue(values.allMatchAsync(i->i>0).block());
+        assertTrue(values.anyMatchAsync(i->i>2).block());
+        assertFalse(values.noneMatchAsync(i->i>2).block());
+    }
+}
@@ -1,6 +1,8 @@
 package cyclops.streams.syncflux;
 
+import com.aol.cyclops.reactor.adapter.FluxReactiveSeq;
 import com.aol.cyclops2.util.SimpleTimer;
+import cyclops.collections.immutable.VectorX;
 import cyclops.collections.mutable.ListX;
 import cyclops.companion.reactor.Fluxs;
 import cyclops.stream.ReactiveSeq;
@@ -426,4 +428,47 @@ public class SyncBatchingTest {
 	}
 	
 
+	@Test
+	public void sliding(){
+		assertThat(of(1,2,3,4,5).sliding(3,1).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(2,3,4),Arrays.asList(3,4,5))));
+		assertThat(of(1,2,3,4,5,6).sliding(3,2).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4,5),Arrays.asList(5,6))));
+		assertThat(of(1,2,3,4,5).sliding(2,3).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+		assertThat(of(1,2).sliding(3).toList(),equalTo(Arrays.asList(Arrays.asList(1,2))));
+		assertThat(of().sliding(3).toList().size(),equalTo(0));
+	}
+	@Test
+	public void slidingMatchesReactiveSeq(){
+		Integer[] data = ReactiveSeq.range(0,1000).toArray(Integer[]::new);
+		for(int size : new int[]{1,2,7,64,65,300})
+			for(int inc : new int[]{1,3,size,size+1})
+				assertThat(of(data).sliding(size,inc).toList(),
+						equalTo(ReactiveSeq.of(data).sliding(size,inc).toList()));
+	}
+	@Test
+	public void slidingWindowsCanBeRetained(){
+		ListX<VectorX<Integer>> windows = of(1,2,3,4).sliding(2,1).toListX();
+		assertThat(windows.get(0).plus(10),equalTo(Arrays.asList(1,2,10)));
+		assertThat(windows.get(0),equalTo(Arrays.asList(1,2)));
+		assertThat(windows.get(2),equalTo(Arrays.asList(3,4)));
+	}
+	@Test
+	public void slidingRecycled(){
+		FluxReactiveSeq<Integer> seq = (FluxReactiveSeq<Integer>)of(1,2,3,4,5,6);
+		assertThat(seq.slidingRecycled(3,2).map(w->new ArrayList<>(w)).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4,5),Arrays.asList(5,6))));
+		assertThat(seq.slidingRecycled(2,1).map(w->w.sumInt(i->i)).toList(),equalTo(Arrays.asList(3,5,7,9,11)));
+	}
+	@Test
+	public void groupedStatefullyMatchesReactiveSeq(){
+		assertThat(of(1,2,3,4,5,6).groupedStatefullyUntil((l,t)->l.size()==2).toList(),
+				equalTo(ReactiveSeq.of(1,2,3,4,5,6).groupedStatefullyUntil((l,t)->l.size()==2).toList()));
+		assertThat(of(1,2,3,4,5,6).groupedStatefullyWhile((l,t)->l.size()<3).toList(),
+				equalTo(ReactiveSeq.of(1,2,3,4,5,6).groupedStatefullyWhile((l,t)->l.size()<3).toList()));
+		assertThat(of(1,2,3,4,5).groupedStatefullyUntil((Set<Integer> s,Integer t)->s.size()==2,TreeSet::new,s->s.size()).toList(),
+				equalTo(Arrays.asList(2,2,1)));
+	}
+
 }
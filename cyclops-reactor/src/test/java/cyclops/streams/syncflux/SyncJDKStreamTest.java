@@ -2,13 +2,20 @@ package cyclops.streams.syncflux;
 
 import cyclops.companion.reactor.Fluxs;
 import cyclops.stream.ReactiveSeq;
+import com.aol.cyclops.reactor.adapter.FluxIterators;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.equalTo;
@@ -232,4 +239,57 @@ public class SyncJDKStreamTest {
 		
 
 
+	@Test
+	public void iteratorSyncSource(){
+		Iterator<Integer> it = of(1,2,3).map(i->i*10).iterator();
+		List<Integer> list = new ArrayList<>();
+		while(it.hasNext())
+			list.add(it.next());
+		assertThat(list,equalTo(Arrays.asList(10,20,30)));
+		assertThat(it.hasNext(),equalTo(false));
+	}
+	@Test
+	public void iteratorAsyncSource(){
+		Iterator<Integer> it = Fluxs.reactiveSeq(Flux.range(0,1000).publishOn(Schedulers.parallel())).iterator();
+		int count = 0;
+		while(it.hasNext())
+			assertThat(it.next(),equalTo(count++));
+		assertThat(count,equalTo(1000));
+	}
+	@Test
+	public void iteratorEmpty(){
+		assertThat(Fluxs.reactiveSeq(Flux.empty()).iterator().hasNext(),equalTo(false));
+		assertThat(StreamSupport.stream(Fluxs.reactiveSeq(Flux.empty()).spliterator(),false).count(),equalTo(0L));
+	}
+	@Test
+	public void iteratorCompleteWithoutSubscribe(){
+		assertThat(FluxIterators.<Integer>iterator(s->s.onComplete()).hasNext(),equalTo(false));
+		assertThat(of().groupedBySizeAndTime(3,10,TimeUnit.SECONDS).iterator().hasNext(),equalTo(false));
+		assertThat(of().grouped(3,()->new TreeSet<>()).iterator().hasNext(),equalTo(false));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void iteratorErrorWithoutSubscribe(){
+		FluxIterators.<Integer>iterator(s->s.onError(new IllegalStateException("boom"))).hasNext();
+	}
+	@Test(expected=IllegalStateException.class)
+	public void iteratorError(){
+		Iterator<Integer> it = of(1,2,3).map(i->{
+			if(i==2)
+				throw new IllegalStateException("boom");
+			return i;
+		}).iterator();
+		assertThat(it.next(),equalTo(1));
+		it.next();
+	}
+	@Test
+	public void spliteratorSized(){
+		Spliterator<Integer> range = Fluxs.reactiveSeq(Flux.range(0,100)).spliterator();
+		assertThat(range.hasCharacteristics(Spliterator.SIZED),equalTo(true));
+		assertThat(range.getExactSizeIfKnown(),equalTo(100L));
+		assertThat(of(1,2,3).spliterator().getExactSizeIfKnown(),equalTo(3L));
+		assertThat(Fluxs.reactiveSeq(Flux.just(1)).spliterator().getExactSizeIfKnown(),equalTo(1L));
+		assertThat(Fluxs.reactiveSeq(Flux.range(0,100).filter(i->i%2==0)).spliterator().hasCharacteristics(Spliterator.SIZED),equalTo(false));
+		assertThat(StreamSupport.stream(Fluxs.reactiveSeq(Flux.range(0,1000)).spliterator(),true).mapToInt(i->i).sum(),equalTo(499500));
+	}
+
 }
\ No newline at end of file
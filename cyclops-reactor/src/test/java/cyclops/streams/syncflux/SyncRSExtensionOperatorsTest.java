@@ -446,6 +446,53 @@ public class SyncRSExtensionOperatorsTest {
 	public void xMatch(){
 		assertTrue(of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
 	}
+	@Test
+	public void groupedWhileNative(){
+		assertThat(of(1,2,3,4,5,6).groupedWhile(i->i%3!=0).toList(),
+				equalTo(Arrays.asList(ListX.of(1,2,3),ListX.of(4,5,6))));
+		assertThat(of(1,2,3,4).groupedWhile(i->i%3!=0,()->new ArrayList<>()).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(4))));
+	}
+	@Test
+	public void limitWhileUntilNative(){
+		assertThat(of(1,2,3,4,1).limitWhile(i->i<3).toList(),equalTo(Arrays.asList(1,2)));
+		assertThat(of(1,2,3,4,1).limitUntil(i->i>2).toList(),equalTo(Arrays.asList(1,2)));
+	}
+	@Test
+	public void prependAppendNative(){
+		assertThat(of(2,3).prepend(1).append(4).toList(),equalTo(Arrays.asList(1,2,3,4)));
+		assertThat(of(3).prepend(1,2).append(4,5).toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+		assertThat(of(3).prepend(Arrays.asList(1,2)).append(Arrays.asList(4,5)).toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+		assertThat(of(3).prependS(Stream.of(1,2)).appendS(of(4,5)).toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+	}
+	@Test
+	public void onEmptyNative(){
+		assertThat(of().onEmptyGet(()->1).toList(),equalTo(Arrays.asList(1)));
+		assertThat(of(2).onEmptyGet(()->1).toList(),equalTo(Arrays.asList(2)));
+		assertThat(of().onEmptySwitch(()->of(1,2)).toList(),equalTo(Arrays.asList(1,2)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void onEmptyThrowNative(){
+		of().onEmptyThrow(IllegalStateException::new).toList();
+	}
+	@Test
+	public void recoverNative(){
+		assertThat(Fluxs.reactiveSeq(Flux.<String>error(new IllegalStateException()))
+						.recover(e->"hello")
+						.toList(),
+				equalTo(Arrays.asList("hello")));
+	}
+	@Test
+	public void terminalNative(){
+		assertThat(of(1,2,3).findFirst(),equalTo(Optional.of(1)));
+		assertThat(of().findFirst(),equalTo(Optional.empty()));
+		assertThat(of(1,2,3).reduce(Semigroups.intSum),equalTo(Optional.of(6)));
+		assertThat(of().reduce((a,b)->a),equalTo(Optional.empty()));
+		assertThat(of(1,2,3).reduce(10,(a,b)->a+b),equalTo(16));
+		assertTrue(of(1,2,3).allMatch(i->i>0));
+		assertTrue(of(1,2,3).anyMatch(i->i>2));
+		assertTrue(of(1,2,3).noneMatch(i->i>3));
+	}
 	
 	
 }
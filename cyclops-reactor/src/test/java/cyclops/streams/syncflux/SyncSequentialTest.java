@@ -1,8 +1,11 @@
 package cyclops.streams.syncflux;
 
 
+import com.aol.cyclops.reactor.adapter.FluxReactiveSeq;
 import cyclops.async.adapters.Topic;
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.Monoids;
+import cyclops.companion.Reducers;
 import cyclops.companion.reactor.Fluxs;
 import cyclops.control.Maybe;
 import cyclops.stream.ReactiveSeq;
@@ -12,11 +15,17 @@ import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,7 +33,9 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by johnmcclean on 14/01/2017.
@@ -141,14 +152,61 @@ public class SyncSequentialTest extends BaseSequentialTest {
     public void multicast(){
         final ListX<ReactiveSeq<Integer>> t = of(1,2,3,4,5,6,7,8).multicast(2);
 
-//        t.v1.forEach(e->System.out.println("First " + e));
-        //       t.v2.printOut();
+        //branches are hot, both must be subscribed before the source emits
+        assertThat(Flux.zip(t.get(0).limit(1),t.get(1).limit(1),(a,b)->a+b).collectList().block(),
+                   equalTo(ListX.of(2)));
 
+    }
 
-        assertThat(t.get(0).limit(1).toList(),equalTo(ListX.of(1)));
-        System.out.println("Second!");
-        assertThat(t.get(1).limit(1).toList(),equalTo(ListX.of(1)));
+    @Test
+    public void multicastSubscribesOnce(){
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        ListX<ReactiveSeq<Integer>> t = new FluxReactiveSeq<>(Flux.range(0, 1000)
+                                                                  .doOnSubscribe(s -> subscriptions.incrementAndGet()))
+                                                .multicast(3, 16);
+        List<Long> counts = Flux.merge(Flux.from(t.get(0)).count(),
+                                       Flux.from(t.get(1)).filter(i -> i % 2 == 0).count(),
+                                       Flux.from(t.get(2)).take(10).count())
+                                .collectSortedList()
+                                .block();
+        assertThat(counts, equalTo(Arrays.asList(10L, 500L, 1000L)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
 
+    @Test
+    public void fanOutSubscribesOnce(){
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        ReactiveSeq<Integer> fanned = new FluxReactiveSeq<>(Flux.range(0, 1000)
+                                                                .doOnSubscribe(s -> subscriptions.incrementAndGet()))
+                .fanOut(s1 -> s1.filter(i -> i % 3 == 0),
+                        s2 -> s2.filter(i -> i % 3 == 1),
+                        s3 -> s3.filter(i -> i % 3 == 2));
+        assertThat(fanned.toListX().size(), equalTo(1000));
+        assertThat(subscriptions.get(), equalTo(1));
+        assertThat(fanned.count(), equalTo(1000L));
+        assertThat(subscriptions.get(), equalTo(2));
+    }
+
+    @Test
+    public void fanOutZipIn(){
+        assertThat(of(1, 2, 3, 4)
+                        .fanOutZipIn(s1 -> s1.map(i -> i * 2),
+                                     s2 -> s2.map(i -> i * 100),
+                                     (a, b) -> a + b)
+                        .toListX(), equalTo(ListX.of(102, 204, 306, 408)));
+        assertThat(of(1, 2, 3)
+                        .fanOutZipIn(s1 -> s1.map(i -> i * 2),
+                                     s2 -> s2.map(i -> i * 100),
+                                     s3 -> s3.map(i -> "" + i),
+                                     (a, b, c) -> c + ":" + (a + b))
+                        .toListX(), equalTo(ListX.of("1:102", "2:204", "3:306")));
+        assertThat(of(1, 2)
+                        .fanOutZipIn(s1 -> s1.map(i -> i),
+                                     s2 -> s2.map(i -> i * 10),
+                                     s3 -> s3.map(i -> i * 100),
+                                     s4 -> s4.map(i -> i * 1000),
+                                     (a, b, c, d) -> a + b + c + d)
+                        .toListX(), equalTo(ListX.of(1111, 2222)));
     }
     @Test
     public void duplicate(){
@@ -313,4 +371,80 @@ public class SyncSequentialTest extends BaseSequentialTest {
         assertEquals(asList(), of(1, 2, 3).splitAtHead().v2.splitAtHead().v2.splitAtHead().v2.toList());
     }
 
+
+    @Test
+    public void parallelKeepsOrder(){
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ReactiveSeq<Integer> seq = new FluxReactiveSeq<>(Flux.range(0, 1000))
+                                        .parallel(4, Schedulers.parallel())
+                                        .map(i -> {
+                                            threads.add(Thread.currentThread().getName());
+                                            return i * 2;
+                                        })
+                                        .filter(i -> i % 3 == 0)
+                                        .flatMap(i -> Stream.of(i, -i));
+
+        List<Integer> expected = ReactiveSeq.range(0, 1000)
+                                            .map(i -> i * 2)
+                                            .filter(i -> i % 3 == 0)
+                                            .flatMap(i -> Stream.of(i, -i))
+                                            .toList();
+        assertTrue(seq.isParallel());
+        assertThat(seq.toList(), equalTo(expected));
+        assertThat(seq.sequential().isParallel(), equalTo(false));
+        assertThat(seq.sequential().toList(), equalTo(expected));
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void parallelUnordered(){
+        List<Integer> list = new FluxReactiveSeq<>(Flux.range(0, 1000))
+                                  .parallel(4, Schedulers.parallel(), false)
+                                  .map(i -> i + 1)
+                                  .filter(i -> i % 2 == 0)
+                                  .toList();
+        Collections.sort(list);
+        assertThat(list, equalTo(ReactiveSeq.range(1, 1001).filter(i -> i % 2 == 0).toList()));
+    }
+
+    @Test
+    public void parallelReduceAndCollect(){
+        for(boolean ordered : new boolean[]{true,false}) {
+            ReactiveSeq<Integer> seq = new FluxReactiveSeq<>(Flux.range(0, 1000))
+                                            .parallel(4, Schedulers.parallel(), ordered)
+                                            .map(i -> i + 1);
+            assertThat(seq.reduce(0, (a, b) -> a + b), equalTo(500500));
+            assertThat(seq.reduce((a, b) -> a + b), equalTo(Optional.of(500500)));
+            assertThat(seq.reduce(0L, (a, b) -> a + b, (a, b) -> a + b), equalTo(500500L));
+            assertThat(seq.collect(Collectors.toSet()).size(), equalTo(1000));
+            assertThat(seq.collect(ArrayList::new, ArrayList::add, ArrayList::addAll).size(), equalTo(1000));
+        }
+        assertThat(new FluxReactiveSeq<>(Flux.<Integer>empty())
+                        .parallel(4, Schedulers.parallel(), false)
+                        .reduce((a, b) -> a + b), equalTo(Optional.empty()));
+        assertThat(new FluxReactiveSeq<>(Flux.range(0, 10))
+                        .parallel(4, Schedulers.parallel())
+                        .map(String::valueOf)
+                        .reduce("", (a, b) -> a + b), equalTo("0123456789"));
+    }
+
+    @Test
+    public void nativeAggregates(){
+        ReactiveSeq<Integer> seq = new FluxReactiveSeq<>(Flux.range(1, 100).filter(i -> i % 2 == 0));
+        assertThat(seq.count(), equalTo(50L));
+        assertThat(seq.reduce(Monoids.intSum), equalTo(2550));
+        assertThat(seq.reduce((a, b) -> a + b), equalTo(Optional.of(2550)));
+        assertThat(seq.reduce(0L, (a, b) -> a + b, (a, b) -> a + b), equalTo(2550L));
+        assertThat(seq.mapReduce(i -> i * 2, Monoids.intSum), equalTo(5100));
+        assertThat(seq.reduce(Arrays.asList(Reducers.toCountInt(), Reducers.toTotalInt())), equalTo(ListX.of(50, 2550)));
+        assertThat(seq.reduce(Stream.of(Monoids.intMax, Monoids.intMin)), equalTo(ListX.of(100, 2)));
+        assertThat(seq.collect(ArrayList::new, ArrayList::add, ArrayList::addAll).size(), equalTo(50));
+        assertThat(seq.collect(Collectors.summingInt(i -> i)), equalTo(2550));
+
+        ReactiveSeq<Integer> empty = new FluxReactiveSeq<>(Flux.<Integer>empty());
+        assertThat(empty.count(), equalTo(0L));
+        assertThat(empty.reduce((a, b) -> a + b), equalTo(Optional.empty()));
+        assertThat(empty.reduce(Monoids.intSum), equalTo(0));
+        assertThat(empty.reduce(Arrays.asList(Reducers.toCountInt(), Reducers.toTotalInt())), equalTo(ListX.of(0, 0)));
+    }
 }
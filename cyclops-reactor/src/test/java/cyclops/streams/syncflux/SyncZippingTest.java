@@ -158,6 +158,21 @@ public class SyncZippingTest {
 		
 		
 	}
+	@Test
+	public void zip3Fn(){
+		assertThat(of(1,2,3,4,5,6).zip3(of(100,200,300,400),of('a','b','c'),(a,b,c)->""+a+b+c).toList(),
+				equalTo(Arrays.asList("1100a","2200b","3300c")));
+	}
+	@Test
+	public void zip4Fn(){
+		assertThat(of(1,2,3,4,5,6).zip4(of(100,200,300,400),of('a','b','c'),of("hello","world"),(a,b,c,d)->""+a+b+c+d).toList(),
+				equalTo(Arrays.asList("1100ahello","2200bworld")));
+	}
+	@Test
+	public void zip4Tuples(){
+		assertThat(of(1,2).zip4(of(3,4),of(5,6),of(7,8)).toList(),
+				equalTo(Arrays.asList(new Tuple4<>(1,3,5,7),new Tuple4<>(2,4,6,8))));
+	}
 	
 	@Test
 	public void zip2of(){
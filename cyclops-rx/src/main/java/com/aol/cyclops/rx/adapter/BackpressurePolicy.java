@@ -0,0 +1,159 @@
+package com.aol.cyclops.rx.adapter;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rx.BackpressureOverflow;
+import rx.Observable;
+import rx.functions.Action0;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the buffer placed between an asynchronous ReactiveSeq, which cannot be slowed down by downstream
+ * demand, and the Observable it is bridged to.
+ *
+ * <pre>
+ * {@code
+ *   BackpressurePolicy policy = BackpressurePolicy.bounded(10_000, Overflow.DROP_OLDEST);
+ *   Observable<Event> events = Observables.observableFrom(asyncStream, policy);
+ *
+ *   policy.getMetrics().occupancy();
+ * }
+ * </pre>
+ *
+ * The bridges in {@link cyclops.companion.rx.Observables} use {@link #defaultPolicy()} when no policy is supplied,
+ * this is unbounded unless changed via {@link #defaultPolicy(BackpressurePolicy)}
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class BackpressurePolicy {
+
+    public enum Overflow {
+        /** discard the oldest buffered element to make room for the new one **/
+        DROP_OLDEST,
+        /**
+         * discard the newly arrived element, keeping those already buffered (RxJava 1's ON_OVERFLOW_DROP_LATEST).
+         * Unlike DROP_LATEST in cyclops-rxjava2, which evicts the newest buffered element
+         **/
+        DROP_INCOMING,
+        /** terminate the stream with a MissingBackpressureException **/
+        ERROR,
+        /**
+         * block the producing thread in onNext until downstream requests more. This stalls the upstream thread,
+         * and anything else scheduled on it, for as long as the buffer is full. Elements emitted on the thread that
+         * subscribed are buffered beyond the capacity instead, as that thread may be the one that has to request
+         * more, so a synchronous source cannot deadlock
+         **/
+        BLOCK
+    }
+
+    private static volatile BackpressurePolicy defaultPolicy = unbounded();
+
+    private final long capacity;
+    private final Overflow overflow;
+    private final BufferMetrics metrics = new BufferMetrics();
+
+    public static BackpressurePolicy unbounded(){
+        return new BackpressurePolicy(Long.MAX_VALUE,Overflow.ERROR);
+    }
+
+    public static BackpressurePolicy bounded(long capacity, Overflow overflow){
+        if(capacity<=0)
+            throw new IllegalArgumentException("Buffer capacity must be positive, was " + capacity);
+        return new BackpressurePolicy(capacity,Objects.requireNonNull(overflow));
+    }
+
+    public static BackpressurePolicy defaultPolicy(){
+        return defaultPolicy;
+    }
+
+    /**
+     * Set the policy used by the async ReactiveSeq bridges when none is specified
+     */
+    public static void defaultPolicy(BackpressurePolicy policy){
+        defaultPolicy = Objects.requireNonNull(policy);
+    }
+
+    public <T> Observable<T> apply(Observable<T> source){
+        return Observable.defer(()->{
+            BufferMetrics.Tracker tracker = metrics.track();
+            if(overflow==Overflow.BLOCK){
+                Permits permits = new Permits((int)Math.min(capacity,Integer.MAX_VALUE));
+                Action0 release = ()->{
+                    tracker.release();
+                    permits.releaseAll();
+                };
+                return source.doOnNext(t->{
+                                permits.acquire();
+                                tracker.in();
+                             })
+                             .onBackpressureBuffer()
+                             .doOnNext(t->{
+                                 tracker.out();
+                                 permits.release();
+                             })
+                             .doAfterTerminate(release)
+                             .doOnUnsubscribe(release);
+            }
+            Action0 release = tracker::release;
+            return source.doOnNext(t->tracker.in())
+                         .onBackpressureBuffer(capacity,tracker::dropped,strategy())
+                         .doOnNext(t->tracker.out())
+                         .doAfterTerminate(release)
+                         .doOnUnsubscribe(release);
+        });
+    }
+
+    private BackpressureOverflow.Strategy strategy(){
+        switch(overflow){
+            case DROP_OLDEST:
+                return BackpressureOverflow.ON_OVERFLOW_DROP_OLDEST;
+            case DROP_INCOMING:
+                return BackpressureOverflow.ON_OVERFLOW_DROP_LATEST;
+            default:
+                return BackpressureOverflow.ON_OVERFLOW_ERROR;
+        }
+    }
+
+    /*
+     * Buffer slots for BLOCK, created on the subscribing thread. That thread never waits for a slot: when none is
+     * free the element is recorded as overdraft, and elements leaving the buffer repay the overdraft before
+     * freeing slots for blocked producers.
+     */
+    private static class Permits {
+        private final int permitCount;
+        private final Semaphore semaphore;
+        private final AtomicInteger overdraft = new AtomicInteger(0);
+        private final Thread subscriber = Thread.currentThread();
+
+        Permits(int permitCount){
+            this.permitCount = permitCount;
+            this.semaphore = new Semaphore(permitCount);
+        }
+
+        void acquire(){
+            if(Thread.currentThread()!=subscriber)
+                semaphore.acquireUninterruptibly();
+            else if(!semaphore.tryAcquire())
+                overdraft.incrementAndGet();
+        }
+
+        void release(){
+            int owed;
+            do {
+                owed = overdraft.get();
+                if(owed==0){
+                    semaphore.release();
+                    return;
+                }
+            }while(!overdraft.compareAndSet(owed,owed-1));
+        }
+
+        void releaseAll(){
+            semaphore.release(permitCount);
+        }
+    }
+}
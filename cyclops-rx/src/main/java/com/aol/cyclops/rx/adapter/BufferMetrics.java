@@ -0,0 +1,64 @@
+package com.aol.cyclops.rx.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffer occupancy across every subscription made through a {@link BackpressurePolicy}. cyclops-rx depends only
+ * on cyclops-react and RxJava 1, so it has its own copy alongside the one in cyclops-rxjava2
+ */
+public class BufferMetrics {
+
+    private final AtomicLong occupancy = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * @return Number of elements currently held in buffers, produced but not yet requested downstream
+     */
+    public long occupancy(){
+        return occupancy.get();
+    }
+
+    /**
+     * @return Total number of elements discarded due to buffer overflow
+     */
+    public long dropped(){
+        return dropped.get();
+    }
+
+    Tracker track(){
+        return new Tracker();
+    }
+
+    /**
+     * Per subscription view, so that elements left in a buffer when its subscription ends
+     * are no longer reported. Updates arriving after release are ignored.
+     */
+    class Tracker {
+        private final AtomicLong buffered = new AtomicLong();
+
+        void in(){
+            add(1);
+        }
+        void out(){
+            add(-1);
+        }
+        void dropped(){
+            out();
+            dropped.incrementAndGet();
+        }
+        void release(){
+            long remaining = buffered.getAndSet(-1);
+            if(remaining>0)
+                occupancy.addAndGet(-remaining);
+        }
+        private void add(long delta){
+            long current;
+            do{
+                current = buffered.get();
+                if(current<0)
+                    return;
+            }while(!buffered.compareAndSet(current,current+delta));
+            occupancy.addAndGet(delta);
+        }
+    }
+}
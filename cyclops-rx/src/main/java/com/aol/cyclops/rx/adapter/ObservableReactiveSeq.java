@@ -5,12 +5,15 @@ import com.aol.cyclops2.internal.stream.StreamX;
 import com.aol.cyclops2.types.anyM.AnyMSeq;
 import com.aol.cyclops2.types.stream.HeadAndTail;
 import com.aol.cyclops2.types.traversable.Traversable;
+import cyclops.async.Future;
 import cyclops.async.adapters.QueueFactory;
 import cyclops.collections.immutable.VectorX;
 import cyclops.collections.mutable.ListX;
 import cyclops.companion.rx.Observables;
 import cyclops.control.Maybe;
 import cyclops.control.lazy.Either;
+import cyclops.function.Fn3;
+import cyclops.function.Fn4;
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import cyclops.monads.AnyM;
@@ -31,6 +34,9 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import rx.Observable;
+import rx.exceptions.Exceptions;
+import rx.observers.Subscribers;
+import rx.plugins.RxJavaHooks;
 
 
 import java.util.*;
@@ -67,11 +73,76 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <U> U foldRight(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
-        return observable.reduce(identity,(a,b)->accumulator.apply(b,a))
+        return observable.toList()
+                         .map(list->ReactiveSeq.fromList(list).foldRight(identity,accumulator))
                          .toBlocking()
                          .first();
     }
 
+    /**
+     * Non-blocking {@link #foldRight(Object, BiFunction)}, the returned Future is completed
+     * once the underlying Observable completes. A right fold starts from the last element, so the
+     * elements are collected into a List first.
+     */
+    public <U> Future<U> foldRightAsync(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        return future(observable.toList().map(list->ReactiveSeq.fromList(list).foldRight(identity,accumulator)));
+    }
+
+    public Future<T> reduceAsync(Monoid<T> reducer) {
+        return future(observable.reduce(reducer.zero(),(a,b)->reducer.apply(a,b)));
+    }
+
+    public Future<Optional<T>> reduceAsync(BinaryOperator<T> accumulator) {
+        return future(observable.reduce(Optional.<T>empty(),(a,b)->Optional.of(a.isPresent() ? accumulator.apply(a.get(),b) : b)));
+    }
+
+    public Future<T> reduceAsync(T identity, BinaryOperator<T> accumulator) {
+        return future(observable.reduce(identity,(a,b)->accumulator.apply(a,b)));
+    }
+
+    public <R, A> Future<R> collectAsync(Collector<? super T, A, R> collector) {
+        return future(observable.collect(()->collector.supplier().get(),(a,b)->collector.accumulator().accept(a,b))
+                                .map(a->collector.finisher().apply(a)));
+    }
+
+    public Future<Optional<T>> findFirstAsync() {
+        return future(observable.take(1).map(Optional::of).defaultIfEmpty(Optional.empty()));
+    }
+
+    public Future<Boolean> allMatchAsync(Predicate<? super T> c) {
+        return future(observable.all(t->c.test(t)));
+    }
+
+    public Future<Boolean> anyMatchAsync(Predicate<? super T> c) {
+        return future(observable.exists(t->c.test(t)));
+    }
+
+    public Future<Boolean> noneMatchAsync(Predicate<? super T> c) {
+        return future(observable.exists(t->c.test(t)).map(b->!b));
+    }
+
+    public Future<Long> countAsync() {
+        return future(observable.countLong());
+    }
+
+    public Future<String> joinAsync() {
+        return joinAsync("");
+    }
+
+    public Future<String> joinAsync(String sep) {
+        return joinAsync(sep,"","");
+    }
+
+    public Future<String> joinAsync(String sep, String start, String end) {
+        return collectAsync(Collectors.mapping(String::valueOf,Collectors.joining(sep,start,end)));
+    }
+
+    private static <R> Future<R> future(Observable<R> single){
+        Future<R> result = Future.future();
+        single.subscribe(result::complete,result::completeExceptionally,()->result.completeExceptionally(new NoSuchElementException()));
+        return result;
+    }
+
     @Override
     public <U, R> ReactiveSeq<R> zipS(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
          if(other instanceof ReactiveSeq){
@@ -167,13 +238,127 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return zip3(second,third,Tuple::tuple);
+    }
+
+    /**
+     * Zip with two other Iterables in a single operator, each element is built directly by zipper. The
+     * Iterables are pulled as elements arrive, requests from downstream pass straight through to the source.
+     */
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third,
+                                         Fn3<? super T, ? super S, ? super U, ? extends R> zipper) {
+        return observable(observable.lift(new ZipIterables<T,R>(a->zipper.apply((T)a[0],(S)a[1],(U)a[2]),second,third)));
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return zip4(second,third,fourth,Tuple::tuple);
+    }
+
+    /**
+     * Zip with three other Iterables in a single operator, each element is built directly by zipper
+     */
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                               Fn4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> zipper) {
+        return observable(observable.lift(new ZipIterables<T,R>(a->zipper.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),
+                                                                second,third,fourth)));
+    }
+
+    /*
+     * Zips each element with the next element of every Iterable. As with Observable#zipWith(Iterable) the
+     * Iterables are checked at subscription and after every emitted element, so the zip completes (and
+     * unsubscribes from the source) as soon as one of them is exhausted, without waiting for another element.
+     */
+    static final class ZipIterables<T, R> implements Observable.Operator<R, T> {
+        private final Function<Object[], ? extends R> zipper;
+        private final Iterable<?>[] others;
+
+        ZipIterables(Function<Object[], ? extends R> zipper, Iterable<?>... others) {
+            this.zipper = zipper;
+            this.others = others;
+        }
+
+        @Override
+        public rx.Subscriber<? super T> call(rx.Subscriber<? super R> actual) {
+            Iterator<?>[] iterators = new Iterator[others.length];
+            try {
+                for (int i = 0; i < others.length; i++)
+                    iterators[i] = others[i].iterator();
+                if (!ZipSubscriber.hasNext(iterators)) {
+                    actual.onCompleted();
+                    return Subscribers.empty();
+                }
+            } catch (Throwable e) {
+                Exceptions.throwOrReport(e, actual);
+                return Subscribers.empty();
+            }
+            return new ZipSubscriber<>(actual, zipper, iterators);
+        }
+
+        /*
+         * Shares the subscription (and so the request path) of the downstream Subscriber
+         */
+        static final class ZipSubscriber<T, R> extends rx.Subscriber<T> {
+            private final rx.Subscriber<? super R> actual;
+            private final Function<Object[], ? extends R> zipper;
+            private final Iterator<?>[] iterators;
+            private final Object[] values;
+            private boolean done;
+
+            ZipSubscriber(rx.Subscriber<? super R> actual, Function<Object[], ? extends R> zipper, Iterator<?>[] iterators) {
+                super(actual);
+                this.actual = actual;
+                this.zipper = zipper;
+                this.iterators = iterators;
+                this.values = new Object[iterators.length + 1];
+            }
+
+            static boolean hasNext(Iterator<?>[] iterators) {
+                for (Iterator<?> it : iterators) {
+                    if (!it.hasNext())
+                        return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void onNext(T t) {
+                if (done)
+                    return;
+                try {
+                    values[0] = t;
+                    for (int i = 0; i < iterators.length; i++)
+                        values[i + 1] = iterators[i].next();
+                    actual.onNext(zipper.apply(values));
+                    if (!hasNext(iterators)) {
+                        onCompleted();
+                        unsubscribe();
+                    }
+                } catch (Throwable e) {
+                    Exceptions.throwOrReport(e, this);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                if (done) {
+                    RxJavaHooks.onError(e);
+                    return;
+                }
+                done = true;
+                actual.onError(e);
+            }
+
+            @Override
+            public void onCompleted() {
+                if (done)
+                    return;
+                done = true;
+                actual.onCompleted();
+            }
+        }
     }
 
     @Override
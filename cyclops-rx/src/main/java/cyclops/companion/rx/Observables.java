@@ -7,6 +7,7 @@ import java.util.function.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.rx.adapter.BackpressurePolicy;
 import com.aol.cyclops.rx.adapter.ObservableReactiveSeq;
 import cyclops.companion.CompletableFutures;
 import cyclops.companion.CompletableFutures.CompletableFutureKind;
@@ -80,15 +81,27 @@ public class Observables {
         return new ObservableReactiveSeq<>(observable);
     }
     public static  <T> Observable<T> observableFrom(ReactiveSeq<T> stream){
+        return observableFrom(stream,BackpressurePolicy.defaultPolicy());
+    }
+
+    /**
+     * Convert a ReactiveSeq to an Observable, asynchronous Streams (which do not respect backpressure)
+     * are buffered according to the supplied policy
+     *
+     * @param stream ReactiveSeq to convert
+     * @param policy Buffer capacity and overflow strategy for asynchronous Streams
+     * @return Observable
+     */
+    public static  <T> Observable<T> observableFrom(ReactiveSeq<T> stream, BackpressurePolicy policy){
         return stream.visit(sync->fromStream(stream),
                 rs->observable(stream),
-                async->Observable.create(new Observable.OnSubscribe<T>() {
+                async->policy.apply(Observable.create(new Observable.OnSubscribe<T>() {
             @Override
             public void call(final rx.Subscriber<? super T> rxSubscriber) {
                 rxSubscriber.onStart();
                 stream.forEach(rxSubscriber::onNext,rxSubscriber::onError,rxSubscriber::onCompleted);
             }
-        }).onBackpressureBuffer(Long.MAX_VALUE));
+        })));
 
 
     }
@@ -99,13 +112,13 @@ public class Observables {
 
             return stream.visit(sync -> Observable.from(stream),
                     rs -> observable(stream),
-                    async -> Observable.create(new Observable.OnSubscribe<T>() {
+                    async -> BackpressurePolicy.defaultPolicy().apply(Observable.create(new Observable.OnSubscribe<T>() {
                         @Override
                         public void call(final rx.Subscriber<? super T> rxSubscriber) {
                             rxSubscriber.onStart();
                             stream.forEach(rxSubscriber::onNext, rxSubscriber::onError, rxSubscriber::onCompleted);
                         }
-                    }).onBackpressureBuffer(Long.MAX_VALUE));
+                    })));
         }
         return Observable.from(ReactiveSeq.fromStream(s));
     }
@@ -924,20 +937,8 @@ public class Observables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<observable> traverse(){
-            BiFunction<Applicative<C2>,ObservableKind<Higher<C2, T>>,Higher<C2, ObservableKind<T>>> sequenceFn = (ap, observable) -> {
-
-                Higher<C2,ObservableKind<T>> identity = ap.unit(widen(Observable.empty()));
-
-                BiFunction<Higher<C2,ObservableKind<T>>,Higher<C2,T>,Higher<C2,ObservableKind<T>>> combineToObservable =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(Observable.concat(ObservableKind.narrow(a),Observable.just(b)))),acc,next);
-
-                BinaryOperator<Higher<C2,ObservableKind<T>>> combineObservables = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return widen(Observable.concat(l1.narrow(),l2.narrow()));}),a,b); ;
-
-                return ReactiveSeq.fromPublisher(observable).reduce(identity,
-                        combineToObservable,
-                        combineObservables);
-
-
-            };
+            BiFunction<Applicative<C2>,ObservableKind<Higher<C2, T>>,Higher<C2, ObservableKind<T>>> sequenceFn = (ap, observable) ->
+                    Traversals.sequence(ap, ReactiveSeq.fromPublisher(observable), l -> widen(Observable.from(l)));
             BiFunction<Applicative<C2>,Higher<observable,Higher<C2, T>>,Higher<C2, Higher<observable,T>>> sequenceNarrow  =
                     (a,b) -> ObservableKind.widen2(sequenceFn.apply(a, ObservableKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
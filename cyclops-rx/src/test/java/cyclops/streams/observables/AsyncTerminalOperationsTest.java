@@ -0,0 +1,87 @@
+package cyclops.streams.observables;
+
+import com.aol.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.async.Future;
+import cyclops.companion.Monoids;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.subjects.PublishSubject;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class AsyncTerminalOperationsTest {
+
+    PublishSubject<Integer> source;
+    ObservableReactiveSeq<Integer> seq;
+
+    @Before
+    public void setup(){
+        source = PublishSubject.create();
+        seq = new ObservableReactiveSeq<>(source);
+    }
+
+    private void emit(Integer... values){
+        for(Integer next : values)
+            source.onNext(next);
+        source.onCompleted();
+    }
+
+    @Test
+    public void reduceAsyncDoesNotBlock(){
+        Future<Integer> result = seq.reduceAsync(0,(a,b)->a+b);
+        assertFalse(result.isDone());
+        emit(1,2,3);
+        assertThat(result.get(),equalTo(6));
+    }
+    @Test
+    public void foldRightAsync(){
+        Future<String> result = seq.foldRightAsync("",(a,b)->b+a);
+        assertFalse(result.isDone());
+        emit(1,2,3);
+        assertThat(result.get(),equalTo("321"));
+    }
+    @Test
+    public void foldRightStartsFromLastElement(){
+        assertThat(new ObservableReactiveSeq<>(Observable.just(1,2,3)).foldRight("",(a,b)->b+a),equalTo("321"));
+        assertThat(new ObservableReactiveSeq<>(Observable.<Integer>empty()).foldRight("",(a,b)->b+a),equalTo(""));
+    }
+    @Test
+    public void findFirstAsync(){
+        Future<Optional<Integer>> result = seq.findFirstAsync();
+        assertFalse(result.isDone());
+        source.onNext(10);
+        assertThat(result.get(),equalTo(Optional.of(10)));
+    }
+    @Test
+    public void collectAsync(){
+        Future<String> result = seq.joinAsync(",","[","]");
+        assertFalse(result.isDone());
+        emit(1,2,3);
+        assertThat(result.get(),equalTo("[1,2,3]"));
+    }
+    @Test
+    public void emptyAsync(){
+        ObservableReactiveSeq<Integer> empty = new ObservableReactiveSeq<>(Observable.empty());
+        assertThat(empty.findFirstAsync().get(),equalTo(Optional.empty()));
+        assertThat(empty.reduceAsync((a,b)->a+b).get(),equalTo(Optional.empty()));
+        assertThat(empty.reduceAsync(Monoids.intSum).get(),equalTo(0));
+        assertThat(empty.countAsync().get(),equalTo(0l));
+    }
+    @Test
+    public void terminalsAsync(){
+        ObservableReactiveSeq<Integer> values = new ObservableReactiveSeq<>(Observable.just(1,2,3));
+        assertThat(values.reduceAsync((a,b)->a+b).get(),equalTo(Optional.of(6)));
+        assertThat(values.collectAsync(Collectors.toList()).get(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(values.countAsync().get(),equalTo(3l));
+        assertThat(values.joinAsync().get(),equalTo("123"));
+        assertTrue(values.allMatchAsync(i->i>0).get());
+        assertTrue(values.anyMatchAsync(i->i>2).get());
+        assertFalse(values.noneMatchAsync(i->i>2).get());
+    }
+}
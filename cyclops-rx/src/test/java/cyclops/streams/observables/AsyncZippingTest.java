@@ -9,6 +9,7 @@ import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
 import org.junit.Before;
 import org.junit.Test;
+import rx.Observable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -187,6 +188,26 @@ public class AsyncZippingTest {
 		List<String> four = list.stream().map(t -> t.v4).collect(Collectors.toList());
 		assertThat(Arrays.asList("hello","world"),hasItem(four.get(0)));
 		
+	}
+	@Test
+	public void zip3Fn(){
+		assertThat(of(1,2,3,4,5,6).zip3(of(100,200,300,400),of('a','b','c'),(a,b,c)->""+a+b+c).toList(),
+				equalTo(Arrays.asList("1100a","2200b","3300c")));
+	}
+	@Test
+	public void zip4Fn(){
+		assertThat(of(1,2,3,4,5,6).zip4(of(100,200,300,400),of('a','b','c'),of("hello","world"),(a,b,c,d)->""+a+b+c+d).toList(),
+				equalTo(Arrays.asList("1100ahello","2200bworld")));
+	}
+	@Test
+	public void zip3CompletesWhenIterablesExhausted(){
+		Observable<Integer> neverCompletes = Observable.just(1,2).concatWith(Observable.never());
+		assertThat(Observables.reactiveSeq(neverCompletes).zip3(asList(1,2),asList(1,2)).toList(),
+				equalTo(Arrays.asList(tuple(1,1,1),tuple(2,2,2))));
+		assertThat(Observables.reactiveSeq(neverCompletes).zip4(asList(1,2),asList(1,2),asList(1)).toList(),
+				equalTo(Arrays.asList(tuple(1,1,1,1))));
+		assertThat(Observables.reactiveSeq(Observable.<Integer>never()).zip3(asList(),asList(1)).toList(),
+				equalTo(Arrays.asList()));
 		
 	}
 	
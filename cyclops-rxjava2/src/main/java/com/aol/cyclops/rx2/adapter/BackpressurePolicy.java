@@ -0,0 +1,158 @@
+package com.aol.cyclops.rx2.adapter;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the buffer placed between an Observable (or an asynchronous ReactiveSeq), which cannot be slowed
+ * down by downstream demand, and the Flowable or Publisher it is bridged to.
+ *
+ * <pre>
+ * {@code
+ *   BackpressurePolicy policy = BackpressurePolicy.bounded(10_000, Overflow.DROP_OLDEST);
+ *   Flowable<Event> events = Flowables.flowableFrom(asyncStream, policy);
+ *
+ *   policy.getMetrics().occupancy();
+ * }
+ * </pre>
+ *
+ * The bridges in {@link cyclops.companion.rx2.Flowables} and {@link cyclops.companion.rx2.Observables} use
+ * {@link #defaultPolicy()} when no policy is supplied, this is unbounded unless changed via {@link #defaultPolicy(BackpressurePolicy)}
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class BackpressurePolicy {
+
+    public enum Overflow {
+        /** discard the oldest buffered element to make room for the new one **/
+        DROP_OLDEST,
+        /**
+         * discard the newest buffered element to make room for the new one (RxJava 2's DROP_LATEST). Unlike
+         * DROP_INCOMING in cyclops-rx, which discards the new element
+         **/
+        DROP_LATEST,
+        /** terminate the stream with a MissingBackpressureException **/
+        ERROR,
+        /**
+         * block the producing thread in onNext until downstream requests more. This stalls the upstream thread,
+         * and anything else scheduled on it, for as long as the buffer is full. Elements emitted on the thread that
+         * subscribed are buffered beyond the capacity instead, as that thread may be the one that has to request
+         * more, so a synchronous source cannot deadlock
+         **/
+        BLOCK
+    }
+
+    private static volatile BackpressurePolicy defaultPolicy = unbounded();
+
+    private final long capacity;
+    private final Overflow overflow;
+    private final BufferMetrics metrics = new BufferMetrics();
+
+    public static BackpressurePolicy unbounded(){
+        return new BackpressurePolicy(Long.MAX_VALUE,Overflow.ERROR);
+    }
+
+    public static BackpressurePolicy bounded(long capacity, Overflow overflow){
+        if(capacity<=0)
+            throw new IllegalArgumentException("Buffer capacity must be positive, was " + capacity);
+        return new BackpressurePolicy(capacity,Objects.requireNonNull(overflow));
+    }
+
+    public static BackpressurePolicy defaultPolicy(){
+        return defaultPolicy;
+    }
+
+    /**
+     * Set the policy used by the Observable and async ReactiveSeq bridges when none is specified
+     */
+    public static void defaultPolicy(BackpressurePolicy policy){
+        defaultPolicy = Objects.requireNonNull(policy);
+    }
+
+    public <T> Flowable<T> apply(Observable<T> source){
+        return Flowable.defer(()->{
+            BufferMetrics.Tracker tracker = metrics.track();
+            if(overflow==Overflow.BLOCK){
+                Permits permits = new Permits((int)Math.min(capacity,Integer.MAX_VALUE));
+                return source.doOnNext(t->{
+                                permits.acquire();
+                                tracker.in();
+                             })
+                             .toFlowable(BackpressureStrategy.BUFFER)
+                             .doOnNext(t->{
+                                 tracker.out();
+                                 permits.release();
+                             })
+                             .doFinally(()->{
+                                 tracker.release();
+                                 permits.releaseAll();
+                             });
+            }
+            Flowable<T> flowable = source.doOnNext(t->tracker.in())
+                                         .toFlowable(BackpressureStrategy.MISSING);
+            Flowable<T> buffered = capacity==Long.MAX_VALUE ? flowable.onBackpressureBuffer()
+                                        : flowable.onBackpressureBuffer(capacity,tracker::dropped,strategy());
+            return buffered.doOnNext(t->tracker.out())
+                           .doFinally(tracker::release);
+        });
+    }
+
+    private BackpressureOverflowStrategy strategy(){
+        switch(overflow){
+            case DROP_OLDEST:
+                return BackpressureOverflowStrategy.DROP_OLDEST;
+            case DROP_LATEST:
+                return BackpressureOverflowStrategy.DROP_LATEST;
+            default:
+                return BackpressureOverflowStrategy.ERROR;
+        }
+    }
+
+    /*
+     * Buffer slots for BLOCK, created on the subscribing thread. That thread never waits for a slot: when none is
+     * free the element is recorded as overdraft, and elements leaving the buffer repay the overdraft before
+     * freeing slots for blocked producers.
+     */
+    private static class Permits {
+        private final int permitCount;
+        private final Semaphore semaphore;
+        private final AtomicInteger overdraft = new AtomicInteger(0);
+        private final Thread subscriber = Thread.currentThread();
+
+        Permits(int permitCount){
+            this.permitCount = permitCount;
+            this.semaphore = new Semaphore(permitCount);
+        }
+
+        void acquire() throws InterruptedException {
+            if(Thread.currentThread()!=subscriber)
+                semaphore.acquire();
+            else if(!semaphore.tryAcquire())
+                overdraft.incrementAndGet();
+        }
+
+        void release(){
+            int owed;
+            do {
+                owed = overdraft.get();
+                if(owed==0){
+                    semaphore.release();
+                    return;
+                }
+            }while(!overdraft.compareAndSet(owed,owed-1));
+        }
+
+        void releaseAll(){
+            semaphore.release(permitCount);
+        }
+    }
+}
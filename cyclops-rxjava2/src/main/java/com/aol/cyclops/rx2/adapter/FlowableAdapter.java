@@ -24,7 +24,7 @@ public class FlowableAdapter extends AbstractFunctionalAdapter<flowable> {
 
     @Override
     public <T> Iterable<T> toIterable(AnyM<flowable, T> t) {
-        return ()->stream(t).blockingIterable().iterator();
+        return ()->FlowableIterators.iterator(stream(t));
     }
 
     @Override
@@ -42,7 +42,7 @@ public class FlowableAdapter extends AbstractFunctionalAdapter<flowable> {
     }
 
     <T> Flowable<T> stream(AnyM<flowable,T> anyM){
-        return anyM.unwrap();
+        return Rx2Witness.flowable(anyM);
     }
 
     @Override
@@ -0,0 +1,158 @@
+package com.aol.cyclops.rx2.adapter;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.fuseable.QueueFuseable;
+import io.reactivex.internal.fuseable.QueueSubscription;
+import io.reactivex.internal.fuseable.ScalarCallable;
+import lombok.experimental.UtilityClass;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Iterator and Spliterator views of a Flowable.
+ *
+ * Synchronous sources (Flowable.range, Flowable.just, Flowable.fromIterable, Flowable.fromArray and fuseable
+ * operators such as map and filter applied to them) are pulled directly from the fused subscription, on the
+ * calling thread without an intermediate queue. Other sources fall back to Flowable#blockingIterable.
+ */
+@UtilityClass
+public class FlowableIterators {
+
+    /**
+     * @param flowable Flowable to iterate over (subscribed immediately)
+     * @return Iterator over the elements of the Flowable
+     */
+    public static <T> Iterator<T> iterator(Publisher<T> flowable) {
+        return new FusedIterator<>(flowable);
+    }
+
+    /**
+     * The Spliterator is ORDERED and NONNULL. It is also SIZED when the Flowable is a scalar source
+     * (Flowable.just or Flowable.empty), RxJava 2 fused queues do not report a size for other sources.
+     *
+     * @param flowable Flowable to iterate over (subscribed immediately)
+     * @return Spliterator over the elements of the Flowable
+     */
+    public static <T> Spliterator<T> spliterator(Publisher<T> flowable) {
+        FusedIterator<T> it = new FusedIterator<>(flowable);
+        if (it.size >= 0)
+            return Spliterators.spliterator(it, it.size, Spliterator.ORDERED | Spliterator.NONNULL);
+        return Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    private static long size(Publisher<?> flowable) {
+        if (flowable instanceof ScalarCallable)
+            return ((ScalarCallable<?>) flowable).call() == null ? 0 : 1;
+        return -1;
+    }
+
+    /*
+     * Subscribes in the constructor. If the source grants synchronous fusion during that call, elements
+     * are polled from the QueueSubscription on demand. Otherwise every signal is relayed to a
+     * Flowable#blockingIterable iterator. A FlowableSubscriber, so Flowable#subscribe does not wrap it and
+     * hide the QueueSubscription.
+     */
+    static final class FusedIterator<T> implements Iterator<T>, FlowableSubscriber<T> {
+        private volatile Iterator<T> fallback;
+        private Subscriber<? super T> relay;
+        private Thread subscribing;
+        private QueueSubscription<T> qs;
+        private T next;
+        private boolean done;
+        long size = -1;
+
+        FusedIterator(Publisher<T> source) {
+            subscribing = Thread.currentThread();
+            source.subscribe(this);
+            subscribing = null;
+            if (qs != null)
+                size = size(source);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscribing == Thread.currentThread() && s instanceof QueueSubscription) {
+                QueueSubscription<T> fused = (QueueSubscription<T>) s;
+                if (fused.requestFusion(QueueFuseable.SYNC) == QueueFuseable.SYNC) {
+                    qs = fused;
+                    return;
+                }
+            }
+            relay().onSubscribe(s);
+        }
+
+        /*
+         * The fallback iterator (and its prefetch queue) is only created once fusion has been refused.
+         * onSubscribe may arrive on another thread after the first call to hasNext, whichever comes first
+         * creates it. Some sources (e.g. cyclops' push operators on an empty stream) signal onComplete or
+         * onError without calling onSubscribe first, so every signal goes through relay().
+         */
+        private Iterator<T> fallback() {
+            Iterator<T> it = fallback;
+            if (it == null) {
+                synchronized (this) {
+                    it = fallback;
+                    if (it == null)
+                        fallback = it = Flowable.<T>fromPublisher(s -> relay = s).blockingIterable().iterator();
+                }
+            }
+            return it;
+        }
+
+        private Subscriber<? super T> relay() {
+            fallback();
+            return relay;
+        }
+
+        @Override
+        public void onNext(T t) {
+            relay().onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            relay().onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            relay().onComplete();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (qs == null)
+                return fallback().hasNext();
+            if (next == null && !done) {
+                try {
+                    next = qs.poll();
+                } catch (Throwable e) {
+                    done = true;
+                    qs.cancel();
+                    throw Exceptions.propagate(e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (qs == null)
+                return fallback().next();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            T result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import cyclops.collections.mutable.ListX;
 import cyclops.companion.rx2.Functions;
 import cyclops.control.Maybe;
 import cyclops.control.lazy.Either;
+import cyclops.function.Fn3;
+import cyclops.function.Fn4;
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import cyclops.monads.AnyM;
@@ -17,7 +19,9 @@ import cyclops.monads.transformers.ListT;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
@@ -53,6 +57,13 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
         return new FlowableReactiveSeq<>(Flowable.fromPublisher(flux));
     }
 
+    private static <T> Flowable<T> fromIterable(Iterable<? extends T> iterable){
+        if(iterable instanceof Publisher){
+            return Flowable.fromPublisher((Publisher<T>)iterable);
+        }
+        return Flowable.fromIterable(iterable);
+    }
+
     @Override
     public <R> ReactiveSeq<R> coflatMap(Function<? super ReactiveSeq<T>, ? extends R> fn) {
         return flux(Flowable.just(fn.apply(this)));
@@ -65,7 +76,71 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <U> U foldRight(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
-        return flowable.reduce(identity,(a, b)->accumulator.apply(b,a)).blockingGet();
+        return foldRightAsync(identity,accumulator).blockingGet();
+    }
+
+    /**
+     * Non-blocking {@link #foldRight(Object, BiFunction)}, the result is emitted by the returned Single
+     * once the underlying Flowable completes. A right fold starts from the last element, so the elements
+     * are collected into a List first.
+     */
+    public <U> Single<U> foldRightAsync(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        return flowable.toList().map(list->ReactiveSeq.fromList(list).foldRight(identity,accumulator));
+    }
+
+    public Single<T> reduceAsync(Monoid<T> reducer) {
+        return flowable.reduce(reducer.zero(),(a,b)->reducer.apply(a,b));
+    }
+
+    /**
+     * @return Maybe with the reduced value, or an empty Maybe if this Stream is empty
+     */
+    public io.reactivex.Maybe<T> reduceAsync(BinaryOperator<T> accumulator) {
+        return flowable.reduce((a,b)->accumulator.apply(a,b));
+    }
+
+    public Single<T> reduceAsync(T identity, BinaryOperator<T> accumulator) {
+        return flowable.reduce(identity,(a,b)->accumulator.apply(a,b));
+    }
+
+    public <R, A> Single<R> collectAsync(Collector<? super T, A, R> collector) {
+        return flowable.collect(()->collector.supplier().get(),(a,b)->collector.accumulator().accept(a,b))
+                .map(a->collector.finisher().apply(a));
+    }
+
+    /**
+     * @return Maybe with the first element, or an empty Maybe if this Stream is empty
+     */
+    public io.reactivex.Maybe<T> findFirstAsync() {
+        return flowable.firstElement();
+    }
+
+    public Single<Boolean> allMatchAsync(Predicate<? super T> c) {
+        return flowable.all(t->c.test(t));
+    }
+
+    public Single<Boolean> anyMatchAsync(Predicate<? super T> c) {
+        return flowable.any(t->c.test(t));
+    }
+
+    public Single<Boolean> noneMatchAsync(Predicate<? super T> c) {
+        return flowable.any(t->c.test(t)).map(b->!b);
+    }
+
+    public Single<Long> countAsync() {
+        return flowable.count();
+    }
+
+    public Single<String> joinAsync() {
+        return joinAsync("");
+    }
+
+    public Single<String> joinAsync(String sep) {
+        return joinAsync(sep,"","");
+    }
+
+    public Single<String> joinAsync(String sep, String start, String end) {
+        return collectAsync(Collectors.mapping(String::valueOf,Collectors.joining(sep,start,end)));
     }
 
     @Override
@@ -156,13 +231,32 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return zip3(second,third,Tuple::tuple);
+    }
+
+    /**
+     * Zip with two other Iterables in a single zip operator, each element is built directly by zipper
+     */
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third,
+                                         Fn3<? super T, ? super S, ? super U, ? extends R> zipper) {
+        return flux(Flowable.<Object,R>zipArray(a->zipper.apply((T)a[0],(S)a[1],(U)a[2]),false,Flowable.bufferSize(),
+                                              flowable,fromIterable(second),fromIterable(third)));
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return zip4(second,third,fourth,Tuple::tuple);
+    }
+
+    /**
+     * Zip with three other Iterables in a single zip operator, each element is built directly by zipper
+     */
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                               Fn4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> zipper) {
+        return flux(Flowable.<Object,R>zipArray(a->zipper.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),false,Flowable.bufferSize(),
+                                              flowable,fromIterable(second),fromIterable(third),fromIterable(fourth)));
     }
 
     @Override
@@ -310,9 +404,50 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
         return flux(flowable.takeUntil(Functions.rxPredicate(p)));
     }
 
-    @Override
-    public ReactiveSeq<T> parallel() {
-        return this;
+    /**
+     * Split this Flowable into one rail per available processor, running on the computation Scheduler.
+     * Results keep encounter order.
+     *
+     * @see ParallelFlowableReactiveSeq
+     */
+    @Override
+    public ParallelFlowableReactiveSeq<T> parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors(), Schedulers.computation());
+    }
+
+    /**
+     * Split this Flowable into rails, map / filter / flatMap / reduce / collect run on each rail in parallel.
+     * Results keep encounter order, see {@link #parallel(int, Scheduler, boolean)} for what that costs.
+     *
+     * @param rails Number of rails
+     * @param scheduler Scheduler each rail runs on
+     * @return ReactiveSeq backed by a ParallelFlowable
+     */
+    public ParallelFlowableReactiveSeq<T> parallel(int rails, Scheduler scheduler) {
+        return parallel(rails, scheduler, true);
+    }
+
+    /**
+     * Split this Flowable into rails, map / filter / flatMap / reduce / collect run on each rail in parallel.
+     *
+     * Ordered mode buffers in two places, so it suits large numbers of short, finite tasks:
+     * <ul>
+     *  <li>flatMap collects each inner Stream into a List on its rail before the merge, an infinite inner
+     *  Stream never completes and a very large one is held in memory in full</li>
+     *  <li>results that complete ahead of a slow element are held by the merge until it finishes, there is
+     *  no bound on how many are held</li>
+     * </ul>
+     * Pass ordered=false for inner Streams that are infinite or very large, or for elements with very uneven
+     * processing times.
+     *
+     * @param rails Number of rails
+     * @param scheduler Scheduler each rail runs on
+     * @param ordered true to restore encounter order via sequence numbers, false to emit results as each
+     *                rail produces them
+     * @return ReactiveSeq backed by a ParallelFlowable
+     */
+    public ParallelFlowableReactiveSeq<T> parallel(int rails, Scheduler scheduler, boolean ordered) {
+        return ParallelFlowableReactiveSeq.parallel(flowable, rails, scheduler, ordered);
     }
 
     @Override
@@ -382,37 +517,55 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Spouts.from(flowable).mapReduce(mapper,reducer);
+        return flowable.map(t->(R)mapper.apply(t)).reduce(reducer.zero(),(a,b)->reducer.apply(a,b)).blockingGet();
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Spouts.from(flowable).reduce(reducer);
+        return reduceAsync(reducer).blockingGet();
     }
 
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return Spouts.from(flowable).reduce(accumulator);
+        return Optional.ofNullable(reduceAsync(accumulator).blockingGet());
     }
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Spouts.from(flowable).reduce(identity,accumulator);
+        return reduceAsync(identity,accumulator).blockingGet();
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Spouts.from(flowable).reduce(identity, accumulator, combiner);
+        return flowable.reduce(identity,(a,b)->accumulator.apply(a,b)).blockingGet();
     }
 
     @Override
     public ListX<T> reduce(Stream<? extends Monoid<T>> reducers) {
-        return Spouts.from(flowable).reduce(reducers);
+        return reduceAll(reducers.collect(Collectors.toList()));
     }
 
     @Override
     public ListX<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Spouts.from(flowable).reduce(reducers);
+        return reduceAll(ListX.fromIterable(reducers));
+    }
+
+    /*
+     * Applies every Monoid in a single pass, accumulating into one mutable List of partial results
+     */
+    private ListX<T> reduceAll(List<? extends Monoid<T>> reducers) {
+        return flowable.collect(()->{
+                        List<T> zeros = new ArrayList<>(reducers.size());
+                        for(Monoid<T> m : reducers)
+                            zeros.add(m.zero());
+                        return zeros;
+                    },
+                    (List<T> acc, T next)->{
+                        for(int i=0;i<acc.size();i++)
+                            acc.set(i,reducers.get(i).apply(acc.get(i),next));
+                    })
+                   .map(ListX::fromIterable)
+                   .blockingGet();
     }
 
     @Override
@@ -520,12 +673,12 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return flowable.blockingIterable().iterator();
+        return FlowableIterators.iterator(flowable);
     }
 
     @Override
     public Spliterator<T> spliterator() {
-        return flowable.blockingIterable().spliterator();
+        return FlowableIterators.spliterator(flowable);
     }
 
     @Override
@@ -675,7 +828,7 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public long count() {
-        return Spouts.from(flowable).count();
+        return countAsync().blockingGet();
     }
 
     @Override
@@ -733,7 +886,6 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
-
         return flowable.collect(()->supplier.get(),(a,b)->accumulator.accept(a,b)).blockingGet();
     }
 
@@ -745,7 +897,6 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R, A> R collect(Collector<? super T, A, R> collector) {
-
         A inter = collect(collector.supplier(), collector.accumulator(), null);
         return collector.finisher().apply(inter);
     }
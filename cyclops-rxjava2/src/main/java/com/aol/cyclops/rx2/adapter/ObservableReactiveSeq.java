@@ -8,6 +8,8 @@ import cyclops.collections.mutable.ListX;
 import cyclops.companion.rx2.Observables;
 import cyclops.control.Maybe;
 import cyclops.control.lazy.Either;
+import cyclops.function.Fn3;
+import cyclops.function.Fn4;
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import cyclops.monads.AnyM;
@@ -26,6 +28,12 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import io.reactivex.Observable;
+import io.reactivex.ObservableOperator;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.plugins.RxJavaPlugins;
 
 
 import java.util.*;
@@ -62,8 +70,71 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <U> U foldRight(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
-        return observable.reduce(identity,(a,b)->accumulator.apply(b,a))
-                         .blockingGet();
+        return foldRightAsync(identity,accumulator).blockingGet();
+    }
+
+    /**
+     * Non-blocking {@link #foldRight(Object, BiFunction)}, the result is emitted by the returned Single
+     * once the underlying Observable completes. A right fold starts from the last element, so the elements
+     * are collected into a List first.
+     */
+    public <U> Single<U> foldRightAsync(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        return observable.toList().map(list->ReactiveSeq.fromList(list).foldRight(identity,accumulator));
+    }
+
+    public Single<T> reduceAsync(Monoid<T> reducer) {
+        return observable.reduce(reducer.zero(),(a,b)->reducer.apply(a,b));
+    }
+
+    /**
+     * @return Maybe with the reduced value, or an empty Maybe if this Stream is empty
+     */
+    public io.reactivex.Maybe<T> reduceAsync(BinaryOperator<T> accumulator) {
+        return observable.reduce((a,b)->accumulator.apply(a,b));
+    }
+
+    public Single<T> reduceAsync(T identity, BinaryOperator<T> accumulator) {
+        return observable.reduce(identity,(a,b)->accumulator.apply(a,b));
+    }
+
+    public <R, A> Single<R> collectAsync(Collector<? super T, A, R> collector) {
+        return observable.collect(()->collector.supplier().get(),(a,b)->collector.accumulator().accept(a,b))
+                .map(a->collector.finisher().apply(a));
+    }
+
+    /**
+     * @return Maybe with the first element, or an empty Maybe if this Stream is empty
+     */
+    public io.reactivex.Maybe<T> findFirstAsync() {
+        return observable.firstElement();
+    }
+
+    public Single<Boolean> allMatchAsync(Predicate<? super T> c) {
+        return observable.all(t->c.test(t));
+    }
+
+    public Single<Boolean> anyMatchAsync(Predicate<? super T> c) {
+        return observable.any(t->c.test(t));
+    }
+
+    public Single<Boolean> noneMatchAsync(Predicate<? super T> c) {
+        return observable.any(t->c.test(t)).map(b->!b);
+    }
+
+    public Single<Long> countAsync() {
+        return observable.count();
+    }
+
+    public Single<String> joinAsync() {
+        return joinAsync("");
+    }
+
+    public Single<String> joinAsync(String sep) {
+        return joinAsync(sep,"","");
+    }
+
+    public Single<String> joinAsync(String sep, String start, String end) {
+        return collectAsync(Collectors.mapping(String::valueOf,Collectors.joining(sep,start,end)));
     }
 
     @Override
@@ -161,13 +232,151 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return zip3(second,third,Tuple::tuple);
+    }
+
+    /**
+     * Zip with two other Iterables in a single operator, each element is built directly by zipper. The
+     * Iterables are pulled as elements arrive, an Observable has no backpressure to bound a buffered zip.
+     */
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third,
+                                         Fn3<? super T, ? super S, ? super U, ? extends R> zipper) {
+        return observable(observable.lift(new ZipIterables<T,R>(a->zipper.apply((T)a[0],(S)a[1],(U)a[2]),second,third)));
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return zip4(second,third,fourth,Tuple::tuple);
+    }
+
+    /**
+     * Zip with three other Iterables in a single operator, each element is built directly by zipper
+     */
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                               Fn4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> zipper) {
+        return observable(observable.lift(new ZipIterables<T,R>(a->zipper.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),
+                                                                second,third,fourth)));
+    }
+
+    /*
+     * Zips each element with the next element of every Iterable. As with Observable#zipWith(Iterable) the
+     * Iterables are checked at subscription and after every emitted element, so the zip completes (and
+     * disposes the source) as soon as one of them is exhausted, without waiting for another element.
+     */
+    static final class ZipIterables<T, R> implements ObservableOperator<R, T> {
+        private final Function<Object[], ? extends R> zipper;
+        private final Iterable<?>[] others;
+
+        ZipIterables(Function<Object[], ? extends R> zipper, Iterable<?>... others) {
+            this.zipper = zipper;
+            this.others = others;
+        }
+
+        @Override
+        public Observer<? super T> apply(Observer<? super R> actual) {
+            return new ZipObserver<>(actual, zipper, others);
+        }
+
+        static final class ZipObserver<T, R> implements Observer<T>, Disposable {
+            private final Observer<? super R> actual;
+            private final Function<Object[], ? extends R> zipper;
+            private final Iterable<?>[] others;
+            private final Iterator<?>[] iterators;
+            private final Object[] values;
+            private Disposable upstream;
+            private boolean done;
+
+            ZipObserver(Observer<? super R> actual, Function<Object[], ? extends R> zipper, Iterable<?>[] others) {
+                this.actual = actual;
+                this.zipper = zipper;
+                this.others = others;
+                this.iterators = new Iterator[others.length];
+                this.values = new Object[others.length + 1];
+            }
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                actual.onSubscribe(this);
+                try {
+                    for (int i = 0; i < others.length; i++)
+                        iterators[i] = others[i].iterator();
+                    completeIfExhausted();
+                } catch (Throwable e) {
+                    fail(e);
+                }
+            }
+
+            @Override
+            public void onNext(T t) {
+                if (done)
+                    return;
+                R result;
+                try {
+                    values[0] = t;
+                    for (int i = 0; i < iterators.length; i++)
+                        values[i + 1] = iterators[i].next();
+                    result = zipper.apply(values);
+                } catch (Throwable e) {
+                    fail(e);
+                    return;
+                }
+                actual.onNext(result);
+                try {
+                    completeIfExhausted();
+                } catch (Throwable e) {
+                    fail(e);
+                }
+            }
+
+            private void completeIfExhausted() {
+                for (Iterator<?> it : iterators) {
+                    if (!it.hasNext()) {
+                        done = true;
+                        upstream.dispose();
+                        actual.onComplete();
+                        return;
+                    }
+                }
+            }
+
+            private void fail(Throwable e) {
+                Exceptions.throwIfFatal(e);
+                done = true;
+                upstream.dispose();
+                actual.onError(e);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                if (done) {
+                    RxJavaPlugins.onError(e);
+                    return;
+                }
+                done = true;
+                actual.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (done)
+                    return;
+                done = true;
+                actual.onComplete();
+            }
+
+            @Override
+            public void dispose() {
+                upstream.dispose();
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return upstream.isDisposed();
+            }
+        }
     }
 
     @Override
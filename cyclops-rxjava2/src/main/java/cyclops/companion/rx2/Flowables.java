@@ -1,5 +1,6 @@
 package cyclops.companion.rx2;
 
+import com.aol.cyclops.rx2.adapter.BackpressurePolicy;
 import com.aol.cyclops.rx2.adapter.FlowableReactiveSeq;
 import com.aol.cyclops.rx2.hkt.FlowableKind;
 import com.aol.cyclops.rx2.hkt.MaybeKind;
@@ -74,10 +75,22 @@ public class Flowables {
         return (Flowable<T>)observable;
     }
     public static  <T> Flowable<T> flowableFrom(ReactiveSeq<T> stream){
+        return flowableFrom(stream,BackpressurePolicy.defaultPolicy());
+    }
+
+    /**
+     * Convert a ReactiveSeq to a Flowable, asynchronous Streams (which do not respect backpressure)
+     * are buffered according to the supplied policy
+     *
+     * @param stream ReactiveSeq to convert
+     * @param policy Buffer capacity and overflow strategy for asynchronous Streams
+     * @return Flowable
+     */
+    public static  <T> Flowable<T> flowableFrom(ReactiveSeq<T> stream, BackpressurePolicy policy){
 
         return stream.visit(sync->Flowable.fromIterable(stream),
                             rs->Flowable.fromPublisher(stream),
-                            async-> Observables.fromStream(stream).toFlowable(BackpressureStrategy.BUFFER));
+                            async-> policy.apply(Observables.fromStream(stream)));
 
 
     }
@@ -91,7 +104,7 @@ public class Flowables {
             if(s instanceof ReactiveSeq){
             return ((ReactiveSeq<T>)s).visit(sync->new FlowableReactiveSeq<T>(Flowable.fromIterable(sync)),
                             rs->new FlowableReactiveSeq<T>(Flowable.fromPublisher(rs)),
-                            async ->new FlowableReactiveSeq<T>(Observables.fromStream(async).toFlowable(BackpressureStrategy.BUFFER)));
+                            async ->new FlowableReactiveSeq<T>(BackpressurePolicy.defaultPolicy().apply(Observables.fromStream(async))));
             }
              return new FlowableReactiveSeq<T>(Flowable.fromIterable(ReactiveSeq.fromStream(s)));
         });
@@ -753,20 +766,8 @@ public class Flowables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<flowable> traverse(){
-            BiFunction<Applicative<C2>,FlowableKind<Higher<C2, T>>,Higher<C2, FlowableKind<T>>> sequenceFn = (ap, flowable) -> {
-
-                Higher<C2,FlowableKind<T>> identity = ap.unit(widen(Flowable.empty()));
-
-                BiFunction<Higher<C2,FlowableKind<T>>,Higher<C2,T>,Higher<C2,FlowableKind<T>>> combineToFlowable =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(Flowable.concat(a,Flowable.just(b)))),acc,next);
-
-                BinaryOperator<Higher<C2,FlowableKind<T>>> combineFlowables = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return widen(Flowable.concat(l1.narrow(),l2.narrow()));}),a,b); ;
-
-                return ReactiveSeq.fromPublisher(flowable).reduce(identity,
-                        combineToFlowable,
-                        combineFlowables);
-
-
-            };
+            BiFunction<Applicative<C2>,FlowableKind<Higher<C2, T>>,Higher<C2, FlowableKind<T>>> sequenceFn = (ap, flowable) ->
+                    Traversals.sequence(ap, ReactiveSeq.fromPublisher(flowable), l -> widen(Flowable.fromIterable(l)));
             BiFunction<Applicative<C2>,Higher<flowable,Higher<C2, T>>,Higher<C2, Higher<flowable,T>>> sequenceNarrow  =
                     (a,b) -> FlowableKind.widen2(sequenceFn.apply(a, FlowableKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -493,7 +493,26 @@ public class Maybes {
     @UtilityClass
     public static class Instances {
 
+        /**
+         * Type class definitions that never block. Traverse, Foldable and Comonad are not provided, as they can only be
+         * implemented by blocking on the Maybe - see {@link #blockingDefinitions()}, or use the non-blocking
+         * {@link #traverseAsync}, {@link #sequenceAsync} and {@link #foldAsync} operators instead.
+         *
+         * @return Non-blocking type class definitions for Maybes
+         */
         public static InstanceDefinitions<maybe> definitions() {
+            return definitions(false);
+        }
+        /**
+         * Type class definitions including the Traverse, Foldable and Comonad instances, all of which call blockingGet().
+         * Only use these where blocking is acceptable (i.e. not from an event loop / non-blocking Scheduler thread).
+         *
+         * @return Type class definitions for Maybes, including blocking instances
+         */
+        public static InstanceDefinitions<maybe> blockingDefinitions() {
+            return definitions(true);
+        }
+        private static InstanceDefinitions<maybe> definitions(boolean blocking) {
             return new InstanceDefinitions<maybe>() {
 
                 @Override
@@ -533,17 +552,17 @@ public class Maybes {
 
                 @Override
                 public <C2, T> cyclops.control.Maybe<Traverse<maybe>> traverse() {
-                    return cyclops.control.Maybe.just(Instances.traverse());
+                    return blocking ? cyclops.control.Maybe.just(Instances.traverse()) : cyclops.control.Maybe.none();
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Foldable<maybe>> foldable() {
-                    return cyclops.control.Maybe.just(Instances.foldable());
+                    return blocking ? cyclops.control.Maybe.just(Instances.foldable()) : cyclops.control.Maybe.none();
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Comonad<maybe>> comonad() {
-                    return cyclops.control.Maybe.just(Instances.comonad());
+                    return blocking ? cyclops.control.Maybe.just(Instances.comonad()) : cyclops.control.Maybe.none();
                 }
 
                 @Override
@@ -744,6 +763,8 @@ public class Maybes {
         }
 
         /**
+         * Note this Traverse instance calls blockingGet(), see {@link #traverseAsync} for a non-blocking alternative
+         *
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<maybe> traverse(){
@@ -764,6 +785,8 @@ public class Maybes {
          * </pre>
          *
          *
+         * Note this Foldable instance calls blockingGet(), see {@link #foldAsync} for a non-blocking alternative
+         *
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<maybe> foldable(){
@@ -771,11 +794,70 @@ public class Maybes {
             BiFunction<Monoid<T>,Higher<maybe,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), MaybeKind.narrow(l).blockingGet());
             return General.foldable(foldRightFn, foldLeftFn);
         }
+        /**
+         * Note this Comonad instance calls blockingGet() to extract the value
+         *
+         * @return Comonad for Maybes
+         */
         public static <T> Comonad<maybe> comonad(){
             Function<? super Higher<maybe, T>, ? extends T> extractFn = maybe -> maybe.convert(MaybeKind::narrow).blockingGet();
             return General.comonad(functor(), unit(), extractFn);
         }
 
+        /**
+         * Non-blocking traverse, the result stays inside a Single rather than blocking for the value
+         *
+         * <pre>
+         * {@code
+         * Single<Higher<Witness.maybe, Higher<maybe, Integer>>> res = Maybes.Instances.traverseAsync(cyclops.control.Maybe.Instances.applicative(),
+         *                                                                               (Integer a)-> cyclops.control.Maybe.just(a*2),
+         *                                                                               MaybeKind.widen(Maybe.just(1)));
+         * //Single[Maybe[Maybe[2]]]
+         * }
+         * </pre>
+         *
+         * @param applicative Applicative for the result type
+         * @param fn Function to apply to the value in the Maybe
+         * @param ds Maybe to traverse
+         * @return Single that emits the traversed result once the Maybe completes (an empty Maybe traverses to an empty Maybe)
+         */
+        public static <C2,T,R> Single<Higher<C2, Higher<maybe, R>>> traverseAsync(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
+                                                                                  Higher<maybe, T> ds){
+            Maybe<T> future = MaybeKind.narrow(ds);
+            return future.<Higher<C2, Higher<maybe, R>>>map(t->applicative.map(MaybeKind::just, fn.apply(t)))
+                         .switchIfEmpty(Maybe.fromCallable(()->applicative.unit(MaybeKind.empty())))
+                         .toSingle();
+        }
+        /**
+         * Non-blocking sequence, the result stays inside a Single rather than blocking for the value
+         *
+         * @param applicative Applicative for the result type
+         * @param ds Maybe to sequence
+         * @return Single that emits the sequenced result once the Maybe completes
+         */
+        public static <C2,T> Single<Higher<C2, Higher<maybe, T>>> sequenceAsync(Applicative<C2> applicative, Higher<maybe, Higher<C2, T>> ds){
+            return traverseAsync(applicative, Function.identity(), ds);
+        }
+        /**
+         * Non-blocking fold, the result stays inside a Single rather than blocking for the value
+         *
+         * <pre>
+         * {@code
+         * Single<Integer> sum  = Maybes.Instances.foldAsync(Monoids.intSum, MaybeKind.widen(Maybe.just(1)));
+         * //Single[1]
+         * }
+         * </pre>
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Maybe to fold
+         * @return Single that emits the folded result (or the Monoid zero if the Maybe is empty)
+         */
+        public static <T> Single<T> foldAsync(Monoid<T> monoid, Higher<maybe, T> ds){
+            return MaybeKind.narrow(ds)
+                            .map(t->monoid.apply(monoid.zero(), t))
+                            .toSingle(monoid.zero());
+        }
+
         private static <T> MaybeKind<T> of(T value){
             return widen(Maybe.just(value));
         }
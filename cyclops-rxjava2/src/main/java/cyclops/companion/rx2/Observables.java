@@ -7,6 +7,7 @@ import java.util.function.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.rx2.adapter.BackpressurePolicy;
 import com.aol.cyclops.rx2.adapter.ObservableReactiveSeq;
 import com.aol.cyclops.rx2.hkt.FlowableKind;
 import com.aol.cyclops.rx2.hkt.MaybeKind;
@@ -153,7 +154,18 @@ public class Observables {
      * @return reactive-streams Publisher
      */
     public static <T> Publisher<T> publisher(Observable<T> observable) {
-        return observable.toFlowable(BackpressureStrategy.BUFFER);
+        return publisher(observable,BackpressurePolicy.defaultPolicy());
+    }
+
+    /**
+     * Convert an Observable to a reactive-streams Publisher, buffering according to the supplied policy
+     *
+     * @param observable To convert
+     * @param policy Buffer capacity and overflow strategy
+     * @return reactive-streams Publisher
+     */
+    public static <T> Publisher<T> publisher(Observable<T> observable, BackpressurePolicy policy) {
+        return policy.apply(observable);
     }
 
     /**
@@ -864,20 +876,8 @@ public class Observables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<observable> traverse(){
-            BiFunction<Applicative<C2>,ObservableKind<Higher<C2, T>>,Higher<C2, ObservableKind<T>>> sequenceFn = (ap, observable) -> {
-
-                Higher<C2,ObservableKind<T>> identity = ap.unit(widen(Observable.empty()));
-
-                BiFunction<Higher<C2,ObservableKind<T>>,Higher<C2,T>,Higher<C2,ObservableKind<T>>> combineToObservable =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(Observable.concat(ObservableKind.narrow(a),Observable.just(b)))),acc,next);
-
-                BinaryOperator<Higher<C2,ObservableKind<T>>> combineObservables = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return widen(Observable.concat(l1.narrow(),l2.narrow()));}),a,b); ;
-
-                return ReactiveSeq.fromPublisher(observable).reduce(identity,
-                        combineToObservable,
-                        combineObservables);
-
-
-            };
+            BiFunction<Applicative<C2>,ObservableKind<Higher<C2, T>>,Higher<C2, ObservableKind<T>>> sequenceFn = (ap, observable) ->
+                    Traversals.sequence(ap, ReactiveSeq.fromPublisher(observable), l -> widen(Observable.fromIterable(l)));
             BiFunction<Applicative<C2>,Higher<observable,Higher<C2, T>>,Higher<C2, Higher<observable,T>>> sequenceNarrow  =
                     (a,b) -> ObservableKind.widen2(sequenceFn.apply(a, ObservableKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -479,7 +479,26 @@ public class Singles {
     @UtilityClass
     public static class Instances {
 
+        /**
+         * Type class definitions that never block. Traverse, Foldable and Comonad are not provided, as they can only be
+         * implemented by blocking on the Single - see {@link #blockingDefinitions()}, or use the non-blocking
+         * {@link #traverseAsync}, {@link #sequenceAsync} and {@link #foldAsync} operators instead.
+         *
+         * @return Non-blocking type class definitions for Singles
+         */
         public static InstanceDefinitions<single> definitions() {
+            return definitions(false);
+        }
+        /**
+         * Type class definitions including the Traverse, Foldable and Comonad instances, all of which call blockingGet().
+         * Only use these where blocking is acceptable (i.e. not from an event loop / non-blocking Scheduler thread).
+         *
+         * @return Type class definitions for Singles, including blocking instances
+         */
+        public static InstanceDefinitions<single> blockingDefinitions() {
+            return definitions(true);
+        }
+        private static InstanceDefinitions<single> definitions(boolean blocking) {
             return new InstanceDefinitions<single>() {
 
 
@@ -520,17 +539,17 @@ public class Singles {
 
                 @Override
                 public <C2, T> cyclops.control.Maybe<Traverse<single>> traverse() {
-                    return cyclops.control.Maybe.just(Instances.traverse());
+                    return blocking ? cyclops.control.Maybe.just(Instances.traverse()) : cyclops.control.Maybe.none();
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Foldable<single>> foldable() {
-                    return cyclops.control.Maybe.just(Instances.foldable());
+                    return blocking ? cyclops.control.Maybe.just(Instances.foldable()) : cyclops.control.Maybe.none();
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Comonad<single>> comonad() {
-                    return cyclops.control.Maybe.just(Instances.comonad());
+                    return blocking ? cyclops.control.Maybe.just(Instances.comonad()) : cyclops.control.Maybe.none();
                 }
 
                 @Override
@@ -732,6 +751,8 @@ public class Singles {
         }
 
         /**
+         * Note this Traverse instance calls blockingGet(), see {@link #traverseAsync} for a non-blocking alternative
+         *
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<single> traverse(){
@@ -752,6 +773,8 @@ public class Singles {
          * </pre>
          *
          *
+         * Note this Foldable instance calls blockingGet(), see {@link #foldAsync} for a non-blocking alternative
+         *
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<single> foldable(){
@@ -759,11 +782,67 @@ public class Singles {
             BiFunction<Monoid<T>,Higher<single,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), SingleKind.narrow(l).blockingGet());
             return General.foldable(foldRightFn, foldLeftFn);
         }
+        /**
+         * Note this Comonad instance calls blockingGet() to extract the value
+         *
+         * @return Comonad for Singles
+         */
         public static <T> Comonad<single> comonad(){
             Function<? super Higher<single, T>, ? extends T> extractFn = maybe -> maybe.convert(SingleKind::narrow).blockingGet();
             return General.comonad(functor(), unit(), extractFn);
         }
 
+        /**
+         * Non-blocking traverse, the result stays inside a Single rather than blocking for the value
+         *
+         * <pre>
+         * {@code
+         * Single<Higher<maybe, Higher<single, Integer>>> res = Singles.Instances.traverseAsync(Maybe.Instances.applicative(),
+         *                                                                         (Integer a)-> Maybe.just(a*2),
+         *                                                                         SingleKind.widen(Single.just(1)));
+         * //Single[Maybe[Single[2]]]
+         * }
+         * </pre>
+         *
+         * @param applicative Applicative for the result type
+         * @param fn Function to apply to the value in the Single
+         * @param ds Single to traverse
+         * @return Single that emits the traversed result, once the value is available
+         */
+        public static <C2,T,R> Single<Higher<C2, Higher<single, R>>> traverseAsync(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
+                                                                                   Higher<single, T> ds){
+            Single<T> future = SingleKind.narrow(ds);
+            return future.map(t->applicative.map(SingleKind::just, fn.apply(t)));
+        }
+        /**
+         * Non-blocking sequence, the result stays inside a Single rather than blocking for the value
+         *
+         * @param applicative Applicative for the result type
+         * @param ds Single to sequence
+         * @return Single that emits the sequenced result, once the value is available
+         */
+        public static <C2,T> Single<Higher<C2, Higher<single, T>>> sequenceAsync(Applicative<C2> applicative, Higher<single, Higher<C2, T>> ds){
+            return traverseAsync(applicative, Function.identity(), ds);
+        }
+        /**
+         * Non-blocking fold, the result stays inside a Single rather than blocking for the value
+         *
+         * <pre>
+         * {@code
+         * Single<Integer> sum  = Singles.Instances.foldAsync(Monoids.intSum, SingleKind.widen(Single.just(1)));
+         * //Single[1]
+         * }
+         * </pre>
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Single to fold
+         * @return Single that emits the folded result
+         */
+        public static <T> Single<T> foldAsync(Monoid<T> monoid, Higher<single, T> ds){
+            return SingleKind.narrow(ds)
+                             .map(t->monoid.apply(monoid.zero(), t));
+        }
+
         private static <T> SingleKind<T> of(T value){
             return SingleKind.widen(Single.just(value));
         }
@@ -0,0 +1,38 @@
+package cyclops.companion.rx2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.aol.cyclops2.hkt.Higher;
+import cyclops.typeclasses.monad.Applicative;
+import org.pcollections.ConsPStack;
+import org.pcollections.PStack;
+
+/*
+ * Linear time sequence for the Flowables and Observables Traverse instances. Each step prepends onto a
+ * pcollections cons list, and the Flowable or Observable is created once from it at the end, rather than
+ * concatWith-ing a new source per element. cyclops-rxjava2 depends only on cyclops-react and RxJava 2, so it
+ * keeps its own package-private copy.
+ */
+class Traversals {
+
+    static <C2,T,R> Higher<C2,R> sequence(Applicative<C2> ap, Iterable<? extends Higher<C2,T>> values,
+                                         Function<? super List<T>, ? extends R> build){
+        BiFunction<PStack<T>,T,PStack<T>> push = (stack,next)->stack.plus(next);
+        Higher<C2,BiFunction<PStack<T>,T,PStack<T>>> pushFn = ap.unit(push);
+        Higher<C2,PStack<T>> acc = ap.unit(ConsPStack.empty());
+        for(Higher<C2,T> next : values){
+            acc = ap.apBiFn(pushFn,acc,next);
+        }
+        return ap.map(stack->build.apply(inOrder(stack)),acc);
+    }
+
+    private static <T> List<T> inOrder(PStack<T> stack){
+        List<T> list = new ArrayList<>(stack);
+        Collections.reverse(list);
+        return list;
+    }
+}
@@ -0,0 +1,102 @@
+package com.aol.cyclops.rx;
+
+import com.aol.cyclops.rx2.adapter.BackpressurePolicy;
+import com.aol.cyclops.rx2.adapter.BackpressurePolicy.Overflow;
+import cyclops.companion.rx2.Flowables;
+import cyclops.companion.rx2.Observables;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class BackpressurePolicyTest {
+
+    private TestSubscriber<Integer> emitTen(BackpressurePolicy policy){
+        PublishSubject<Integer> source = PublishSubject.create();
+        TestSubscriber<Integer> result = Flowable.fromPublisher(Observables.publisher(source,policy)).test(0);
+        for(int i=0;i<10;i++)
+            source.onNext(i);
+        source.onComplete();
+        return result;
+    }
+
+    @Test
+    public void defaultIsUnbounded(){
+        assertThat(BackpressurePolicy.defaultPolicy().getCapacity(),equalTo(Long.MAX_VALUE));
+        TestSubscriber<Integer> result = emitTen(BackpressurePolicy.defaultPolicy());
+        result.requestMore(10);
+        result.assertValues(0,1,2,3,4,5,6,7,8,9);
+    }
+    @Test
+    public void dropOldest(){
+        BackpressurePolicy policy = BackpressurePolicy.bounded(3, Overflow.DROP_OLDEST);
+        TestSubscriber<Integer> result = emitTen(policy);
+        assertThat(policy.getMetrics().occupancy(),equalTo(3l));
+        assertThat(policy.getMetrics().dropped(),equalTo(7l));
+        result.requestMore(10);
+        result.assertResult(7,8,9);
+        assertThat(policy.getMetrics().occupancy(),equalTo(0l));
+    }
+    @Test
+    public void dropLatest(){
+        BackpressurePolicy policy = BackpressurePolicy.bounded(3, Overflow.DROP_LATEST);
+        TestSubscriber<Integer> result = emitTen(policy);
+        assertThat(policy.getMetrics().occupancy(),equalTo(3l));
+        assertThat(policy.getMetrics().dropped(),equalTo(7l));
+        result.requestMore(10);
+        result.assertResult(0,1,9);
+    }
+    @Test
+    public void error(){
+        BackpressurePolicy policy = BackpressurePolicy.bounded(3, Overflow.ERROR);
+        TestSubscriber<Integer> result = emitTen(policy);
+        result.assertError(MissingBackpressureException.class);
+        assertThat(policy.getMetrics().occupancy(),equalTo(0l));
+    }
+    @Test
+    public void blockProducer() throws InterruptedException {
+        BackpressurePolicy policy = BackpressurePolicy.bounded(2, Overflow.BLOCK);
+        AtomicInteger produced = new AtomicInteger(0);
+        ReactiveSeq<Integer> stream = Spouts.<Integer>async(s->{
+            Thread t = new Thread(()->{
+                for(int i=0;i<10;i++){
+                    s.onNext(i);
+                    produced.incrementAndGet();
+                }
+                s.onComplete();
+            });
+            t.start();
+        });
+        TestSubscriber<Integer> result = Flowables.flowableFrom(stream,policy).test(0);
+        Thread.sleep(200);
+        assertThat(produced.get(),equalTo(2));
+        assertThat(policy.getMetrics().occupancy(),equalTo(2l));
+        result.requestMore(10);
+        result.awaitDone(5,TimeUnit.SECONDS);
+        result.assertResult(0,1,2,3,4,5,6,7,8,9);
+        assertThat(policy.getMetrics().dropped(),equalTo(0l));
+    }
+    @Test(timeout=5000)
+    public void blockSynchronousSource(){
+        BackpressurePolicy policy = BackpressurePolicy.bounded(2, Overflow.BLOCK);
+        TestSubscriber<Integer> result = policy.apply(Observable.range(0,10)).test(0);
+        assertThat(policy.getMetrics().occupancy(),equalTo(10l));
+        result.requestMore(10);
+        result.assertResult(0,1,2,3,4,5,6,7,8,9);
+        assertThat(policy.getMetrics().occupancy(),equalTo(0l));
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void capacityMustBePositive(){
+        BackpressurePolicy.bounded(0, Overflow.ERROR);
+    }
+}
@@ -9,9 +9,11 @@ import com.aol.cyclops2.types.anyM.AnyMSeq;
 import cyclops.monads.Rx2Witness.observable;
 
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.rx2.Flowables;
 import cyclops.companion.rx2.Observables;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import org.junit.Test;
 
@@ -88,6 +90,18 @@ public class RxTest {
                    equalTo(ListX.of(11, 12, 13)));
     }
 
+    @Test
+    public void flowableFlatMap() {
+        assertThat(Flowables.anyM(Flowable.just(1, 2, 3))
+                            .flatMap(a -> Flowables.anyM(Flowable.just(a + 10)))
+                            .toListX(),
+                   equalTo(ListX.of(11, 12, 13)));
+        assertThat(Flowables.raw(Flowables.anyM(Flowable.just(1, 2, 3)).map(a -> a + 10))
+                            .toList()
+                            .blockingGet(),
+                   equalTo(ListX.of(11, 12, 13)));
+    }
+
 
     @Test
     public void observableComp() {
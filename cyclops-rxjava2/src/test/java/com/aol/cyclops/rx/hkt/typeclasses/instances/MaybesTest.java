@@ -3,6 +3,7 @@ package com.aol.cyclops.rx.hkt.typeclasses.instances;
 import com.aol.cyclops.rx2.hkt.MaybeKind;
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.async.Future;
+import cyclops.companion.Monoids;
 import cyclops.companion.rx2.Maybes.Instances;
 
 import cyclops.function.Fn1;
@@ -13,11 +14,19 @@ import cyclops.monads.Witness;
 import cyclops.typeclasses.monad.Applicative;
 import cyclops.typeclasses.monad.Traverse;
 import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.MaybeSubject;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.aol.cyclops.rx2.hkt.MaybeKind.widen;
 import static cyclops.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -158,5 +167,61 @@ public class MaybesTest {
                                      .map(h -> h.convert(MaybeKind::narrow));
 
     }
-    
+    @Test
+    public void traverseAsync(){
+        Single<Higher<Witness.maybe, Higher<maybe, Integer>>> res = Instances.traverseAsync(cyclops.control.Maybe.Instances.applicative(),
+                                                                                           (Integer a)-> cyclops.control.Maybe.just(a*2),
+                                                                                           widen(Maybe.just(1)));
+
+        assertThat(res.blockingGet().convert(cyclops.control.Maybe::narrowK).map(h->h.convert(MaybeKind::narrowK).blockingGet()),
+                   equalTo(cyclops.control.Maybe.just(2)));
+    }
+    @Test
+    public void traverseAsyncEmpty(){
+        Single<Higher<Witness.maybe, Higher<maybe, Integer>>> res = Instances.traverseAsync(cyclops.control.Maybe.Instances.applicative(),
+                                                                                           (Integer a)-> cyclops.control.Maybe.just(a*2),
+                                                                                           widen(Maybe.<Integer>empty()));
+
+        assertThat(res.blockingGet().convert(cyclops.control.Maybe::narrowK).map(h->h.convert(MaybeKind::narrowK).blockingGet(-1)),
+                   equalTo(cyclops.control.Maybe.just(-1)));
+    }
+    @Test
+    public void foldAsync(){
+        assertThat(Instances.foldAsync(Monoids.intSum, widen(Maybe.just(10))).blockingGet(),equalTo(10));
+        assertThat(Instances.foldAsync(Monoids.intSum, widen(Maybe.<Integer>empty())).blockingGet(),equalTo(0));
+    }
+    @Test
+    public void blockingInstancesAreOptIn(){
+        assertFalse(Instances.definitions().traverse().isPresent());
+        assertFalse(Instances.definitions().foldable().isPresent());
+        assertFalse(Instances.definitions().comonad().isPresent());
+        assertTrue(Instances.blockingDefinitions().traverse().isPresent());
+        assertTrue(Instances.blockingDefinitions().foldable().isPresent());
+        assertTrue(Instances.blockingDefinitions().comonad().isPresent());
+    }
+    @Test
+    public void asyncOperatorsDoNotBlockNonBlockingScheduler(){
+        RxJavaPlugins.setFailOnNonBlockingScheduler(true);
+        try {
+            MaybeSubject<Integer> pending = MaybeSubject.create();
+            TestObserver<Higher<Witness.maybe, Higher<maybe, Integer>>> traversed = Single.defer(()->Instances.traverseAsync(cyclops.control.Maybe.Instances.applicative(),
+                                                                                                                          (Integer a)-> cyclops.control.Maybe.just(a*2),
+                                                                                                                          widen(pending)))
+                                                                                          .subscribeOn(Schedulers.computation())
+                                                                                          .test();
+            TestObserver<Integer> folded = Single.defer(()->Instances.foldAsync(Monoids.intSum, widen(pending)))
+                                                 .subscribeOn(Schedulers.computation())
+                                                 .test();
+            pending.onSuccess(10);
+
+            folded.awaitDone(5, TimeUnit.SECONDS)
+                  .assertValue(10);
+            traversed.awaitDone(5, TimeUnit.SECONDS)
+                     .assertNoErrors();
+            assertThat(traversed.values().get(0).convert(cyclops.control.Maybe::narrowK).map(h->h.convert(MaybeKind::narrowK).blockingGet()),
+                       equalTo(cyclops.control.Maybe.just(20)));
+        }finally {
+            RxJavaPlugins.setFailOnNonBlockingScheduler(false);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.aol.cyclops.rx.hkt.typeclasses.instances;
 import com.aol.cyclops.rx2.hkt.SingleKind;
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.async.Future;
+import cyclops.companion.Monoids;
 
 import cyclops.companion.rx2.Singles;
 import cyclops.companion.rx2.Singles.Instances;
@@ -19,7 +20,12 @@ import cyclops.stream.Spouts;
 import cyclops.typeclasses.monad.Applicative;
 import cyclops.typeclasses.monad.Traverse;
 import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.SingleSubject;
 import org.junit.Test;
+import java.util.concurrent.TimeUnit;
 
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -172,5 +178,66 @@ public class SinglesTest {
                                      .map(h -> h.convert(SingleKind::narrow));
 
     }
-    
+    @Test
+    public void traverseAsync(){
+        Single<Higher<maybe, Higher<single, Integer>>> res = Instances.traverseAsync(Maybe.Instances.applicative(),
+                                                                                    (Integer a)-> Maybe.just(a*2),
+                                                                                    widen(Single.just(1)));
+
+        assertThat(res.blockingGet().convert(Maybe::narrowK).map(h->h.convert(SingleKind::narrowK).blockingGet()),
+                   equalTo(Maybe.just(2)));
+    }
+    @Test
+    public void sequenceAsync(){
+        Single<Higher<maybe, Higher<single, Integer>>> res = Instances.sequenceAsync(Maybe.Instances.applicative(),
+                                                                                    widen(Single.just(Maybe.just(1))));
+
+        assertThat(res.blockingGet().convert(Maybe::narrowK).map(h->h.convert(SingleKind::narrowK).blockingGet()),
+                   equalTo(Maybe.just(1)));
+    }
+    @Test
+    public void foldAsync(){
+        assertThat(Instances.foldAsync(Monoids.intSum, widen(Single.just(10))).blockingGet(),equalTo(10));
+    }
+    @Test
+    public void blockingInstancesAreOptIn(){
+        assertFalse(Instances.definitions().traverse().isPresent());
+        assertFalse(Instances.definitions().foldable().isPresent());
+        assertFalse(Instances.definitions().comonad().isPresent());
+        assertTrue(Instances.blockingDefinitions().traverse().isPresent());
+        assertTrue(Instances.blockingDefinitions().foldable().isPresent());
+        assertTrue(Instances.blockingDefinitions().comonad().isPresent());
+    }
+    @Test
+    public void asyncOperatorsDoNotBlockNonBlockingScheduler(){
+        RxJavaPlugins.setFailOnNonBlockingScheduler(true);
+        try {
+            //sanity check - blocking on a computation thread now fails
+            Single.fromCallable(()->Instances.foldable().foldLeft(Monoids.intSum, widen(Single.timer(10, TimeUnit.MILLISECONDS).map(l->1))))
+                  .subscribeOn(Schedulers.computation())
+                  .test()
+                  .awaitDone(5, TimeUnit.SECONDS)
+                  .assertError(IllegalStateException.class);
+
+            SingleSubject<Integer> pending = SingleSubject.create();
+            TestObserver<Higher<maybe, Higher<single, Integer>>> traversed = Single.defer(()->Instances.traverseAsync(Maybe.Instances.applicative(),
+                                                                                                                   (Integer a)-> Maybe.just(a*2),
+                                                                                                                   widen(pending)))
+                                                                                   .subscribeOn(Schedulers.computation())
+                                                                                   .test();
+            TestObserver<Integer> folded = Single.defer(()->Instances.foldAsync(Monoids.intSum, widen(pending)))
+                                                 .subscribeOn(Schedulers.computation())
+                                                 .test();
+            pending.onSuccess(10);
+
+            folded.awaitDone(5, TimeUnit.SECONDS)
+                  .assertValue(10);
+            traversed.awaitDone(5, TimeUnit.SECONDS)
+                     .assertNoErrors();
+            assertThat(traversed.values().get(0).convert(Maybe::narrowK).map(h->h.convert(SingleKind::narrowK).blockingGet()),
+                       equalTo(Maybe.just(20)));
+        }finally {
+            RxJavaPlugins.setFailOnNonBlockingScheduler(false);
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package cyclops.streams.flowables.asyncreactivestreams;
+
+import com.aol.cyclops.rx2.adapter.FlowableReactiveSeq;
+import cyclops.companion.Monoids;
+import io.reactivex.Flowable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class AsyncRSTerminalOperationsTest {
+
+    PublishProcessor<Integer> source;
+    FlowableReactiveSeq<Integer> seq;
+
+    @Before
+    public void setup(){
+        source = PublishProcessor.create();
+        seq = new FlowableReactiveSeq<>(source);
+    }
+
+    private void emit(Integer... values){
+        for(Integer next : values)
+            source.onNext(next);
+        source.onComplete();
+    }
+
+    @Test
+    public void reduceAsyncDoesNotBlock(){
+        TestObserver<Integer> result = seq.reduceAsync(0,(a,b)->a+b).test();
+        result.assertNotComplete();
+        emit(1,2,3);
+        result.assertResult(6);
+    }
+    @Test
+    public void foldRightAsync(){
+        TestObserver<String> result = seq.foldRightAsync("",(a,b)->b+a).test();
+        result.assertNotComplete();
+        emit(1,2,3);
+        result.assertResult("321");
+    }
+    @Test
+    public void foldRightStartsFromLastElement(){
+        assertThat(new FlowableReactiveSeq<>(Flowable.just(1,2,3)).foldRight("",(a,b)->b+a),equalTo("321"));
+        assertThat(new FlowableReactiveSeq<>(Flowable.<Integer>empty()).foldRight("",(a,b)->b+a),equalTo(""));
+    }
+    @Test
+    public void findFirstAsync(){
+        TestObserver<Integer> result = seq.findFirstAsync().test();
+        result.assertNotComplete();
+        source.onNext(10);
+        result.assertResult(10);
+    }
+    @Test
+    public void collectAsync(){
+        TestObserver<String> result = seq.joinAsync(",","[","]").test();
+        result.assertNotComplete();
+        emit(1,2,3);
+        result.assertResult("[1,2,3]");
+    }
+    @Test
+    public void emptyAsync(){
+        FlowableReactiveSeq<Integer> empty = new FlowableReactiveSeq<>(Flowable.empty());
+        empty.findFirstAsync().test().assertResult();
+        empty.reduceAsync((a,b)->a+b).test().assertResult();
+        assertThat(empty.reduceAsync(Monoids.intSum).blockingGet(),equalTo(0));
+        assertThat(empty.countAsync().blockingGet(),equalTo(0l));
+    }
+    @Test
+    public void terminalsAsync(){
+        FlowableReactiveSeq<Integer> values = new FlowableReactiveSeq<>(Flowable.just(1,2,3));
+        assertThat(values.reduceAsync((a,b)->a+b).blockingGet(),equalTo(6));
+        assertThat(values.collectAsync(Collectors.toList()).blockingGet(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(values.countAsync().blockingGet(),equalTo(3l));
+        assertThat(values.joinAsync().blockingGet(),equalTo("123"));
+        assertTrue(values.allMatchAsync(i->i>0).blockingGet());
+        assertTrue(values.anyMatchAsync(i->i>2).blockingGet());
+        assertFalse(values.noneMatchAsync(i->i>2).blockingGet());
+    }
+}
@@ -1,22 +1,31 @@
 package cyclops.streams.flowables.syncflux;
 
 
+import com.aol.cyclops.rx2.adapter.FlowableReactiveSeq;
 import cyclops.async.adapters.Topic;
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.Monoids;
+import cyclops.companion.Reducers;
 import cyclops.companion.rx2.Flowables;
 import cyclops.control.Maybe;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Streamable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import org.hamcrest.Matchers;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,7 +33,9 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by johnmcclean on 14/01/2017.
@@ -313,4 +324,80 @@ public class SyncSequentialTest extends BaseSequentialTest {
         assertEquals(asList(), of(1, 2, 3).splitAtHead().v2.splitAtHead().v2.splitAtHead().v2.toList());
     }
 
+
+    @Test
+    public void parallelKeepsOrder(){
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ReactiveSeq<Integer> seq = new FlowableReactiveSeq<>(Flowable.range(0, 1000))
+                                        .parallel(4, Schedulers.computation())
+                                        .map(i -> {
+                                            threads.add(Thread.currentThread().getName());
+                                            return i * 2;
+                                        })
+                                        .filter(i -> i % 3 == 0)
+                                        .flatMap(i -> Stream.of(i, -i));
+
+        List<Integer> expected = ReactiveSeq.range(0, 1000)
+                                            .map(i -> i * 2)
+                                            .filter(i -> i % 3 == 0)
+                                            .flatMap(i -> Stream.of(i, -i))
+                                            .toList();
+        assertTrue(seq.isParallel());
+        assertThat(seq.toList(), equalTo(expected));
+        assertThat(seq.sequential().isParallel(), equalTo(false));
+        assertThat(seq.sequential().toList(), equalTo(expected));
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void parallelUnordered(){
+        List<Integer> list = new FlowableReactiveSeq<>(Flowable.range(0, 1000))
+                                  .parallel(4, Schedulers.computation(), false)
+                                  .map(i -> i + 1)
+                                  .filter(i -> i % 2 == 0)
+                                  .toList();
+        Collections.sort(list);
+        assertThat(list, equalTo(ReactiveSeq.range(1, 1001).filter(i -> i % 2 == 0).toList()));
+    }
+
+    @Test
+    public void parallelReduceAndCollect(){
+        for(boolean ordered : new boolean[]{true,false}) {
+            ReactiveSeq<Integer> seq = new FlowableReactiveSeq<>(Flowable.range(0, 1000))
+                                            .parallel(4, Schedulers.computation(), ordered)
+                                            .map(i -> i + 1);
+            assertThat(seq.reduce(0, (a, b) -> a + b), equalTo(500500));
+            assertThat(seq.reduce((a, b) -> a + b), equalTo(Optional.of(500500)));
+            assertThat(seq.reduce(0L, (a, b) -> a + b, (a, b) -> a + b), equalTo(500500L));
+            assertThat(seq.collect(Collectors.toSet()).size(), equalTo(1000));
+            assertThat(seq.collect(ArrayList::new, ArrayList::add, ArrayList::addAll).size(), equalTo(1000));
+        }
+        assertThat(new FlowableReactiveSeq<>(Flowable.<Integer>empty())
+                        .parallel(4, Schedulers.computation(), false)
+                        .reduce((a, b) -> a + b), equalTo(Optional.empty()));
+        assertThat(new FlowableReactiveSeq<>(Flowable.range(0, 10))
+                        .parallel(4, Schedulers.computation())
+                        .map(String::valueOf)
+                        .reduce("", (a, b) -> a + b), equalTo("0123456789"));
+    }
+
+    @Test
+    public void nativeAggregates(){
+        ReactiveSeq<Integer> seq = new FlowableReactiveSeq<>(Flowable.range(1, 100).filter(i -> i % 2 == 0));
+        assertThat(seq.count(), equalTo(50L));
+        assertThat(seq.reduce(Monoids.intSum), equalTo(2550));
+        assertThat(seq.reduce((a, b) -> a + b), equalTo(Optional.of(2550)));
+        assertThat(seq.reduce(0L, (a, b) -> a + b, (a, b) -> a + b), equalTo(2550L));
+        assertThat(seq.mapReduce(i -> i * 2, Monoids.intSum), equalTo(5100));
+        assertThat(seq.reduce(Arrays.asList(Reducers.toCountInt(), Reducers.toTotalInt())), equalTo(ListX.of(50, 2550)));
+        assertThat(seq.reduce(Stream.of(Monoids.intMax, Monoids.intMin)), equalTo(ListX.of(100, 2)));
+        assertThat(seq.collect(ArrayList::new, ArrayList::add, ArrayList::addAll).size(), equalTo(50));
+        assertThat(seq.collect(Collectors.summingInt(i -> i)), equalTo(2550));
+
+        ReactiveSeq<Integer> empty = new FlowableReactiveSeq<>(Flowable.<Integer>empty());
+        assertThat(empty.count(), equalTo(0L));
+        assertThat(empty.reduce((a, b) -> a + b), equalTo(Optional.empty()));
+        assertThat(empty.reduce(Monoids.intSum), equalTo(0));
+        assertThat(empty.reduce(Arrays.asList(Reducers.toCountInt(), Reducers.toTotalInt())), equalTo(ListX.of(0, 0)));
+    }
 }
@@ -3,6 +3,7 @@ package cyclops.streams.observables;
 import cyclops.companion.rx2.Observables;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
+import io.reactivex.Observable;
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
@@ -189,6 +190,31 @@ public class AsyncZippingTest {
 		
 		
 	}
+	@Test
+	public void zip3Fn(){
+		assertThat(of(1,2,3,4,5,6).zip3(of(100,200,300,400),of('a','b','c'),(a,b,c)->""+a+b+c).toList(),
+				equalTo(Arrays.asList("1100a","2200b","3300c")));
+	}
+	@Test
+	public void zip4Fn(){
+		assertThat(of(1,2,3,4,5,6).zip4(of(100,200,300,400),of('a','b','c'),of("hello","world"),(a,b,c,d)->""+a+b+c+d).toList(),
+				equalTo(Arrays.asList("1100ahello","2200bworld")));
+	}
+	@Test
+	public void zip4Tuples(){
+		assertThat(of(1,2).zip4(of(3,4),of(5,6),of(7,8)).toList(),
+				equalTo(Arrays.asList(new Tuple4<>(1,3,5,7),new Tuple4<>(2,4,6,8))));
+	}
+	@Test
+	public void zip3CompletesWhenIterablesExhausted(){
+		Observable<Integer> neverCompletes = Observable.just(1,2).concatWith(Observable.never());
+		assertThat(Observables.reactiveSeq(neverCompletes).zip3(asList(1,2),asList(1,2)).toList(),
+				equalTo(Arrays.asList(tuple(1,1,1),tuple(2,2,2))));
+		assertThat(Observables.reactiveSeq(neverCompletes).zip4(asList(1,2),asList(1,2),asList(1)).toList(),
+				equalTo(Arrays.asList(tuple(1,1,1,1))));
+		assertThat(Observables.reactiveSeq(Observable.<Integer>never()).zip3(asList(),asList(1)).toList(),
+				equalTo(Arrays.asList()));
+	}
 	
 	@Test
 	public void zip2of(){
@@ -0,0 +1,152 @@
+package cyclops.collections.scala;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import scala.Option;
+import scala.Tuple2;
+import scala.collection.JavaConversions;
+import scala.collection.SortedMap;
+
+/*
+ * Lazy java.util views over a Scala Map, answered by the Scala map's own lookups
+ * rather than by copying it into a new java collection on each call
+ */
+class MapViews {
+
+    static <K,V> boolean containsValue(scala.collection.Map<K,V> map, Object value){
+        Iterator<V> it = JavaConversions.asJavaIterator(map.valuesIterator());
+        while(it.hasNext()){
+            if(Objects.equals(value,it.next()))
+                return true;
+        }
+        return false;
+    }
+
+    /*
+     * A sorted map walks its keys and values with separate tree iterators, which do not allocate a
+     * Tuple2 per entry, a hash map already holds its entries as Tuple2s
+     */
+    static <K,V> void forEach(scala.collection.Map<K,V> map, BiConsumer<? super K, ? super V> action){
+        if(map instanceof SortedMap){
+            Iterator<K> keys = JavaConversions.asJavaIterator(map.keysIterator());
+            Iterator<V> values = JavaConversions.asJavaIterator(map.valuesIterator());
+            while(keys.hasNext())
+                action.accept(keys.next(),values.next());
+        }
+        else{
+            Iterator<Tuple2<K,V>> it = JavaConversions.asJavaIterator(map.iterator());
+            while(it.hasNext()){
+                Tuple2<K,V> t = it.next();
+                action.accept(t._1(),t._2());
+            }
+        }
+    }
+
+    static <K,V> int hashCode(scala.collection.Map<K,V> map){
+        int[] hash = {0};
+        forEach(map,(k,v)->hash[0]+= Objects.hashCode(k) ^ Objects.hashCode(v));
+        return hash[0];
+    }
+
+    static <K,V> Set<Map.Entry<K,V>> entrySet(scala.collection.Map<K,V> map){
+        return new AbstractSet<Map.Entry<K,V>>(){
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                if(map instanceof SortedMap){
+                    Iterator<K> keys = JavaConversions.asJavaIterator(map.keysIterator());
+                    Iterator<V> values = JavaConversions.asJavaIterator(map.valuesIterator());
+                    return new Iterator<Map.Entry<K, V>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<K, V> next() {
+                            return new SimpleImmutableEntry<>(keys.next(),values.next());
+                        }
+                    };
+                }
+                Iterator<Tuple2<K,V>> it = JavaConversions.asJavaIterator(map.iterator());
+                return new Iterator<Map.Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        Tuple2<K,V> t = it.next();
+                        return new SimpleImmutableEntry<>(t._1(),t._2());
+                    }
+                };
+            }
+
+            @Override
+            public void forEach(Consumer<? super Map.Entry<K, V>> action) {
+                MapViews.forEach(map,(k,v)->action.accept(new SimpleImmutableEntry<>(k,v)));
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry))
+                    return false;
+                Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+                Option<V> value = map.get((K)e.getKey());
+                return value.isDefined() && Objects.equals(value.get(),e.getValue());
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    static <K,V> Set<K> keySet(scala.collection.Map<K,V> map){
+        return new AbstractSet<K>(){
+            @Override
+            public Iterator<K> iterator() {
+                return JavaConversions.asJavaIterator(map.keysIterator());
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return map.contains((K)o);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    static <K,V> Collection<V> values(scala.collection.Map<K,V> map){
+        return new AbstractCollection<V>(){
+            @Override
+            public Iterator<V> iterator() {
+                return JavaConversions.asJavaIterator(map.valuesIterator());
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(map,o);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+}
@@ -5,6 +5,9 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import com.aol.cyclops.scala.collections.HasScalaCollection;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -12,6 +15,7 @@ import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPOrderedS
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.OrderedSetX;
+import cyclops.control.Eval;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
 import org.jooq.lambda.tuple.Tuple2;
@@ -24,6 +28,7 @@ import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
 import scala.collection.GenTraversableOnce;
 import scala.collection.JavaConversions;
+import scala.collection.TraversableOnce;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.BitSet;
 import scala.collection.immutable.BitSet$;
@@ -126,9 +131,22 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
      * @return Reducer for POrderedSet
      */
     public static  Reducer<POrderedSet<Integer>> toPOrderedSet() {
-        return Reducer.<POrderedSet<Integer>> of(ScalaBitSetX.emptyPOrderedSet(),
+        return BuilderReducer.of(Reducer.<POrderedSet<Integer>> of(ScalaBitSetX.emptyPOrderedSet(),
                                                  (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
-                                      (final Integer x) -> ScalaBitSetX.singleton(x));
+                                      (final Integer x) -> ScalaBitSetX.singleton(x)),
+                                 pOrderedSetCollector());
+    }
+
+    /**
+     * @return Collector that adds each element to a Scala BitSet builder
+     */
+    public static Collector<Integer, ?, POrderedSet<Integer>> pOrderedSetCollector() {
+        return Collector.<Integer, Builder<Integer, BitSet>, POrderedSet<Integer>>of(() -> (Builder)BitSet$.MODULE$.newBuilder(), Builder::$plus$eq, (a, b) -> {
+            a.$plus$plus$eq((TraversableOnce) b.result());
+            return a;
+        },
+                                                                                    b -> new ScalaBitSetX(b.result()),
+                                                                                    Collector.Characteristics.UNORDERED);
     }
     
   
@@ -185,6 +203,8 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
 
     @Wither
     private final BitSet set;
+    //bit mask words, extracted at most once per (immutable) instance for rank / select
+    private final Eval<long[]> words = Eval.later(this::toBitMask);
 
     @Override
     public ScalaBitSetX plus(Integer e) {
@@ -239,6 +259,96 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && set.contains((int)(Integer)o);
+    }
+
+    /**
+     * @param value to look up, without boxing
+     * @return true if value is a member of this set
+     */
+    public boolean contains(int value) {
+        return set.contains(value);
+    }
+
+    /**
+     * @param value to add, without boxing
+     * @return BitSet with value added
+     */
+    public ScalaBitSetX plus(int value) {
+        return withSet(set.$plus(value));
+    }
+
+    /**
+     * @return the number of values in this set, counted with Long.bitCount over the bit mask
+     */
+    public int cardinality() {
+        return set.size();
+    }
+
+    /**
+     * @param value upper bound (exclusive)
+     * @return the number of values in this set below value, whether or not value itself is present
+     */
+    public int rank(int value) {
+        return BitMasks.countBelow(words.get(), value);
+    }
+
+    /**
+     * @return the values in this set in ascending order, unboxed
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return BitMasks.iterator(words.get());
+    }
+
+    /**
+     * @return an IntStream of the values in this set in ascending order
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(Spliterators.spliterator(intIterator(), cardinality(),
+                                                                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                                                                        | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                                       false);
+    }
+
+    /**
+     * @return the values present in both this set and other
+     */
+    public ScalaBitSetX and(ScalaBitSetX other) {
+        return withSet((BitSet)set.$amp(other.set));
+    }
+
+    /**
+     * @return the values present in either this set or other
+     */
+    public ScalaBitSetX or(ScalaBitSetX other) {
+        return withSet((BitSet)set.$bar(other.set));
+    }
+
+    /**
+     * @return the values present in exactly one of this set and other
+     */
+    public ScalaBitSetX xor(ScalaBitSetX other) {
+        return withSet((BitSet)set.$up(other.set));
+    }
+
+    /**
+     * @return the values in this set that are not present in other
+     */
+    public ScalaBitSetX andNot(ScalaBitSetX other) {
+        return withSet((BitSet)set.$amp$tilde(other.set));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<Integer> iterator() {
         return (Iterator)JavaConversions.asJavaIterator(set.iterator());
@@ -246,12 +356,22 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
 
     @Override
     public Integer get(int index) {
-        return (Integer) set.toIndexedSeq().toVector().apply(index);
+        int value = BitMasks.select(words.get(), index);
+        if (value < 0)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + index + " is out of bounds - size : " + size());
+        return value;
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toIndexedSeq().toVector().indexOf(o);
+        if (!(o instanceof Integer))
+            return -1;
+        return BitMasks.rank(words.get(), (Integer)o);
+    }
+
+    private long[] toBitMask() {
+        return set.toBitMask();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package cyclops.collections.scala;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 
 import com.aol.cyclops.scala.collections.HasScalaCollection;
@@ -20,7 +21,6 @@ import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
 import scala.Tuple2;
 import scala.collection.GenTraversableOnce;
-import scala.collection.JavaConverters;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.HashMap;
 import scala.collection.immutable.HashMap$;
@@ -111,9 +111,7 @@ public class ScalaHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
     }
     @Override
     public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return ReactiveSeq.fromIterable(JavaConverters.asJavaIterable(map))
-                        .map(t->(java.util.Map.Entry<K,V>)new SimpleEntry<K,V>(t._1,t._2))
-                        .toSet();
+        return MapViews.entrySet(map);
     }
     @Override
     public GenTraversableOnce traversable() {
@@ -130,6 +128,46 @@ public class ScalaHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
     public V get(Object key) {
         return map.apply((K)key);
     }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.contains((K)key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return MapViews.containsValue(map,value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return MapViews.keySet(map);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return MapViews.values(map);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        MapViews.forEach(map,action);
+    }
+
+    @Override
+    public int hashCode() {
+        return MapViews.hashCode(map);
+    }
    
    
    
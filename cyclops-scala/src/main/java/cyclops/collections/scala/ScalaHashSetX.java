@@ -6,6 +6,7 @@ import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.Collector;
 
 import com.aol.cyclops.scala.collections.HasScalaCollection;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -153,8 +154,20 @@ public class ScalaHashSetX<T> extends AbstractSet<T>implements PSet<T>, HasScala
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(ScalaHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(ScalaHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaHashSetX.singleton(x)),
+                                 pSetCollector());
+    }
+
+    /**
+     * @return Collector that adds each element to a Scala HashSet builder
+     */
+    public static <T> Collector<T, ?, PSet<T>> pSetCollector() {
+        return Collector.<T, Builder<T, HashSet>, PSet<T>>of(() -> HashSet$.MODULE$.newBuilder(), Builder::$plus$eq, (a, b) -> {
+            a.$plus$plus$eq(b.result());
+            return a;
+        }, b -> new ScalaHashSetX<>(b.result()),
+                                                               Collector.Characteristics.UNORDERED);
     }
     public static <T> LazyPSetX<T> lazySet(HashSet<T> set){
         return fromPSet(fromSet(set), toPSet());
@@ -259,6 +272,20 @@ public class ScalaHashSetX<T> extends AbstractSet<T>implements PSet<T>, HasScala
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T)o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return JavaConversions.asJavaIterator(set.iterator());
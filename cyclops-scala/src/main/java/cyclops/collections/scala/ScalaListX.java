@@ -1,13 +1,19 @@
 package cyclops.collections.scala;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.scala.collections.HasScalaCollection;
@@ -31,6 +37,7 @@ import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.Wither;
 import scala.collection.GenTraversableOnce;
+import scala.collection.JavaConversions;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.List;
 import scala.collection.immutable.List$;
@@ -40,7 +47,7 @@ import scala.collection.mutable.Builder;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScalaCollection<T>, Unwrapable {
 
-    static final FoldToList gen = (it, i)-> ScalaListX.from(from(it,i));
+    static final FoldToList gen = (it, i)-> ScalaListX.from(from(it));
     public static <T> LinkedListX<T> listX(ReactiveSeq<T> stream){
         return fromStream(stream);
     }
@@ -162,8 +169,27 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ScalaListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaListX.singleton(x));
+        return BuilderReducer.of(Reducer.<PStack<T>> of(ScalaListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaListX.singleton(x)),
+                                 pStackCollector());
+    }
+
+    /**
+     * Collector with the same semantics as {@link #toPStack()}, each element is prepended in turn.
+     * Elements are buffered and the Scala list built once they have all been collected.
+     *
+     * @return Collector for PStack
+     */
+    public static <T> Collector<T, ?, PStack<T>> pStackCollector() {
+        return Collector.<T, ArrayList<T>, PStack<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            List<T> list = List$.MODULE$.empty();
+            for (T next : buffer)
+                list = list.$colon$colon(next);
+            return new ScalaListX<>(list);
+        });
     }
 
     public static <T> ScalaListX<T> fromList(List<T> list) {
@@ -394,6 +420,36 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
         return list.apply(index);
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return JavaConversions.asJavaIterator(list.iterator());
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return LinearLists.listIterator(this, index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinearLists.indexOf(this, o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinearLists.lastIndexOf(this, o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinearLists.equals(this, o);
+    }
+
     @Override
     public int size() {
         return list.size();
@@ -414,15 +470,15 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
        return List.canBuildFrom();
     }
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
-        List<T> list = from(vec.iterator(),0);
+        List<T> list = from(vec.iterator());
         return fromPStack(fromList(list),toPStack());
 
     }
-    private static <E> List<E> from(final Iterator<E> i, int depth) {
+    private static <E> List<E> from(final Iterator<E> i) {
 
-        if(!i.hasNext())
-            return List$.MODULE$.empty();
-        E e = i.next();
-        return  from(i,depth++).$colon$colon(e);
+        Builder<E, List<E>> lb = List$.MODULE$.newBuilder();
+        while (i.hasNext())
+            lb.$plus$eq(i.next());
+        return lb.result();
     }
 }
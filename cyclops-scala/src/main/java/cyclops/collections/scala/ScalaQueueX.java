@@ -6,6 +6,7 @@ import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.Collector;
 
 import com.aol.cyclops.scala.collections.HasScalaCollection;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -159,8 +160,19 @@ public class ScalaQueueX<T> extends AbstractQueue<T> implements PQueue<T>, HasSc
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(ScalaQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaQueueX.singleton(x));
+        return BuilderReducer.of(Reducer.<PQueue<T>> of(ScalaQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaQueueX.singleton(x)),
+                                 pQueueCollector());
+    }
+
+    /**
+     * @return Collector that appends each element to a Scala Queue builder
+     */
+    public static <T> Collector<T, ?, PQueue<T>> pQueueCollector() {
+        return Collector.<T, Builder<T, Queue<T>>, PQueue<T>>of(() -> Queue$.MODULE$.newBuilder(), Builder::$plus$eq, (a, b) -> {
+            a.$plus$plus$eq(b.result());
+            return a;
+        }, b -> new ScalaQueueX<>(b.result()));
     }
 
     public static <T> ScalaQueueX<T> fromQueue(Queue<T> queue) {
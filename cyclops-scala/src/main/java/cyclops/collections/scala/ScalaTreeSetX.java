@@ -11,6 +11,7 @@ import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.scala.collections.Converters;
@@ -168,14 +169,29 @@ public class ScalaTreeSetX<T> extends AbstractSet<T> implements POrderedSet<T>,
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>>  Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaTreeSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaTreeSetX.singleton(x)),
+                                 pOrderedSetCollector(Comparator.<T>naturalOrder()));
     }
     
     public static <T>  Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(ordering),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(ordering),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaTreeSetX.singleton(ordering,x));
+                                      (final T x) -> ScalaTreeSetX.singleton(ordering,x)),
+                                 pOrderedSetCollector(ordering));
+    }
+
+    /**
+     * @param ordering Comparator for the TreeSet
+     * @return Collector that adds each element to a Scala TreeSet builder
+     */
+    public static <T> Collector<T, ?, POrderedSet<T>> pOrderedSetCollector(Comparator<T> ordering) {
+        return Collector.<T, Builder<T, TreeSet<T>>, POrderedSet<T>>of(() -> TreeSet$.MODULE$.newBuilder(Converters.<T>ordering(ordering)), Builder::$plus$eq, (a, b) -> {
+            a.$plus$plus$eq(b.result());
+            return a;
+        },
+                                                                      b -> new ScalaTreeSetX<>(b.result()),
+                                                                      Collector.Characteristics.UNORDERED);
     }
 
     public static <T> ScalaTreeSetX<T> fromSet(TreeSet<T> set) {
@@ -299,6 +315,20 @@ public class ScalaTreeSetX<T> extends AbstractSet<T> implements POrderedSet<T>,
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T)o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return JavaConversions.asJavaIterator(set.iterator());
@@ -306,12 +336,18 @@ public class ScalaTreeSetX<T> extends AbstractSet<T> implements POrderedSet<T>,
 
     @Override
     public T get(int index) {
-        return set.toIndexedSeq().toVector().apply(index);
+        if (index < 0 || index >= set.size())
+            throw new IndexOutOfBoundsException(
+                                                "Index " + index + " is out of bounds - size : " + set.size());
+        //the red black tree tracks subtree sizes, so drop(index) is a log(n) walk
+        return set.drop(index).head();
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toIndexedSeq().toVector().indexOf(o);
+        if (!contains(o))
+            return -1;
+        return set.until((T)o).size();
     }
 
     @Override
@@ -8,6 +8,7 @@ import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.scala.collections.HasScalaCollection;
@@ -28,6 +29,7 @@ import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.Wither;
 import scala.collection.GenTraversableOnce;
+import scala.collection.JavaConversions;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.Vector;
 import scala.collection.immutable.Vector$;
@@ -155,7 +157,45 @@ public class ScalaVectorX<T> extends AbstractList<T> implements PVector<T>, HasS
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(ScalaVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ScalaVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(ScalaVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ScalaVectorX.singleton(x)),
+                                 pVectorCollector());
+    }
+
+    /**
+     * Each chunk of a parallel Stream is appended to its own Scala VectorBuilder, partial results are
+     * joined with Vector ++ which prepends or appends the smaller side
+     *
+     * @return Collector that appends each element to a Scala VectorBuilder
+     */
+    public static <T> Collector<T, ?, PVector<T>> pVectorCollector() {
+        return Collector.<T, Chunk<T>, PVector<T>>of(Chunk::new, Chunk::add, Chunk::join, c -> new ScalaVectorX<>(c.result()));
+    }
+
+    private static <T> Vector<T> concat(Vector<T> a, GenTraversableOnce<T> b){
+        final CanBuildFrom<Vector<T>, T, Vector<T>> builder = (CanBuildFrom)Vector.<T>canBuildFrom();
+        return a.$plus$plus(b, builder);
+    }
+
+    /*
+     * Chunk-local state for pVectorCollector, elements are added to a VectorBuilder and completed
+     * chunks are concatenated as Vectors
+     */
+    private static final class Chunk<T> {
+        private VectorBuilder<T> builder = new VectorBuilder<>();
+        private Vector<T> joined = Vector$.MODULE$.empty();
+
+        void add(T next){
+            builder.$plus$eq(next);
+        }
+        Vector<T> result(){
+            Vector<T> chunk = builder.result();
+            return joined.isEmpty() ? chunk : concat(joined, chunk);
+        }
+        Chunk<T> join(Chunk<T> next){
+            joined = concat(result(), next.result());
+            builder = new VectorBuilder<>();
+            return this;
+        }
     }
     
     public static <T> VectorBuilder<T> builder(){
@@ -206,23 +246,13 @@ public class ScalaVectorX<T> extends AbstractList<T> implements PVector<T>, HasS
 
     @Override
     public ScalaVectorX<T> plusAll(Collection<? extends T> list) {
-        Vector<T> vec = vector;
+        if(list.isEmpty())
+            return this;
         if(list instanceof ScalaVectorX){
-            final CanBuildFrom<Vector<?>, T, Vector<T>> builder =
-                    Vector.<T>canBuildFrom();
-            final CanBuildFrom<Vector<T>, T, Vector<T>> builder2 = (CanBuildFrom)builder;
             Vector<T> toUse = ((ScalaVectorX)list).vector;
-            vec = vec.$plus$plus(toUse, builder2);
+            return withVector(concat(vector, toUse));
         }
-        else {
-            for(T next :  list){
-                vec = vec.appendBack(next);
-            }
-        }
-        
-        
-        
-        return withVector(vec);
+        return withVector(concat(vector, JavaConversions.collectionAsScalaIterable((Collection<T>)list)));
      }
  
 
@@ -0,0 +1,26 @@
+package com.aol.cyclops.scala.collections;
+
+import cyclops.collections.AbstractLinkedListBuildTest;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import cyclops.collections.scala.ScalaListX;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.pcollections.PStack;
+
+public class LinkedListBuildTest extends AbstractLinkedListBuildTest {
+    @Override
+    public LinkedListX<Integer> copyFromCollection(ListX<Integer> values) {
+        return ScalaListX.copyFromCollection(values);
+    }
+
+    @Override
+    public LinkedListX<Integer> fromStream(ReactiveSeq<Integer> values) {
+        return ScalaListX.fromStream(values);
+    }
+
+    @Override
+    public Reducer<PStack<Integer>> toPStack() {
+        return ScalaListX.toPStack();
+    }
+}
@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import cyclops.collections.scala.ScalaQueueX;
 import org.junit.Before;
@@ -60,5 +63,10 @@ public class PQueueTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray(),
                    equalTo(test.plusAll(ScalaQueueX.of(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray()));
     }
-   
+    @Test
+    public void pQueueCollector(){
+        PQueue<Integer> queue = IntStream.range(0, 10_000).boxed().parallel()
+                                         .collect(ScalaQueueX.pQueueCollector());
+        assertThat(new ArrayList<>(queue),equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+    }
 }
@@ -4,6 +4,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import cyclops.collections.scala.ScalaHashSetX;
 import org.junit.Before;
@@ -55,5 +57,10 @@ public class PSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)),
                    equalTo(test.plusAll(ScalaHashSetX.of(1,2,3)).plusAll(Arrays.asList(5,6,7))));
     }
-   
+    @Test
+    public void pSetCollector(){
+        PSet<Integer> set = IntStream.range(0, 10_000).boxed().parallel()
+                                     .collect(ScalaHashSetX.pSetCollector());
+        assertThat(set,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toSet())));
+    }
 }
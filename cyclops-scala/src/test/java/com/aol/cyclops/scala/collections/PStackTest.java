@@ -1,15 +1,24 @@
 package com.aol.cyclops.scala.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import cyclops.collections.scala.ScalaListX;
 import org.junit.Before;
+import java.util.stream.IntStream;
 import org.junit.Test;
 import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
+
 public class PStackTest {
 
     ConsPStack<Integer> org = null;
@@ -144,4 +153,56 @@ public class PStackTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+
+    @Test
+    public void iterate(){
+        PStack<Integer> list = ScalaListX.<Integer>emptyPStack().plusAll(Arrays.asList(1,2,3,2));
+        PStack<Integer> expected = org.plusAll(Arrays.asList(1,2,3,2));
+        List<Integer> result = new ArrayList<>();
+        list.iterator().forEachRemaining(result::add);
+        assertThat(result,equalTo(expected));
+        assertThat(list,equalTo(expected));
+        assertThat(expected,equalTo(list));
+        assertThat(list.hashCode(),equalTo(expected.hashCode()));
+        assertThat(list.indexOf(2),equalTo(0));
+        assertThat(list.lastIndexOf(2),equalTo(2));
+        assertThat(list.indexOf(10),equalTo(-1));
+        assertFalse(list.equals(org.plusAll(Arrays.asList(1,2,3))));
+    }
+    @Test
+    public void listIterator(){
+        PStack<Integer> list = ScalaListX.<Integer>emptyPStack().plusAll(Arrays.asList(1,2,3));
+        ListIterator<Integer> it = list.listIterator(1);
+        assertThat(it.next(),equalTo(2));
+        assertThat(it.next(),equalTo(1));
+        assertFalse(it.hasNext());
+        assertThat(it.previous(),equalTo(1));
+        assertThat(it.previousIndex(),equalTo(1));
+    }
+    @Test
+    public void spliterator(){
+        PStack<Integer> list = ScalaListX.<Integer>emptyPStack().plusAll(Arrays.asList(1,2,3));
+        Spliterator<Integer> split = list.spliterator();
+        assertThat(split.getExactSizeIfKnown(),equalTo(3l));
+        assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE));
+        assertThat(list.stream().collect(Collectors.toList()),equalTo(Arrays.asList(3,2,1)));
+    }
+    @Test
+    public void iterateLarge(){
+        PStack<Integer> list = ScalaListX.<Integer>emptyPStack();
+        for(int i=0;i<100_000;i++)
+            list = list.plus(i);
+        assertThat(list.stream().count(),equalTo(100_000l));
+        assertThat(list.indexOf(0),equalTo(99_999));
+        long[] sum = {0};
+        list.forEach(i->sum[0]+=i);
+        assertThat(sum[0],equalTo(4_999_950_000l));
+    }
+    @Test
+    public void pStackCollector(){
+        PStack<Integer> stack = IntStream.range(0, 10_000).boxed().parallel()
+                                         .collect(ScalaListX.pStackCollector());
+        assertThat(stack,equalTo(ScalaListX.<Integer>toPStack().mapReduce(IntStream.range(0, 10_000).boxed())));
+        assertThat(stack.get(0),equalTo(9_999));
+    }
 }
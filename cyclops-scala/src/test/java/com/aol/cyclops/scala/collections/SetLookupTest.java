@@ -0,0 +1,26 @@
+package com.aol.cyclops.scala.collections;
+
+import cyclops.collections.AbstractSetLookupTest;
+import cyclops.collections.scala.ScalaBitSetX;
+import cyclops.collections.scala.ScalaHashSetX;
+import cyclops.collections.scala.ScalaTreeSetX;
+
+import java.util.List;
+import java.util.Set;
+
+public class SetLookupTest extends AbstractSetLookupTest {
+    @Override
+    public Set<Key> hashSet(List<Key> keys) {
+        return ScalaHashSetX.<Key>empty().plusAll(keys);
+    }
+
+    @Override
+    public Set<Key> sortedSet(List<Key> keys) {
+        return ScalaTreeSetX.<Key>empty().plusAll(keys);
+    }
+
+    @Override
+    public Set<Integer> bitSet(List<Integer> values) {
+        return ScalaBitSetX.empty().plusAll(values);
+    }
+}
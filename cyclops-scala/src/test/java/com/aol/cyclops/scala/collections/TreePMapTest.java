@@ -1,9 +1,17 @@
 package com.aol.cyclops.scala.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Comparator;
 
 import cyclops.collections.immutable.PersistentMapX;
@@ -11,6 +19,7 @@ import cyclops.collections.scala.ScalaTreeMapX;
 import cyclops.companion.MapXs;
 import org.junit.Before;
 import org.junit.Test;
+import org.pcollections.PMap;
 
 
 
@@ -46,4 +55,38 @@ public class TreePMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+
+    @Test
+    public void views(){
+        PersistentMapX<Integer,String> map = test.plus(2,"world");
+        PersistentMapX<Integer,String> expected = org.plus(2,"world");
+        assertThat(map.size(),equalTo(2));
+        assertFalse(map.isEmpty());
+        assertTrue(test.minus(1).isEmpty());
+        assertTrue(map.containsKey(2));
+        assertFalse(map.containsKey(3));
+        assertTrue(map.containsValue("world"));
+        assertFalse(map.containsValue("other"));
+        assertThat(map.keySet(),equalTo(expected.keySet()));
+        assertTrue(map.keySet().contains(1));
+        assertThat(new ArrayList<>(map.values()),hasItems("hello","world"));
+        assertTrue(map.values().contains("hello"));
+        assertThat(map.entrySet(),equalTo(expected.entrySet()));
+        assertTrue(map.entrySet().contains(new AbstractMap.SimpleEntry<>(2,"world")));
+        assertFalse(map.entrySet().contains(new AbstractMap.SimpleEntry<>(2,"hello")));
+        assertThat(map,equalTo(expected));
+        assertThat(map.hashCode(),equalTo(expected.hashCode()));
+    }
+    @Test
+    public void forEach(){
+        PMap<Integer,String> map = ScalaTreeMapX.singletonPMap(Comparator.<Integer>naturalOrder(),1,"hello").plus(2,"world").plus(3,"!");
+        Map<Integer,String> visited = new LinkedHashMap<>();
+        map.forEach(visited::put);
+        assertThat(visited,equalTo(org.plus(2,"world").plus(3,"!")));
+        assertThat(new ArrayList<>(visited.keySet()),equalTo(new ArrayList<>(map.keySet())));
+        List<Map.Entry<Integer,String>> entries = new ArrayList<>();
+        map.entrySet().forEach(entries::add);
+        assertThat(entries,equalTo(new ArrayList<>(map.entrySet())));
+        assertThat(map.hashCode(),equalTo(org.plus(2,"world").plus(3,"!").hashCode()));
+    }
 }
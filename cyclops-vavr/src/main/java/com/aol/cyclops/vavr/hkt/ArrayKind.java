@@ -13,11 +13,10 @@ import io.vavr.Lazy;
 import io.vavr.collection.Array;
 import io.vavr.collection.List;
 import io.vavr.collection.Queue;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.experimental.Delegate;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Simulates Higher Kinded Types for Array's
@@ -28,7 +27,6 @@ import java.util.function.Function;
  *
  * @param <T> Data type stored within the Array
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public  class ArrayKind<T> implements Higher<array, T>{
 
     public static <T> Higher<array,T> widenK(final Array<T> completableList) {
@@ -46,7 +44,7 @@ public  class ArrayKind<T> implements Higher<array, T>{
         return Nested.of(lk, Arrays.Instances.definitions(), defs);
     }
     public <R> ArrayKind<R> fold(Function<? super Array<? super T>,? extends Array<R>> op){
-        return widen(op.apply(boxed));
+        return widen(op.apply(narrow()));
     }
     public static <T> ArrayKind<T> of(T element) {
         return  widen(Array.of(element));
@@ -102,21 +100,60 @@ public  class ArrayKind<T> implements Higher<array, T>{
        
     }
 
+    private final Array<?> source;
+    private final Fused steps;
+    private volatile Array<T> boxed;
+
+    private ArrayKind(Array<T> boxed) {
+        this.source = boxed;
+        this.steps = null;
+        this.boxed = boxed;
+    }
+
+    private ArrayKind(Array<?> source, Fused steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * @return ArrayKind with fn pending until {@link #narrow()}
+     */
+    public <R> ArrayKind<R> fusedMap(Function<? super T, ? extends R> fn) {
+        return new ArrayKind<>(source, Fused.map(steps, fn));
+    }
+
+    /**
+     * @return ArrayKind with predicate pending until {@link #narrow()}
+     */
+    public ArrayKind<T> fusedFilter(Predicate<? super T> predicate) {
+        return new ArrayKind<>(source, Fused.filter(steps, predicate));
+    }
+
     @Delegate
-    private final Array<T> boxed;
+    private Array<T> boxed() {
+        return narrow();
+    }
 
     /**
-     * @return This back as a ArrayX
+     * @return This back as a ArrayX, with any pending map / filter steps applied in a single pass
      */
     public Array<T> narrow() {
-        return (Array) (boxed);
+        Array<T> result = boxed;
+        if (result == null) {
+            synchronized (this) {
+                result = boxed;
+                if (result == null)
+                    boxed = result = steps.filters ? Array.ofAll(steps.<T>apply(source)) : (Array) source.map(steps.fn());
+            }
+        }
+        return result;
     }
     /* (non-Javadoc)
      * @see java.lang.Object#hashCode()
      */
     @Override
     public int hashCode() {
-        return boxed.hashCode();
+        return narrow().hashCode();
     }
 
 
@@ -125,7 +162,7 @@ public  class ArrayKind<T> implements Higher<array, T>{
      */
     @Override
     public boolean equals(Object obj) {
-        return boxed.equals(obj);
+        return narrow().equals(obj);
     }
 
 
@@ -134,7 +171,7 @@ public  class ArrayKind<T> implements Higher<array, T>{
      */
     @Override
     public String toString() {
-        return "ArrayKind [" + boxed + "]";
+        return "ArrayKind [" + narrow() + "]";
     }
 
 
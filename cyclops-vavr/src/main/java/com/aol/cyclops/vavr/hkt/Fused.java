@@ -0,0 +1,101 @@
+package com.aol.cyclops.vavr.hkt;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Map and filter steps recorded against a Kind rather than applied eagerly, so a chain of type class
+ * map / filter calls is applied in one pass over the source collection (building one result collection)
+ * when the Kind is narrowed.
+ *
+ * Each recorded step links to the previous one. When the steps are applied the chain is copied into an
+ * array once and every element runs through the array in a single loop, so the number of steps is not
+ * limited by the stack depth.
+ *
+ * Because the steps run on narrow, exceptions and side effects from the recorded functions surface when
+ * the Kind is first narrowed (including via equals, hashCode, toString or a delegated method) rather than
+ * when map / filter is called.
+ *
+ * ListKind, VectorKind, QueueKind and ArrayKind record their steps here.
+ */
+final class Fused {
+
+    static final Object FILTERED = new Object();
+
+    private final Fused previous;
+    private final Object step;
+    private final boolean isFilter;
+    private final int size;
+    final boolean filters;
+
+    private Fused(Fused previous, Object step, boolean isFilter) {
+        this.previous = previous;
+        this.step = step;
+        this.isFilter = isFilter;
+        this.size = previous == null ? 1 : previous.size + 1;
+        this.filters = isFilter || (previous != null && previous.filters);
+    }
+
+    static Fused map(Fused steps, Function<?, ?> mapper) {
+        return new Fused(steps, mapper, false);
+    }
+
+    static Fused filter(Fused steps, Predicate<?> predicate) {
+        return new Fused(steps, predicate, true);
+    }
+
+    /**
+     * @return Function applying every step in order, returning {@link #FILTERED} if a filter step rejects
+     * the element
+     */
+    Function<Object, Object> fn() {
+        Object[] fns = new Object[size];
+        boolean[] tests = new boolean[size];
+        Fused next = this;
+        for (int i = size - 1; i >= 0; i--) {
+            fns[i] = next.step;
+            tests[i] = next.isFilter;
+            next = next.previous;
+        }
+        return in -> {
+            Object value = in;
+            for (int i = 0; i < fns.length; i++) {
+                if (!tests[i])
+                    value = ((Function<Object, Object>) fns[i]).apply(value);
+                else if (!((Predicate<Object>) fns[i]).test(value))
+                    return FILTERED;
+            }
+            return value;
+        };
+    }
+
+    /**
+     * @param source Collection the steps were recorded against
+     * @return Single pass over source with every step applied and filtered elements skipped
+     */
+    <R> Iterable<R> apply(Iterable<?> source) {
+        Function<Object, Object> fn = fn();
+        return () -> new Iterator<R>() {
+            final Iterator<?> it = source.iterator();
+            Object next = FILTERED;
+
+            @Override
+            public boolean hasNext() {
+                while (next == FILTERED && it.hasNext())
+                    next = fn.apply(it.next());
+                return next != FILTERED;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                Object result = next;
+                next = FILTERED;
+                return (R) result;
+            }
+        };
+    }
+}
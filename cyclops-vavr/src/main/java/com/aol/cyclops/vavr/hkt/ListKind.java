@@ -22,10 +22,9 @@ import org.reactivestreams.Subscriber;
 
 
 
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Simulates Higher Kinded Types for Vavr List's
@@ -136,26 +135,68 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
 
     }
     public List<T> narrow();
+
+    /**
+     * @return ListKind with fn pending until {@link #narrow()}
+     */
+    <R> ListKind<R> fusedMap(Function<? super T, ? extends R> fn);
+
+    /**
+     * @return ListKind with predicate pending until {@link #narrow()}
+     */
+    ListKind<T> fusedFilter(Predicate<? super T> predicate);
+
     public ReactiveSeq<T> toReactiveSeq();
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     static final class Box<T> implements ListKind<T> {
 
-        private final List<T> boxed;
+        private final List<?> source;
+        private final Fused steps;
+        private volatile List<T> boxed;
+
+        private Box(List<T> boxed) {
+            this.source = boxed;
+            this.steps = null;
+            this.boxed = boxed;
+        }
+
+        private Box(List<?> source, Fused steps) {
+            this.source = source;
+            this.steps = steps;
+        }
+
+        @Override
+        public <R> ListKind<R> fusedMap(Function<? super T, ? extends R> fn) {
+            return new Box<>(source, Fused.map(steps, fn));
+        }
+
+        @Override
+        public ListKind<T> fusedFilter(Predicate<? super T> predicate) {
+            return new Box<>(source, Fused.filter(steps, predicate));
+        }
+
         public ReactiveSeq<T> toReactiveSeq(){
-            return ReactiveSeq.fromIterable(boxed);
+            return ReactiveSeq.fromIterable(narrow());
         }
 
         /**
-         * @return wrapped List
+         * @return wrapped List, with any pending map / filter steps applied in a single pass
          */
         public List<T> narrow() {
-            return boxed;
+            List<T> result = boxed;
+            if (result == null) {
+                synchronized (this) {
+                    result = boxed;
+                    if (result == null)
+                        boxed = result = steps.filters ? List.ofAll(steps.<T>apply(source)) : (List) source.map(steps.fn());
+                }
+            }
+            return result;
         }
 
         @Override
         public void subscribe(Subscriber<? super T> s) {
-            ReactiveSeq.fromIterable(boxed)
+            ReactiveSeq.fromIterable(narrow())
                     .subscribe(s);
 
         }
@@ -164,7 +205,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.collection.Traversable#head()
          */
         public T head() {
-            return boxed.head();
+            return narrow().head();
         }
 
 
@@ -174,7 +215,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.Value#equals(java.lang.Object)
          */
         public boolean equals(Object o) {
-            return boxed.equals(o);
+            return narrow().equals(o);
         }
 
 
@@ -184,7 +225,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.Value#hashCode()
          */
         public int hashCode() {
-            return boxed.hashCode();
+            return narrow().hashCode();
         }
 
 
@@ -193,7 +234,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.Value#toString()
          */
         public String toString() {
-            return boxed.toString();
+            return narrow().toString();
         }
 
 
@@ -204,7 +245,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.collection.List#tail()
          */
         public List<T> tail() {
-            return boxed.tail();
+            return narrow().tail();
         }
 
         /**
@@ -212,7 +253,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.collection.Traversable#isEmpty()
          */
         public boolean isEmpty() {
-            return boxed.isEmpty();
+            return narrow().isEmpty();
         }
 
         /**
@@ -220,7 +261,7 @@ public interface ListKind<T> extends Higher<list, T>, Publisher<T>, List<T> {
          * @see io.vavr.collection.List#length()
          */
         public int length() {
-            return boxed.length();
+            return narrow().length();
         }
     }
 }
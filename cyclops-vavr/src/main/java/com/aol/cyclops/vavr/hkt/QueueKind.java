@@ -29,8 +29,6 @@ import cyclops.typeclasses.Nested;
 import io.vavr.collection.Array;
 import io.vavr.collection.LinearSeq;
 import io.vavr.collection.Queue;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.experimental.Delegate;
 
 /**
@@ -42,7 +40,6 @@ import lombok.experimental.Delegate;
  *
  * @param <T> Data type stored within the Queue
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public  class QueueKind<T> implements Higher<queue, T> {
 
     public static <T> Higher<queue,T> widenK(final Queue<T> completableList) {
@@ -55,10 +52,10 @@ public  class QueueKind<T> implements Higher<queue, T> {
     }
 
     public <W2,R> Nested<queue,W2,R> mapM(Function<? super T,? extends Higher<W2,R>> fn, InstanceDefinitions<W2> defs){
-        return Queues.mapM(boxed,fn,defs);
+        return Queues.mapM(narrow(),fn,defs);
     }
     public <R> QueueKind<R> fold(Function<? super Queue<? super T>,? extends Queue<R>> op){
-        return widen(op.apply(boxed));
+        return widen(op.apply(narrow()));
     }
 
     public static <T> QueueKind<T> of(T element) {
@@ -115,21 +112,61 @@ public  class QueueKind<T> implements Higher<queue, T> {
        
     }
 
+    private final Queue<?> source;
+    private final Fused steps;
+    private volatile Queue<T> boxed;
+
+    private QueueKind(Queue<T> boxed) {
+        this.source = boxed;
+        this.steps = null;
+        this.boxed = boxed;
+    }
+
+    private QueueKind(Queue<?> source, Fused steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * @return QueueKind with fn pending until {@link #narrow()}
+     */
+    public <R> QueueKind<R> fusedMap(Function<? super T, ? extends R> fn) {
+        return new QueueKind<>(source, Fused.map(steps, fn));
+    }
+
+    /**
+     * @return QueueKind with predicate pending until {@link #narrow()}
+     */
+    public QueueKind<T> fusedFilter(Predicate<? super T> predicate) {
+        return new QueueKind<>(source, Fused.filter(steps, predicate));
+    }
+
     @Delegate
-    private final Queue<T> boxed;
+    private Queue<T> boxed() {
+        return narrow();
+    }
 
     /**
-     * @return This back as a QueueX
+     * @return This back as a QueueX, with any pending map / filter steps applied in a single pass
      */
     public Queue<T> narrow() {
-        return (Queue) (boxed);
+        Queue<T> result = boxed;
+        if (result == null) {
+            synchronized (this) {
+                result = boxed;
+                if (result == null)
+                    boxed = result = steps.filters ? Queue.ofAll(io.vavr.collection.List.ofAll(steps.<T>apply(source))) //single pass, Queue wraps the List
+                                                   : (Queue) source.map(steps.fn());
+            }
+        }
+        return result;
     }
     /* (non-Javadoc)
      * @see java.lang.Object#hashCode()
      */
     @Override
     public int hashCode() {
-        return boxed.hashCode();
+        return narrow().hashCode();
     }
 
 
@@ -138,7 +175,7 @@ public  class QueueKind<T> implements Higher<queue, T> {
      */
     @Override
     public boolean equals(Object obj) {
-        return boxed.equals(obj);
+        return narrow().equals(obj);
     }
 
 
@@ -147,7 +184,7 @@ public  class QueueKind<T> implements Higher<queue, T> {
      */
     @Override
     public String toString() {
-        return "QueueKind [" + boxed + "]";
+        return "QueueKind [" + narrow() + "]";
     }
 
       
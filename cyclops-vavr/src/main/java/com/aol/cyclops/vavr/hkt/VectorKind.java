@@ -32,8 +32,6 @@ import cyclops.typeclasses.InstanceDefinitions;
 import cyclops.typeclasses.Nested;
 import io.vavr.collection.Array;
 import io.vavr.collection.Vector;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.experimental.Delegate;
 
 /**
@@ -45,7 +43,6 @@ import lombok.experimental.Delegate;
  *
  * @param <T> Data type stored within the Vector
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public  class VectorKind<T> implements Higher<vector, T>{
 
     public static <T> Higher<vector,T> widenK(final Vector<T> completableList) {
@@ -58,13 +55,13 @@ public  class VectorKind<T> implements Higher<vector, T>{
     }
 
     public <W2,R> Nested<vector,W2,R> mapM(Function<? super T,? extends Higher<W2,R>> fn, InstanceDefinitions<W2> defs){
-        return Vectors.mapM(boxed,fn,defs);
+        return Vectors.mapM(narrow(),fn,defs);
     }
     public <R> VectorKind<R> fold(Function<? super Vector<? super T>,? extends Vector<R>> op){
-        return widen(op.apply(boxed));
+        return widen(op.apply(narrow()));
     }
     public <W extends WitnessType<W>> ListT<W, T> liftM(W witness) {
-        return ListT.of(witness.adapter().unit(VavrVectorX.from(boxed)));
+        return ListT.of(witness.adapter().unit(VavrVectorX.from(narrow())));
     }
     public static <T> VectorKind<T> of(T element) {
         return  widen(Vector.of(element));
@@ -121,14 +118,53 @@ public  class VectorKind<T> implements Higher<vector, T>{
     }
 
 
+    private final Vector<?> source;
+    private final Fused steps;
+    private volatile Vector<T> boxed;
+
+    private VectorKind(Vector<T> boxed) {
+        this.source = boxed;
+        this.steps = null;
+        this.boxed = boxed;
+    }
+
+    private VectorKind(Vector<?> source, Fused steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * @return VectorKind with fn pending until {@link #narrow()}
+     */
+    public <R> VectorKind<R> fusedMap(Function<? super T, ? extends R> fn) {
+        return new VectorKind<>(source, Fused.map(steps, fn));
+    }
+
+    /**
+     * @return VectorKind with predicate pending until {@link #narrow()}
+     */
+    public VectorKind<T> fusedFilter(Predicate<? super T> predicate) {
+        return new VectorKind<>(source, Fused.filter(steps, predicate));
+    }
+
     @Delegate
-    private final Vector<T> boxed;
+    private Vector<T> boxed() {
+        return narrow();
+    }
 
     /**
-     * @return This back as a VectorX
+     * @return This back as a VectorX, with any pending map / filter steps applied in a single pass
      */
     public Vector<T> narrow() {
-        return (Vector) (boxed);
+        Vector<T> result = boxed;
+        if (result == null) {
+            synchronized (this) {
+                result = boxed;
+                if (result == null)
+                    boxed = result = steps.filters ? Vector.ofAll(steps.<T>apply(source)) : (Vector) source.map(steps.fn());
+            }
+        }
+        return result;
     }
 
 
@@ -137,7 +173,7 @@ public  class VectorKind<T> implements Higher<vector, T>{
      */
     @Override
     public int hashCode() {
-        return boxed.hashCode();
+        return narrow().hashCode();
     }
 
 
@@ -146,7 +182,7 @@ public  class VectorKind<T> implements Higher<vector, T>{
      */
     @Override
     public boolean equals(Object obj) {
-        return boxed.equals(obj);
+        return narrow().equals(obj);
     }
 
 
@@ -155,7 +191,7 @@ public  class VectorKind<T> implements Higher<vector, T>{
      */
     @Override
     public String toString() {
-        return "VectorKind [" + boxed + "]";
+        return "VectorKind [" + narrow() + "]";
     }
 
 
@@ -0,0 +1,136 @@
+package cyclops.collections.vavr;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/*
+ * Rank / select over the 64 bit words of a bit set, one Long.bitCount per word
+ * rather than walking the set bit by bit, plus the word-wise and / or / xor / andNot
+ * VavrBitSetX needs because Vavr's BitSet keeps its words package private.
+ * cyclops-vavr depends only on cyclops-react and Vavr, so it keeps its own copy
+ */
+class BitMasks {
+
+    /**
+     * @return the number of set bits below value, or -1 if value itself is not set
+     */
+    static int rank(long[] words, int value){
+        if(!contains(words, value))
+            return -1;
+        return countBelow(words, value);
+    }
+
+    /**
+     * @return the number of set bits below value, whether or not value itself is set
+     */
+    static int countBelow(long[] words, int value){
+        if(value <= 0)
+            return 0;
+        int word = Math.min(value >>> 6, words.length);
+        int count = 0;
+        for(int i=0;i<word;i++)
+            count += Long.bitCount(words[i]);
+        if(word < words.length)
+            count += Long.bitCount(words[word] & ((1L << value) - 1));
+        return count;
+    }
+
+    static boolean contains(long[] words, int value){
+        return value >= 0 && (value >>> 6) < words.length && (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    /**
+     * @return the set bits in ascending order, one numberOfTrailingZeros per element
+     */
+    static PrimitiveIterator.OfInt iterator(long[] words){
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            long word = words.length == 0 ? 0 : words[0];
+
+            @Override
+            public boolean hasNext() {
+                while(word == 0){
+                    if(index + 1 >= words.length)
+                        return false;
+                    word = words[++index];
+                }
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                int value = (index << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * @return the value of the index'th set bit, or -1 if fewer than index+1 bits are set
+     */
+    static int select(long[] words, int index){
+        if(index < 0)
+            return -1;
+        int remaining = index;
+        for(int i=0;i<words.length;i++){
+            int count = Long.bitCount(words[i]);
+            if(remaining < count){
+                long word = words[i];
+                for(int j=0;j<remaining;j++)
+                    word &= word - 1;
+                return (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+            remaining -= count;
+        }
+        return -1;
+    }
+
+    static int count(long[] words){
+        int count = 0;
+        for(long word : words)
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    static long[] and(long[] a, long[] b){
+        long[] words = new long[Math.min(a.length, b.length)];
+        for(int i=0;i<words.length;i++)
+            words[i] = a[i] & b[i];
+        return words;
+    }
+
+    static long[] or(long[] a, long[] b){
+        long[] words = Arrays.copyOf(a.length >= b.length ? a : b, Math.max(a.length, b.length));
+        long[] other = a.length >= b.length ? b : a;
+        for(int i=0;i<other.length;i++)
+            words[i] |= other[i];
+        return words;
+    }
+
+    static long[] xor(long[] a, long[] b){
+        long[] words = Arrays.copyOf(a.length >= b.length ? a : b, Math.max(a.length, b.length));
+        long[] other = a.length >= b.length ? b : a;
+        for(int i=0;i<other.length;i++)
+            words[i] ^= other[i];
+        return words;
+    }
+
+    static long[] andNot(long[] a, long[] b){
+        long[] words = a.clone();
+        for(int i=0;i<Math.min(a.length, b.length);i++)
+            words[i] &= ~b[i];
+        return words;
+    }
+
+    static int[] toArray(long[] words){
+        int[] values = new int[count(words)];
+        PrimitiveIterator.OfInt it = iterator(words);
+        for(int i=0;i<values.length;i++)
+            values[i] = it.nextInt();
+        return values;
+    }
+}
@@ -0,0 +1,93 @@
+package cyclops.collections.vavr;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+
+/*
+ * Lazy java.util views over a Vavr Map, answered by the Vavr map's own lookups
+ * rather than by copying it via toJavaMap on each call
+ */
+class MapViews {
+
+    static <K,V> Set<Map.Entry<K,V>> entrySet(io.vavr.collection.Map<K,V> map){
+        return new AbstractSet<Map.Entry<K,V>>(){
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                Iterator<Tuple2<K,V>> it = map.iterator();
+                return new Iterator<Map.Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        Tuple2<K,V> t = it.next();
+                        return new SimpleImmutableEntry<>(t._1(),t._2());
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry))
+                    return false;
+                Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+                Option<V> value = map.get((K)e.getKey());
+                return value.isDefined() && Objects.equals(value.get(),e.getValue());
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    static <K,V> Set<K> keySet(io.vavr.collection.Map<K,V> map){
+        return new AbstractSet<K>(){
+            @Override
+            public Iterator<K> iterator() {
+                return map.iterator().map(Tuple2::_1);
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return map.containsKey((K)o);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    static <K,V> Collection<V> values(io.vavr.collection.Map<K,V> map){
+        return new AbstractCollection<V>(){
+            @Override
+            public Iterator<V> iterator() {
+                return map.iterator().map(Tuple2::_2);
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return map.containsValue((V)o);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+}
@@ -16,10 +16,15 @@ import org.pcollections.POrderedSet;
 import io.vavr.collection.BitSet;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /*
  * BitSet is experimental / not ready for prime time
@@ -120,9 +125,17 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
      * @return Reducer for POrderedSet
      */
     public static  Reducer<POrderedSet<Integer>> toPOrderedSet() {
-        return Reducer.<POrderedSet<Integer>> of(VavrBitSetX.emptyPOrderedSet(),
+        return BuilderReducer.of(Reducer.<POrderedSet<Integer>> of(VavrBitSetX.emptyPOrderedSet(),
                                                  (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
-                                      (final Integer x) -> VavrBitSetX.singleton(x));
+                                      (final Integer x) -> VavrBitSetX.singleton(x)),
+                                 pOrderedSetCollector());
+    }
+
+    /**
+     * @return Collector that builds a Vavr BitSet with BitSet.collector()
+     */
+    public static Collector<Integer, ?, POrderedSet<Integer>> pOrderedSetCollector() {
+        return Collectors.collectingAndThen(BitSet.collector(), s -> new VavrBitSetX(s));
     }
     
   
@@ -176,6 +189,8 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
 
     @Wither
     private final BitSet set;
+    //bit mask words, built at most once per (immutable) instance for rank / select
+    private final AtomicReference<long[]> words = new AtomicReference<>();
 
     @Override
     public VavrBitSetX plus(Integer e) {
@@ -224,6 +239,111 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && (Integer)o >= 0 && set.contains(o);
+    }
+
+    /**
+     * Uses the bit mask words without boxing once rank / select / iteration has built them. Vavr keeps its own
+     * words package private, so until then this is a word lookup in the Vavr BitSet, which boxes value:
+     * building the words here would box every element instead.
+     *
+     * @param value to look up
+     * @return true if value is a member of this set
+     */
+    public boolean contains(int value) {
+        long[] built = words.get();
+        if (built != null)
+            return BitMasks.contains(built, value);
+        return value >= 0 && set.contains(value);
+    }
+
+    /**
+     * @param value to add (boxed by Vavr's BitSet#add)
+     * @return BitSet with value added
+     */
+    public VavrBitSetX plus(int value) {
+        return withSet(set.add(value));
+    }
+
+    /**
+     * @return the number of values in this set, counted with Long.bitCount over the bit mask
+     */
+    public int cardinality() {
+        return BitMasks.count(words());
+    }
+
+    /**
+     * @param value upper bound (exclusive)
+     * @return the number of values in this set below value, whether or not value itself is present
+     */
+    public int rank(int value) {
+        return BitMasks.countBelow(words(), value);
+    }
+
+    /**
+     * @return the values in this set in ascending order, unboxed
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return BitMasks.iterator(words());
+    }
+
+    /**
+     * @return an IntStream of the values in this set in ascending order
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(Spliterators.spliterator(intIterator(), cardinality(),
+                                                                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                                                                        | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                                       false);
+    }
+
+    /**
+     * @return the values present in both this set and other
+     */
+    public VavrBitSetX and(VavrBitSetX other) {
+        return fromWords(BitMasks.and(words(), other.words()));
+    }
+
+    /**
+     * @return the values present in either this set or other
+     */
+    public VavrBitSetX or(VavrBitSetX other) {
+        return fromWords(BitMasks.or(words(), other.words()));
+    }
+
+    /**
+     * @return the values present in exactly one of this set and other
+     */
+    public VavrBitSetX xor(VavrBitSetX other) {
+        return fromWords(BitMasks.xor(words(), other.words()));
+    }
+
+    /**
+     * @return the values in this set that are not present in other
+     */
+    public VavrBitSetX andNot(VavrBitSetX other) {
+        return fromWords(BitMasks.andNot(words(), other.words()));
+    }
+
+    /*
+     * Vavr keeps its bit mask constructors package private, so a set computed over the words is
+     * rebuilt from its values
+     */
+    private static VavrBitSetX fromWords(long[] words) {
+        return new VavrBitSetX(BitSet.ofAll(BitMasks.toArray(words)));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public io.vavr.collection.Iterator<Integer> iterator() {
         return set.iterator();
@@ -231,12 +351,37 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
 
     @Override
     public Integer get(int index) {
-        return (Integer) set.toVector().apply(index);
+        int value = BitMasks.select(words(), index);
+        if (value < 0)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + index + " is out of bounds - size : " + size());
+        return value;
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toVector().indexOf(o);
+        if (!(o instanceof Integer))
+            return -1;
+        return BitMasks.rank(words(), (Integer)o);
+    }
+
+    private long[] words() {
+        long[] built = words.get();
+        if (built == null) {
+            built = toWords();
+            words.compareAndSet(null, built);
+        }
+        return built;
+    }
+
+    private long[] toWords() {
+        if (set.isEmpty())
+            return new long[0];
+        BitSet<Integer> bits = set;
+        long[] words = new long[(bits.last() >>> 6) + 1];
+        for (int value : bits)
+            words[value >>> 6] |= 1L << value;
+        return words;
     }
 
 
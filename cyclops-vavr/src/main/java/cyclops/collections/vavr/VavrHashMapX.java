@@ -98,8 +98,7 @@ public class VavrHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Un
     }
     @Override
     public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return map.toJavaMap().entrySet();
-        
+        return MapViews.entrySet(map);
     }
     /* (non-Javadoc)
      * @see java.util.AbstractMap#get(java.lang.Object)
@@ -108,6 +107,36 @@ public class VavrHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Un
     public V get(Object key) {
        return (V)map.get((K)key);
     }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey((K)key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue((V)value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return MapViews.keySet(map);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return MapViews.values(map);
+    }
    
     
    
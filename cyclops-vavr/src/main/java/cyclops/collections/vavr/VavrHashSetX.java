@@ -5,6 +5,8 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -134,7 +136,15 @@ public class VavrHashSetX<T> extends AbstractSet<T> implements PSet<T>, Unwrapab
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(VavrHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> VavrHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(VavrHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> VavrHashSetX.singleton(x)),
+                                 pSetCollector());
+    }
+
+    /**
+     * @return Collector that builds a Vavr HashSet with HashSet.collector()
+     */
+    public static <T> Collector<T, ?, PSet<T>> pSetCollector() {
+        return Collectors.collectingAndThen(HashSet.<T>collector(), s -> new VavrHashSetX<>(s));
     }
 
     public static <T> LazyPSetX<T> PSet(Set<T> q) {
@@ -195,6 +205,20 @@ public class VavrHashSetX<T> extends AbstractSet<T> implements PSet<T>, Unwrapab
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T)o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
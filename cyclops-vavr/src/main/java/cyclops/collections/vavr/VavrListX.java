@@ -1,12 +1,18 @@
 package cyclops.collections.vavr;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -37,20 +43,17 @@ public class VavrListX<T> extends AbstractList<T> implements PStack<T>, Unwrapab
         return (R)list;
     }
 
-    static final FoldToList gen = (it,i)-> VavrListX.from(from(it,i));
+    static final FoldToList gen = (it,i)-> VavrListX.from(from(it));
 
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
-        List<T> list = from(vec.iterator(),0);
+        List<T> list = from(vec.iterator());
         return from(list);
 
     }
 
-    private static <E> List<E> from(final Iterator<E> i, int depth) {
+    private static <E> List<E> from(final Iterator<E> i) {
 
-        if(!i.hasNext())
-            return List.empty();
-        E e = i.next();
-        return  from(i,depth++).prepend(e);
+        return List.ofAll(() -> i);
     }
     /**
      * Create a LazyLinkedListX from a Stream
@@ -145,7 +148,26 @@ public class VavrListX<T> extends AbstractList<T> implements PStack<T>, Unwrapab
      * @return Reducer for PVector
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(VavrListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> VavrListX.singleton(x));
+        return BuilderReducer.of(Reducer.<PStack<T>> of(VavrListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> VavrListX.singleton(x)),
+                                 pStackCollector());
+    }
+
+    /**
+     * Collector with the same semantics as {@link #toPStack()}, each element is prepended in turn.
+     * Elements are buffered and the Vavr list built once they have all been collected.
+     *
+     * @return Collector for PStack
+     */
+    public static <T> Collector<T, ?, PStack<T>> pStackCollector() {
+        return Collector.<T, ArrayList<T>, PStack<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            List<T> list = List.empty();
+            for (T next : buffer)
+                list = list.prepend(next);
+            return new VavrListX<>(list);
+        });
     }
     
     public static <T> VavrListX<T> emptyPStack(){
@@ -239,6 +261,36 @@ public class VavrListX<T> extends AbstractList<T> implements PStack<T>, Unwrapab
         return list.get(index);
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return LinearLists.listIterator(this, index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinearLists.indexOf(this, o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinearLists.lastIndexOf(this, o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinearLists.equals(this, o);
+    }
+
     @Override
     public int size() {
         return list.size();
@@ -1,12 +1,14 @@
 package cyclops.collections.vavr;
 
 import java.util.AbstractQueue;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -138,7 +140,26 @@ public class VavrQueueX<T> extends AbstractQueue<T> implements PQueue<T>, Unwrap
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(VavrQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> VavrQueueX.singleton(x));
+        return BuilderReducer.of(Reducer.<PQueue<T>> of(VavrQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> VavrQueueX.singleton(x)),
+                                 pQueueCollector());
+    }
+
+    /**
+     * Collector with the same semantics as {@link #toPQueue()}, each element is prepended in turn.
+     * Elements are buffered and the Vavr queue built once they have all been collected.
+     *
+     * @return Collector for PQueue
+     */
+    public static <T> Collector<T, ?, PQueue<T>> pQueueCollector() {
+        return Collector.<T, ArrayList<T>, PQueue<T>>of(ArrayList::new, ArrayList::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }, buffer -> {
+            Queue<T> queue = Queue.empty();
+            for (T next : buffer)
+                queue = queue.prepend(next);
+            return new VavrQueueX<>(queue);
+        });
     }
     public static <T> VavrQueueX<T> emptyPQueue(){
         return new VavrQueueX<>(Queue.empty());
@@ -1,6 +1,7 @@
 package cyclops.collections.vavr;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -8,6 +9,8 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -15,6 +18,7 @@ import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPOrderedS
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.OrderedSetX;
+import cyclops.control.Eval;
 import cyclops.collections.immutable.VectorX;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
@@ -145,12 +149,22 @@ public class VavrTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>> Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> VavrTreeSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                           (final T x) -> VavrTreeSetX.singleton(x)),
+                                 Collectors.collectingAndThen(TreeSet.<T>collector(), s -> new VavrTreeSetX<>(s)));
     }
     public static <T> Reducer<POrderedSet<T>> toPOrderedSet(Comparator<? super T> comparator) {
-        return Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(comparator), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> VavrTreeSetX.singleton(comparator,x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(comparator), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                           (final T x) -> VavrTreeSetX.singleton(comparator,x)),
+                                 pOrderedSetCollector(comparator));
+    }
+
+    /**
+     * @param comparator Comparator for the TreeSet
+     * @return Collector that builds a Vavr TreeSet with TreeSet.collector(comparator)
+     */
+    public static <T> Collector<T, ?, POrderedSet<T>> pOrderedSetCollector(Comparator<? super T> comparator) {
+        return Collectors.collectingAndThen(TreeSet.<T>collector(comparator), s -> new VavrTreeSetX<>(s));
     }
     public static <T extends Comparable<? super T>> VavrTreeSetX<T> emptyPOrderedSet() {
         return new VavrTreeSetX<T>(TreeSet.empty());
@@ -197,6 +211,8 @@ public class VavrTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
 
     @Wither
     private final SortedSet<T> set;
+    //sorted snapshot for indexed access, built at most once per (immutable) instance
+    private final Eval<Object[]> ranked = Eval.later(this::sortedElements);
 
     @Override
     public POrderedSet<T> plus(T e) {
@@ -223,6 +239,20 @@ public class VavrTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
         return set.size();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T)o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        for (Object next : c) {
+            if (contains(next))
+                throw new UnsupportedOperationException();
+        }
+        return false;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
@@ -230,23 +260,21 @@ public class VavrTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
 
     @Override
     public T get(int index) {
-        if (index > set.size() || index < 0)
-            throw new IndexOutOfBoundsException();
-        T result = set.get();
-        for (int i = 0; i < index; i++) {
-            result = set.get();
-        }
-        return result;
+        Object[] elements = ranked.get();
+        if (index < 0 || index >= elements.length)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + index + " is out of bounds - size : " + elements.length);
+        return (T)elements[index];
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toStream()
-                  .zipWithIndex()
-                  .find(t -> t._1.equals(o))
-                  .map(t -> t._2)
-                  .getOrElse(-1)
-                  .intValue();
+        int index = Arrays.binarySearch(ranked.get(), o, (Comparator)set.comparator());
+        return index < 0 ? -1 : index;
+    }
+
+    private Object[] sortedElements() {
+        return set.toJavaArray();
     }
 
 }
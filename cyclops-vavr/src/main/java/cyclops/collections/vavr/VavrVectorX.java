@@ -6,6 +6,8 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
@@ -135,7 +137,18 @@ public class VavrVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(VavrVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> VavrVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(VavrVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> VavrVectorX.singleton(x)),
+                                 pVectorCollector());
+    }
+
+    /**
+     * Vector.collector() fills an ArrayList per chunk of a parallel Stream, joins partial results by array copy
+     * and builds the Vector trie once from the joined array
+     *
+     * @return Collector that builds a Vavr Vector with Vector.collector()
+     */
+    public static <T> Collector<T, ?, PVector<T>> pVectorCollector() {
+        return Collectors.collectingAndThen(Vector.<T>collector(), v -> new VavrVectorX<>(v));
     }
     public static <T> VavrVectorX<T> emptyPVector(){
         return new VavrVectorX<>(Vector.empty());
@@ -44,6 +44,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.aol.cyclops.vavr.hkt.ArrayKind.widen;
 
@@ -341,7 +343,12 @@ public class Arrays {
         return Nested.of(lk, Arrays.Instances.definitions(), defs);
     }
     /**
-     * Companion class for creating Type Class instances for working with Arrays*
+     * Companion class for creating Type Class instances for working with Arrays
+     *
+     * Functor map and MonadZero filter are deferred : the functions run when the resulting ArrayKind is first
+     * narrowed (or compared, hashed, printed or used as a collection). Exceptions and side effects from
+     * them surface at that point, once per ArrayKind.
+     *
      */
     @UtilityClass
     public static class Instances {
@@ -546,7 +553,9 @@ public class Arrays {
          */
         public static <T,R> MonadZero<array> monadZero(){
 
-            return General.monadZero(monad(), widen(Array.empty()));
+            BiFunction<Higher<array,T>,Predicate<? super T>,Higher<array,T>> filter = Instances::filter;
+            Supplier<Higher<array, T>> zero = ()-> widen(Array.empty());
+            return General.<array,T,R>monadZero(monad(), zero,filter);
         }
         /**
          * <pre>
@@ -603,22 +612,8 @@ public class Arrays {
          */
         public static <C2,T> Traverse<array> traverse(){
 
-            BiFunction<Applicative<C2>,ArrayKind<Higher<C2, T>>,Higher<C2, ArrayKind<T>>> sequenceFn = (ap, list) -> {
-
-                Higher<C2,ArrayKind<T>> identity = ap.unit(widen(Array.empty()));
-
-                BiFunction<Higher<C2,ArrayKind<T>>,Higher<C2,T>,Higher<C2,ArrayKind<T>>> combineToArray =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(ArrayKind.narrow(a).append(b))),
-                        acc,next);
-
-                BinaryOperator<Higher<C2,ArrayKind<T>>> combineArrays = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> widen(ArrayKind.narrow(l1).appendAll(l2.narrow()))),a,b); ;
-
-                return ReactiveSeq.fromIterable(ArrayKind.narrow(list))
-                        .reduce(identity,
-                                combineToArray,
-                                combineArrays);
-
-
-            };
+            BiFunction<Applicative<C2>,ArrayKind<Higher<C2, T>>,Higher<C2, ArrayKind<T>>> sequenceFn = (ap, list) ->
+                    Traversals.sequence(ap, ArrayKind.narrow(list), l -> widen(Array.ofAll(l)));
             BiFunction<Applicative<C2>,Higher<array,Higher<C2, T>>,Higher<C2, Higher<array,T>>> sequenceNarrow  =
                     (a,b) -> ArrayKind.widen2(sequenceFn.apply(a, ArrayKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -658,7 +653,10 @@ public class Arrays {
             return widen(ArrayKind.narrow(lt).flatMap(fn.andThen(ArrayKind::narrow)));
         }
         private static <T,R> ArrayKind<R> map(ArrayKind<T> lt, Function<? super T, ? extends R> fn){
-            return widen(ArrayKind.narrow(lt).map(in->fn.apply(in)));
+            return lt.fusedMap(fn);
+        }
+        private static <T> ArrayKind<T> filter(Higher<array,T> lt, Predicate<? super T> fn){
+            return ArrayKind.narrowK(lt).fusedFilter(fn);
         }
     }
 
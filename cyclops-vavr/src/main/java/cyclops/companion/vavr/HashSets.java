@@ -599,20 +599,8 @@ public class HashSets {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<hashSet> traverse(){
-            BiFunction<Applicative<C2>,HashSetKind<Higher<C2, T>>,Higher<C2, HashSetKind<T>>> sequenceFn = (ap, set) -> {
-
-                Higher<C2,HashSetKind<T>> identity = ap.unit(widen(HashSet.empty()));
-
-                BiFunction<Higher<C2,HashSetKind<T>>,Higher<C2,T>,Higher<C2,HashSetKind<T>>> combineToSet =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> concat(a, HashSetKind.just(b))),acc,next);
-
-                BinaryOperator<Higher<C2,HashSetKind<T>>> combineSets = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return concat(l1,l2);}),a,b); ;
-
-                return ReactiveSeq.fromIterable(set).reduce(identity,
-                        combineToSet,
-                        combineSets);
-
-
-            };
+            BiFunction<Applicative<C2>,HashSetKind<Higher<C2, T>>,Higher<C2, HashSetKind<T>>> sequenceFn = (ap, set) ->
+                    Traversals.sequence(ap, set, l -> widen(HashSet.ofAll(l)));
             BiFunction<Applicative<C2>,Higher<hashSet,Higher<C2, T>>,Higher<C2, Higher<hashSet,T>>> sequenceNarrow  =
                     (a,b) -> HashSetKind.widen2(sequenceFn.apply(a, HashSetKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
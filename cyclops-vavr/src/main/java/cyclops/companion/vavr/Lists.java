@@ -340,6 +340,10 @@ public class Lists {
     /**
      * Companion class for creating Type Class instances for working with Lists
      *
+     * Functor map and MonadZero filter are deferred : the functions run when the resulting ListKind is first
+     * narrowed (or compared, hashed, printed or used as a collection). Exceptions and side effects from
+     * them surface at that point, once per ListKind.
+     *
      */
     @UtilityClass
     public static class Instances {
@@ -592,20 +596,8 @@ public class Lists {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<list> traverse(){
-            BiFunction<Applicative<C2>,ListKind<Higher<C2, T>>,Higher<C2, ListKind<T>>> sequenceFn = (ap, list) -> {
-
-                Higher<C2,ListKind<T>> identity = ap.unit(widen(List.empty()));
-
-                BiFunction<Higher<C2,ListKind<T>>,Higher<C2,T>,Higher<C2,ListKind<T>>> combineToList =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> concat(a, ListKind.just(b))),acc,next);
-
-                BinaryOperator<Higher<C2,ListKind<T>>> combineLists = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return concat(l1,l2);}),a,b); ;
-
-                return ReactiveSeq.fromIterable(list).reduce(identity,
-                        combineToList,
-                        combineLists);
-
-
-            };
+            BiFunction<Applicative<C2>,ListKind<Higher<C2, T>>,Higher<C2, ListKind<T>>> sequenceFn = (ap, list) ->
+                    Traversals.sequence(ap, list, l -> widen(List.ofAll(l)));
             BiFunction<Applicative<C2>,Higher<list,Higher<C2, T>>,Higher<C2, Higher<list,T>>> sequenceNarrow  =
                     (a,b) -> ListKind.widen2(sequenceFn.apply(a, ListKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -645,10 +637,10 @@ public class Lists {
             return widen(ListKind.narrowK(lt).flatMap(fn.andThen(ListKind::narrowK)));
         }
         private static <T,R> ListKind<R> map(ListKind<T> lt, Function<? super T, ? extends R> fn){
-            return widen(lt.map(fn));
+            return lt.fusedMap(fn);
         }
         private static <T> ListKind<T> filter(Higher<list,T> lt, Predicate<? super T> fn){
-            return widen(ListKind.narrow(lt).filter(fn));
+            return ListKind.narrowK(lt).fusedFilter(fn);
         }
         public static Unfoldable<list> unfoldable(){
             return new Unfoldable<list>() {
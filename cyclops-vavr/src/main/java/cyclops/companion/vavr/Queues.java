@@ -46,6 +46,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.aol.cyclops.vavr.hkt.QueueKind.widen;
 
@@ -348,6 +350,10 @@ public class Queues {
     /**
      * Companion class for creating Type Class instances for working with Queues
      *
+     * Functor map and MonadZero filter are deferred : the functions run when the resulting QueueKind is first
+     * narrowed (or compared, hashed, printed or used as a collection). Exceptions and side effects from
+     * them surface at that point, once per QueueKind.
+     *
      */
     @UtilityClass
     public static class Instances {
@@ -552,7 +558,9 @@ public class Queues {
          */
         public static <T,R> MonadZero<queue> monadZero(){
 
-            return General.monadZero(monad(), widen(Queue.empty()));
+            BiFunction<Higher<queue,T>,Predicate<? super T>,Higher<queue,T>> filter = Instances::filter;
+            Supplier<Higher<queue, T>> zero = ()-> widen(Queue.empty());
+            return General.<queue,T,R>monadZero(monad(), zero,filter);
         }
         /**
          * <pre>
@@ -601,22 +609,8 @@ public class Queues {
          */
         public static <C2,T> Traverse<queue> traverse(){
 
-            BiFunction<Applicative<C2>,QueueKind<Higher<C2, T>>,Higher<C2, QueueKind<T>>> sequenceFn = (ap, list) -> {
-
-                Higher<C2,QueueKind<T>> identity = ap.unit(widen(Queue.empty()));
-
-                BiFunction<Higher<C2,QueueKind<T>>,Higher<C2,T>,Higher<C2,QueueKind<T>>> combineToQueue =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(QueueKind.narrow(a).append(b))),
-                        acc,next);
-
-                BinaryOperator<Higher<C2,QueueKind<T>>> combineQueues = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> widen(QueueKind.narrow(l1).appendAll(l2.narrow()))),a,b); ;
-
-                return ReactiveSeq.fromIterable(QueueKind.narrow(list))
-                        .reduce(identity,
-                                combineToQueue,
-                                combineQueues);
-
-
-            };
+            BiFunction<Applicative<C2>,QueueKind<Higher<C2, T>>,Higher<C2, QueueKind<T>>> sequenceFn = (ap, list) ->
+                    Traversals.sequence(ap, QueueKind.narrow(list), l -> widen(Queue.ofAll(l)));
             BiFunction<Applicative<C2>,Higher<queue,Higher<C2, T>>,Higher<C2, Higher<queue,T>>> sequenceNarrow  =
                     (a,b) -> QueueKind.widen2(sequenceFn.apply(a, QueueKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -656,7 +650,10 @@ public class Queues {
             return widen(QueueKind.narrow(lt).flatMap(fn.andThen(QueueKind::narrow)));
         }
         private static <T,R> QueueKind<R> map(QueueKind<T> lt, Function<? super T, ? extends R> fn){
-            return widen(QueueKind.narrow(lt).map(in->fn.apply(in)));
+            return lt.fusedMap(fn);
+        }
+        private static <T> QueueKind<T> filter(Higher<queue,T> lt, Predicate<? super T> fn){
+            return QueueKind.narrowK(lt).fusedFilter(fn);
         }
         public static Unfoldable<queue> unfoldable(){
             return new Unfoldable<queue>() {
@@ -602,22 +602,8 @@ public class Streams {
          */
         public static <C2,T> Traverse<stream> traverse(){
 
-            BiFunction<Applicative<C2>,StreamKind<Higher<C2, T>>,Higher<C2, StreamKind<T>>> sequenceFn = (ap, list) -> {
-
-                Higher<C2,StreamKind<T>> identity = ap.unit(widen(Stream.empty()));
-
-                BiFunction<Higher<C2,StreamKind<T>>,Higher<C2,T>,Higher<C2,StreamKind<T>>> combineToStream =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(StreamKind.narrow(a).append(b))),
-                        acc,next);
-
-                BinaryOperator<Higher<C2,StreamKind<T>>> combineStreams = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> widen(StreamKind.narrow(l1).appendAll(l2))),a,b); ;
-
-                return ReactiveSeq.fromIterable(StreamKind.narrow(list))
-                        .reduce(identity,
-                                combineToStream,
-                                combineStreams);
-
-
-            };
+            BiFunction<Applicative<C2>,StreamKind<Higher<C2, T>>,Higher<C2, StreamKind<T>>> sequenceFn = (ap, list) ->
+                    Traversals.sequence(ap, StreamKind.narrow(list), l -> widen(Stream.ofAll(l)));
             BiFunction<Applicative<C2>,Higher<stream,Higher<C2, T>>,Higher<C2, Higher<stream,T>>> sequenceNarrow  =
                     (a,b) -> StreamKind.widen2(sequenceFn.apply(a, StreamKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -324,6 +324,10 @@ public class Vectors {
     /**
      * Companion class for creating Type Class instances for working with Vectors
      *
+     * Functor map and MonadZero filter are deferred : the functions run when the resulting VectorKind is first
+     * narrowed (or compared, hashed, printed or used as a collection). Exceptions and side effects from
+     * them surface at that point, once per VectorKind.
+     *
      */
     @UtilityClass
     public static class Instances {
@@ -528,7 +532,9 @@ public class Vectors {
          */
         public static <T,R> MonadZero<vector> monadZero(){
 
-            return General.monadZero(monad(), VectorKind.widen(Vector.empty()));
+            BiFunction<Higher<vector,T>,Predicate<? super T>,Higher<vector,T>> filter = Instances::filter;
+            Supplier<Higher<vector, T>> zero = ()-> VectorKind.widen(Vector.empty());
+            return General.<vector,T,R>monadZero(monad(), zero,filter);
         }
         /**
          * <pre>
@@ -577,22 +583,8 @@ public class Vectors {
          */
         public static <C2,T> Traverse<vector> traverse(){
 
-            BiFunction<Applicative<C2>,VectorKind<Higher<C2, T>>,Higher<C2, VectorKind<T>>> sequenceFn = (ap, list) -> {
-
-                Higher<C2,VectorKind<T>> identity = ap.unit(VectorKind.widen(Vector.empty()));
-
-                BiFunction<Higher<C2,VectorKind<T>>,Higher<C2,T>,Higher<C2,VectorKind<T>>> combineToVector =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> VectorKind.widen(VectorKind.narrow(a).append(b))),
-                        acc,next);
-
-                BinaryOperator<Higher<C2,VectorKind<T>>> combineVectors = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> VectorKind.widen(VectorKind.narrow(l1).appendAll(l2.narrow()))),a,b); ;
-
-                return ReactiveSeq.fromIterable(VectorKind.narrow(list))
-                        .reduce(identity,
-                                combineToVector,
-                                combineVectors);
-
-
-            };
+            BiFunction<Applicative<C2>,VectorKind<Higher<C2, T>>,Higher<C2, VectorKind<T>>> sequenceFn = (ap, list) ->
+                    Traversals.sequence(ap, VectorKind.narrow(list), l -> VectorKind.widen(Vector.ofAll(l)));
             BiFunction<Applicative<C2>,Higher<vector,Higher<C2, T>>,Higher<C2, Higher<vector,T>>> sequenceNarrow  =
                     (a,b) -> VectorKind.widen2(sequenceFn.apply(a, VectorKind.narrowK(b)));
             return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -632,7 +624,10 @@ public class Vectors {
             return VectorKind.widen(VectorKind.narrow(lt).flatMap(fn.andThen(VectorKind::narrow)));
         }
         private static <T,R> VectorKind<R> map(VectorKind<T> lt, Function<? super T, ? extends R> fn){
-            return VectorKind.widen(VectorKind.narrow(lt).map(in->fn.apply(in)));
+            return lt.fusedMap(fn);
+        }
+        private static <T> VectorKind<T> filter(Higher<vector,T> lt, Predicate<? super T> fn){
+            return VectorKind.narrowK(lt).fusedFilter(fn);
         }
         public static Unfoldable<vector> unfoldable(){
             return new Unfoldable<vector>() {
@@ -1,10 +1,18 @@
 package com.aol.cyclops.vavr.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import cyclops.collections.vavr.VavrBitSetX;
 import cyclops.collections.vavr.VavrTreeSetX;
 import org.junit.Before;
 import org.junit.Test;
@@ -50,6 +58,93 @@ public class POrderedSetTest {
         
         
     }
-    
-   
+    @Test
+    public void getIndexOf(){
+        POrderedSet<Integer> set = test.plusAll(Arrays.asList(50,10,40,20,30));
+        assertThat(set.get(0),equalTo(10));
+        assertThat(set.get(4),equalTo(50));
+        assertThat(set.indexOf(10),equalTo(0));
+        assertThat(set.indexOf(40),equalTo(3));
+        assertThat(set.indexOf(35),equalTo(-1));
+    }
+    @Test
+    public void getIndexOfLarge(){
+        POrderedSet<Integer> set = test;
+        for(int i=0;i<100_000;i++)
+            set = set.plus(i*2);
+        for(int i=0;i<100_000;i+=997){
+            assertThat(set.get(i),equalTo(i*2));
+            assertThat(set.indexOf(i*2),equalTo(i));
+            assertThat(set.indexOf(i*2+1),equalTo(-1));
+        }
+    }
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getOutOfBounds(){
+        test.plusAll(Arrays.asList(1,2,3)).get(3);
+    }
+    @Test
+    public void bitSetGetIndexOf(){
+        POrderedSet<Integer> set = VavrBitSetX.emptyPOrderedSet().plusAll(Arrays.asList(1000,5,64,1,63));
+        assertThat(set.get(0),equalTo(1));
+        assertThat(set.get(2),equalTo(63));
+        assertThat(set.get(3),equalTo(64));
+        assertThat(set.get(4),equalTo(1000));
+        assertThat(set.indexOf(64),equalTo(3));
+        assertThat(set.indexOf(1000),equalTo(4));
+        assertThat(set.indexOf(6),equalTo(-1));
+        assertThat(set.indexOf(-1),equalTo(-1));
+        assertThat(set.indexOf(100_000),equalTo(-1));
+    }
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void bitSetGetOutOfBounds(){
+        VavrBitSetX.emptyPOrderedSet().plusAll(Arrays.asList(1,2,3)).get(3);
+    }
+    @Test
+    public void pOrderedSetCollector(){
+        POrderedSet<Integer> set = IntStream.range(0, 10_000).map(i -> 9_999 - i).boxed().parallel()
+                                            .collect(VavrTreeSetX.pOrderedSetCollector(Comparator.<Integer>naturalOrder()));
+        assertThat(new ArrayList<>(set),equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+    }
+    @Test
+    public void bitSetCollector(){
+        POrderedSet<Integer> set = IntStream.range(0, 10_000).map(i -> 9_999 - i).boxed().parallel()
+                                            .collect(VavrBitSetX.pOrderedSetCollector());
+        assertThat(new ArrayList<>(set),equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+    }
+    @Test
+    public void intSet(){
+        VavrBitSetX set = VavrBitSetX.emptyPOrderedSet().plusAll(Arrays.asList(1000,5,64,1,63)).plus(0);
+        assertTrue(set.contains(64));
+        assertFalse(set.contains(65));
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains(100_000));
+        assertTrue(set.plus(65).contains(65));
+        assertThat(set.cardinality(),equalTo(6));
+        assertThat(set.rank(0),equalTo(0));
+        assertThat(set.rank(64),equalTo(4));
+        assertThat(set.rank(65),equalTo(5));
+        assertThat(set.rank(100_000),equalTo(6));
+        assertThat(set.intStream().boxed().collect(Collectors.toList()),equalTo(Arrays.asList(0,1,5,63,64,1000)));
+        PrimitiveIterator.OfInt it = set.intIterator();
+        assertThat(it.nextInt(),equalTo(0));
+        assertThat(VavrBitSetX.emptyPOrderedSet().intStream().count(),equalTo(0L));
+        //the words are built by now, so contains(int) reads them
+        assertTrue(set.contains(64));
+        assertTrue(set.contains(1000));
+        assertFalse(set.contains(65));
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains(100_000));
+    }
+    @Test
+    public void intSetBulk(){
+        VavrBitSetX a = VavrBitSetX.emptyPOrderedSet().plusAll(Arrays.asList(1,64,200,1000));
+        VavrBitSetX b = VavrBitSetX.emptyPOrderedSet().plusAll(Arrays.asList(1,65,200));
+        assertThat(new ArrayList<>(a.and(b)),equalTo(Arrays.asList(1,200)));
+        assertThat(new ArrayList<>(a.or(b)),equalTo(Arrays.asList(1,64,65,200,1000)));
+        assertThat(new ArrayList<>(a.xor(b)),equalTo(Arrays.asList(64,65,1000)));
+        assertThat(new ArrayList<>(b.xor(a)),equalTo(Arrays.asList(64,65,1000)));
+        assertThat(new ArrayList<>(a.andNot(b)),equalTo(Arrays.asList(64,1000)));
+        assertThat(new ArrayList<>(b.andNot(a)),equalTo(Arrays.asList(65)));
+        assertThat(a.and(VavrBitSetX.emptyPOrderedSet()).cardinality(),equalTo(0));
+    }
 }
@@ -4,6 +4,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
 
 import cyclops.collections.vavr.VavrQueueX;
 import org.junit.Before;
@@ -54,6 +56,11 @@ public class PQueueTest {
         
         
     }
-    
-   
+    @Test
+    public void pQueueCollector(){
+        PQueue<Integer> queue = IntStream.range(0, 10_000).boxed().parallel()
+                                         .collect(VavrQueueX.pQueueCollector());
+        assertThat(new ArrayList<>(queue),equalTo(new ArrayList<>(VavrQueueX.<Integer>toPQueue().mapReduce(IntStream.range(0, 10_000).boxed()))));
+        assertThat(queue.peek(),equalTo(9_999));
+    }
 }
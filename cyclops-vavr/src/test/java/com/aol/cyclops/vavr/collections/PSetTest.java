@@ -4,6 +4,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import cyclops.collections.vavr.VavrHashSetX;
 import org.junit.Before;
@@ -50,6 +52,10 @@ public class PSetTest {
         
         
     }
-    
-   
+    @Test
+    public void pSetCollector(){
+        PSet<Integer> set = IntStream.range(0, 10_000).boxed().parallel()
+                                     .collect(VavrHashSetX.pSetCollector());
+        assertThat(set,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toSet())));
+    }
 }
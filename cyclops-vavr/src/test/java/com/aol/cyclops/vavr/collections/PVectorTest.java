@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import cyclops.collections.vavr.VavrVectorX;
 import org.junit.Before;
@@ -64,4 +67,11 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void pVectorCollector(){
+        PVector<Integer> vec = IntStream.range(0, 10_000).boxed().parallel()
+                                        .collect(VavrVectorX.pVectorCollector());
+        assertThat(vec,equalTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+        assertThat(VavrVectorX.<Integer>toPVector().mapReduce(Stream.of(1,2,3)),equalTo(Arrays.asList(1,2,3)));
+    }
 }
@@ -0,0 +1,26 @@
+package com.aol.cyclops.vavr.collections;
+
+import cyclops.collections.AbstractSetLookupTest;
+import cyclops.collections.vavr.VavrBitSetX;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrTreeSetX;
+
+import java.util.List;
+import java.util.Set;
+
+public class SetLookupTest extends AbstractSetLookupTest {
+    @Override
+    public Set<Key> hashSet(List<Key> keys) {
+        return VavrHashSetX.<Key>empty().plusAll(keys);
+    }
+
+    @Override
+    public Set<Key> sortedSet(List<Key> keys) {
+        return VavrTreeSetX.<Key>empty().plusAll(keys);
+    }
+
+    @Override
+    public Set<Integer> bitSet(List<Integer> values) {
+        return VavrBitSetX.empty().plusAll(values);
+    }
+}
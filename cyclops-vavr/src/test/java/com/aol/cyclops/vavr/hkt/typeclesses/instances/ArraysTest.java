@@ -4,6 +4,8 @@ package com.aol.cyclops.vavr.hkt.typeclesses.instances;
 import cyclops.companion.vavr.Arrays;
 import com.aol.cyclops.vavr.hkt.ArrayKind;
 import com.aol.cyclops2.hkt.Higher;
+import cyclops.companion.Optionals;
+import cyclops.companion.Optionals.OptionalKind;
 import cyclops.control.Maybe;
 import cyclops.function.Fn1;
 import cyclops.function.Lambda;
@@ -18,6 +20,8 @@ import static cyclops.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.Optional;
+
 public class ArraysTest {
 
     @Test
@@ -136,5 +140,13 @@ public class ArraysTest {
             
        assertThat(res,equalTo(Maybe.just(Array.of(2,4,6))));
     }
-    
+    @Test
+    public void traverseLarge(){
+        Array<Integer> large = Array.range(0,50_000);
+        Optional<Higher<array, Integer>> res = Arrays.Instances.traverse()
+                                                        .traverseA(Optionals.Instances.applicative(), (Integer a)->OptionalKind.of(a*2), widen(large))
+                                                        .convert(OptionalKind::narrowK);
+
+        assertThat(res,equalTo(Optional.of(large.map(a->a*2))));
+    }
 }
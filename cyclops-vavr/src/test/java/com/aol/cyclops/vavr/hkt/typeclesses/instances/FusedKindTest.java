@@ -0,0 +1,78 @@
+package com.aol.cyclops.vavr.hkt.typeclesses.instances;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import com.aol.cyclops.vavr.hkt.ArrayKind;
+import com.aol.cyclops.vavr.hkt.ListKind;
+import com.aol.cyclops.vavr.hkt.QueueKind;
+import com.aol.cyclops.vavr.hkt.VectorKind;
+import com.aol.cyclops2.hkt.Higher;
+import cyclops.collections.mutable.ListX;
+import cyclops.companion.vavr.Arrays;
+import cyclops.companion.vavr.Lists;
+import cyclops.companion.vavr.Queues;
+import cyclops.companion.vavr.Vectors;
+import cyclops.typeclasses.functor.Functor;
+import cyclops.typeclasses.monad.MonadZero;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Vector;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Functor map and MonadZero filter on the strict Vavr kinds are deferred until the Kind is narrowed
+ */
+public class FusedKindTest {
+
+    @Test
+    public void vector(){
+        check(Vectors.Instances.functor(), Vectors.Instances.monadZero(), VectorKind.widen(Vector.range(0,10)), VectorKind::narrow);
+    }
+
+    @Test
+    public void array(){
+        check(Arrays.Instances.functor(), Arrays.Instances.monadZero(), ArrayKind.widen(Array.range(0,10)), ArrayKind::narrow);
+    }
+
+    @Test
+    public void queue(){
+        check(Queues.Instances.functor(), Queues.Instances.monadZero(), QueueKind.widen(Queue.range(0,10)), QueueKind::narrow);
+    }
+
+    @Test
+    public void list(){
+        check(Lists.Instances.functor(), Lists.Instances.monadZero(), ListKind.widen(List.range(0,10)), ListKind::narrow);
+    }
+
+    private <W> void check(Functor<W> functor, MonadZero<W> monadZero, Higher<W,Integer> source,
+                           Function<Higher<W,Integer>, ? extends Iterable<Integer>> narrow){
+        AtomicInteger calls = new AtomicInteger(0);
+        Higher<W,Integer> kind = source;
+        for(int i=0;i<5;i++)
+            kind = functor.map((Integer x)->{calls.incrementAndGet(); return x+1;}, kind);
+        kind = monadZero.filter((Integer x)->x%2==0, kind);
+        kind = functor.map((Integer x)->x*10, kind);
+
+        assertThat(calls.get(),equalTo(0));
+        assertThat(ListX.fromIterable(narrow.apply(kind)),equalTo(ListX.of(60,80,100,120,140)));
+        assertThat(ListX.fromIterable(narrow.apply(kind)),equalTo(ListX.of(60,80,100,120,140)));
+        assertThat(calls.get(),equalTo(50));
+
+        Higher<W,Integer> deep = source;
+        for(int i=0;i<50_000;i++)
+            deep = functor.map((Integer x)->x+1, deep);
+        deep = monadZero.filter((Integer x)->x%2==0, deep);
+        assertThat(ListX.fromIterable(narrow.apply(deep)),equalTo(ListX.of(50_000,50_002,50_004,50_006,50_008)));
+
+        AtomicInteger concurrentCalls = new AtomicInteger(0);
+        Higher<W,Integer> shared = functor.map((Integer x)->{concurrentCalls.incrementAndGet(); return x;}, source);
+        IntStream.range(0,64).parallel().forEach(i->narrow.apply(shared));
+        assertThat(concurrentCalls.get(),equalTo(10));
+    }
+}